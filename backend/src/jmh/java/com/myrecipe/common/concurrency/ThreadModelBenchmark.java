@@ -0,0 +1,80 @@
+package com.myrecipe.common.concurrency;
+
+import org.openjdk.jmh.annotations.*;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랫폼 스레드 풀(톰캣 기본 200) vs 가상 스레드 요청 처리 비교
+ * 요청 하나는 외부 호출 대기(ioMillis) 후 커넥션 10개 제한 아래에서 DB 작업(dbMillis)을 한다.
+ * 한 번의 측정 = requests 개의 동시 요청을 모두 처리하는 데 걸린 시간
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 3)
+public class ThreadModelBenchmark {
+    @Param({"platform", "virtual"})
+    String threadModel;
+
+    @Param("1000")
+    int requests;
+
+    @Param("50")
+    int ioMillis;
+
+    @Param("1")
+    int dbMillis;
+
+    private ExecutorService executor;
+    private ConnectionLimitingDataSource dataSource;
+
+    @Setup
+    public void setup(){
+        executor = "virtual".equals(threadModel)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(200);
+        dataSource = new ConnectionLimitingDataSource(stubDataSource(), 10, Duration.ofSeconds(30));
+    }
+
+    @TearDown
+    public void tearDown(){
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int handleRequests() throws Exception {
+        List<Future<?>> futures = new ArrayList<>(requests);
+        for(int i = 0; i < requests; i++){
+            futures.add(executor.submit(() -> {
+                Thread.sleep(ioMillis);
+                try(Connection connection = dataSource.getConnection()){
+                    Thread.sleep(dbMillis);
+                }
+                return null;
+            }));
+        }
+        for(Future<?> future : futures){
+            future.get();
+        }
+        return futures.size();
+    }
+
+    private static DataSource stubDataSource(){
+        Connection connection = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> null);
+        return (DataSource) Proxy.newProxyInstance(
+                DataSource.class.getClassLoader(), new Class<?>[]{DataSource.class},
+                (proxy, method, args) -> "getConnection".equals(method.getName()) ? connection : null);
+    }
+}
@@ -0,0 +1,79 @@
+package com.myrecipe.common.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myrecipe.common.dto.ErrorResponse;
+import com.myrecipe.common.exception.client.UnauthorizedException;
+import com.myrecipe.common.trace.TraceIdFilter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 401 에러 응답 하나를 만드는 비용 (예외 생성/throw + 추적 id + 본문 직렬화, 로그 I/O 제외)
+ * - legacy: 스택 트레이스가 있는 예외 + UUID 추적 id + ErrorResponse 를 ObjectMapper 로 직렬화
+ * - current: 스택 트레이스 없는 ClientException + 난수 추적 id + 캐시된 본문 조각 이어 붙이기
+ * 예외는 stackDepth 프레임 아래에서 던진다 (MVC + 보안 필터 체인을 지나면 실제 스택은 100 프레임 안팎)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorResponseBenchmark {
+    private static final String PATH = "/api/refrigerator/item";
+    private static final String MESSAGE = "유효하지 않은 토큰입니다.";
+
+    @Param({"0", "100"})
+    private int stackDepth;
+
+    private ObjectMapper objectMapper;
+    private ErrorResponseWriter writer;
+
+    @Setup
+    public void setup(){
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = new ErrorResponseWriter(objectMapper);
+    }
+
+    @Benchmark
+    public byte[] legacy() throws Exception {
+        try {
+            throwAt(stackDepth, true);
+            return null;
+        } catch (LegacyUnauthorizedException ex) {
+            String traceId = UUID.randomUUID().toString().replace("-", "").substring(0, 6);
+            return objectMapper.writeValueAsBytes(ErrorResponse.of(HttpStatus.UNAUTHORIZED, ex.errorCode, ex.getMessage(), PATH, traceId));
+        }
+    }
+
+    @Benchmark
+    public byte[] current(){
+        try {
+            throwAt(stackDepth, false);
+            return null;
+        } catch (UnauthorizedException ex) {
+            return writer.toBytes(HttpStatus.UNAUTHORIZED, ex.getErrorCode(), ex.getMessage(), PATH, TraceIdFilter.generate(), true);
+        }
+    }
+
+    private static void throwAt(int depth, boolean legacy){
+        if(depth > 0){
+            throwAt(depth - 1, legacy);
+            return;
+        }
+        if(legacy){
+            throw new LegacyUnauthorizedException(MESSAGE);
+        }
+        throw new UnauthorizedException(MESSAGE);
+    }
+
+    // 변경 전 UnauthorizedException (RuntimeException 기본 생성자라 스택 트레이스를 채운다)
+    private static final class LegacyUnauthorizedException extends RuntimeException {
+        private final String errorCode = "ERR_COMMON_UNAUTHORIZED";
+
+        LegacyUnauthorizedException(String message){
+            super(message);
+        }
+    }
+}
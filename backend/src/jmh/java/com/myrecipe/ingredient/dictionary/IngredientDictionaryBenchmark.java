@@ -0,0 +1,68 @@
+package com.myrecipe.ingredient.dictionary;
+
+import com.myrecipe.ingredient.domain.Ingredient;
+import com.myrecipe.ingredient.dto.IngredientSuggestion;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재료 사전 자동완성 지연 시간 (한글 재료명 수만 건)
+ * - prefix: 1~2글자 완성형 접두어
+ * - choseong: 초성 2글자
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IngredientDictionaryBenchmark {
+    @Param("30000")
+    int ingredientCount;
+
+    private IngredientDictionary dictionary;
+    private String[] prefixes;
+    private String[] choseongs;
+    private int cursor;
+
+    @Setup
+    public void setup(){
+        SplittableRandom random = new SplittableRandom(7);
+        Set<String> names = new HashSet<>();
+        while(names.size() < ingredientCount){
+            StringBuilder sb = new StringBuilder();
+            int length = 2 + random.nextInt(4);
+            for(int i = 0; i < length; i++){
+                // 자주 쓰이는 음절 대역에 몰리도록 앞쪽 1,000 음절 중에서 선택
+                sb.append((char) ('가' + random.nextInt(1000)));
+            }
+            names.add(sb.toString());
+        }
+
+        List<Ingredient> ingredients = new ArrayList<>();
+        long id = 1;
+        for(String name : names){
+            ingredients.add(Ingredient.builder().id(id++).name(name).category("기타").aliases(Set.of()).build());
+        }
+        dictionary = new IngredientDictionary();
+        dictionary.rebuild(ingredients);
+
+        List<String> sample = new ArrayList<>(names);
+        prefixes = new String[256];
+        choseongs = new String[256];
+        for(int i = 0; i < prefixes.length; i++){
+            String name = sample.get(random.nextInt(sample.size()));
+            prefixes[i] = name.substring(0, 1 + random.nextInt(2));
+            choseongs[i] = IngredientNormalizer.choseong(name.substring(0, 2));
+        }
+    }
+
+    @Benchmark
+    public List<IngredientSuggestion> prefix(){
+        return dictionary.autocomplete(prefixes[cursor++ & 255], 10);
+    }
+
+    @Benchmark
+    public List<IngredientSuggestion> choseong(){
+        return dictionary.autocomplete(choseongs[cursor++ & 255], 10);
+    }
+}
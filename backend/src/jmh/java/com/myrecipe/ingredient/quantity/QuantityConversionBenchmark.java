@@ -0,0 +1,81 @@
+package com.myrecipe.ingredient.quantity;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레시피 필요량을 냉장고 재고에서 빼는 계산 (재고/필요량 4096쌍, 무게/부피 단위가 섞여 있음)
+ * - primitive: long 마이크로 값 + Dimension 으로 계산 (Quantities)
+ * - decimal: 단위 문자열을 매번 해석하고 BigDecimal 로 계산하는 방식 (비교 기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QuantityConversionBenchmark {
+    private static final int SIZE = 4096;
+    private static final String[] UNITS = {"g", "kg", "ml", "L", "큰술", "작은술", "컵"};
+
+    private final long[] stockMicros = new long[SIZE];
+    private final Dimension[] stockDimensions = new Dimension[SIZE];
+    private final long[] needMicros = new long[SIZE];
+    private final Dimension[] needDimensions = new Dimension[SIZE];
+    private final long[] densities = new long[SIZE];
+
+    private final BigDecimal[] stockAmounts = new BigDecimal[SIZE];
+    private final String[] stockUnits = new String[SIZE];
+    private final BigDecimal[] needAmounts = new BigDecimal[SIZE];
+    private final String[] needUnits = new String[SIZE];
+
+    @Setup
+    public void setup(){
+        SplittableRandom random = new SplittableRandom(42);
+        for(int i = 0; i < SIZE; i++){
+            stockAmounts[i] = BigDecimal.valueOf(1 + random.nextInt(1000));
+            stockUnits[i] = UNITS[random.nextInt(UNITS.length)];
+            needAmounts[i] = BigDecimal.valueOf(1 + random.nextInt(20));
+            needUnits[i] = UNITS[random.nextInt(UNITS.length)];
+            densities[i] = 500_000L + random.nextInt(1_000_000);
+
+            QuantityUnit stockUnit = QuantityUnit.resolve(stockUnits[i]);
+            QuantityUnit needUnit = QuantityUnit.resolve(needUnits[i]);
+            stockMicros[i] = Quantities.toMicros(stockAmounts[i], stockUnit);
+            stockDimensions[i] = stockUnit.dimension();
+            needMicros[i] = Quantities.toMicros(needAmounts[i], needUnit);
+            needDimensions[i] = needUnit.dimension();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long primitive(){
+        long total = 0;
+        for(int i = 0; i < SIZE; i++){
+            total += Quantities.subtract(stockMicros[i], stockDimensions[i], needMicros[i], needDimensions[i], densities[i]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public BigDecimal decimal(){
+        BigDecimal total = BigDecimal.ZERO;
+        for(int i = 0; i < SIZE; i++){
+            QuantityUnit stockUnit = QuantityUnit.resolve(stockUnits[i]);
+            QuantityUnit needUnit = QuantityUnit.resolve(needUnits[i]);
+            BigDecimal density = BigDecimal.valueOf(densities[i]).movePointLeft(6);
+            BigDecimal stock = stockAmounts[i].multiply(BigDecimal.valueOf(stockUnit.micros()));
+            BigDecimal need = needAmounts[i].multiply(BigDecimal.valueOf(needUnit.micros()));
+            if(stockUnit.dimension() == Dimension.MASS && needUnit.dimension() == Dimension.VOLUME){
+                need = need.multiply(density);
+            } else if(stockUnit.dimension() == Dimension.VOLUME && needUnit.dimension() == Dimension.MASS){
+                need = need.divide(density, MathContext.DECIMAL64);
+            }
+            total = total.add(stock.subtract(need).max(BigDecimal.ZERO));
+        }
+        return total;
+    }
+}
@@ -0,0 +1,88 @@
+package com.myrecipe.mealplan.optimizer;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시간 예산별 식단 품질 (budgetMillis = 0 은 greedy 만)
+ * 냉장고 재료 40종 / 후보 레시피 200개 / 레시피당 재료 4~9개 (일부는 냉장고에 없음), 재료의 1/3 은 계획 기간 안에 유통기한이 끝난다.
+ * 비용과 내역은 AuxCounters 로 함께 출력해서 "시간을 더 쓰면 얼마나 좋아지는지" 를 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MealPlanOptimizerBenchmark {
+    private static final int INGREDIENTS = 40;
+    private static final int CANDIDATES = 200;
+
+    @Param({"0", "20", "100", "500"})
+    long budgetMillis;
+
+    @Param("4")
+    int chains;
+
+    private ForkJoinPool pool;
+    private MealPlanOptimizer optimizer;
+    private MealPlanProblem problem;
+    private long seed;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Quality {
+        public double cost;
+        public int purchases;
+        public int spoiled;
+        public int repeats;
+
+        @Setup(Level.Iteration)
+        public void reset(){
+            cost = 0;
+            purchases = 0;
+            spoiled = 0;
+            repeats = 0;
+        }
+    }
+
+    @Setup
+    public void setup(){
+        SplittableRandom random = new SplittableRandom(42);
+        int lotCount = INGREDIENTS + INGREDIENTS / 4;
+        int[] lotIngredient = new int[lotCount];
+        int[] lotUnits = new int[lotCount];
+        int[] lotLastDay = new int[lotCount];
+        for(int lot = 0; lot < lotCount; lot++){
+            lotIngredient[lot] = lot < INGREDIENTS ? lot : random.nextInt(INGREDIENTS);
+            lotUnits[lot] = 1 + random.nextInt(3);
+            lotLastDay[lot] = random.nextInt(3) == 0 ? random.nextInt(MealPlanProblem.DAYS) : 7 + random.nextInt(30);
+        }
+
+        int[][] recipeIngredients = new int[CANDIDATES][];
+        for(int recipe = 0; recipe < CANDIDATES; recipe++){
+            recipeIngredients[recipe] = random.ints(4 + random.nextInt(6), -INGREDIENTS / 4, INGREDIENTS)
+                    .map(ingredient -> Math.max(ingredient, -1))
+                    .toArray();
+        }
+        problem = new MealPlanProblem(recipeIngredients, lotIngredient, lotUnits, lotLastDay, INGREDIENTS);
+        pool = new ForkJoinPool(chains);
+        optimizer = new MealPlanOptimizer(pool);
+    }
+
+    @TearDown
+    public void tearDown(){
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public MealPlan optimize(Quality quality){
+        MealPlan plan = optimizer.optimize(problem, Duration.ofMillis(budgetMillis), chains, seed++);
+        quality.cost += plan.score().cost();
+        quality.purchases += plan.score().purchases();
+        quality.spoiled += plan.score().spoiled();
+        quality.repeats += plan.score().repeats();
+        return plan;
+    }
+}
@@ -0,0 +1,67 @@
+package com.myrecipe.recipe.search;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레시피 10만 건 기준 검색 지연 시간 (SampleTime 으로 p99 확인)
+ * 제목/재료/조리 과정은 자주 쓰는 요리 단어를 치우친 분포로 섞어 만든다.
+ * 질의는 입력 중인 검색어(한 글자, 끝 글자 미완성)와 완성된 검색어를 섞는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecipeSearchIndexBenchmark {
+    private static final String[] DISHES = {"김치찌개", "된장찌개", "부대찌개", "순두부찌개", "제육볶음", "오징어볶음", "닭볶음탕", "불고기",
+            "비빔밥", "김밥", "잡채", "떡볶이", "계란말이", "감자조림", "두부조림", "미역국", "콩나물국", "갈비찜", "파스타", "카레"};
+    private static final String[] MODIFIERS = {"초간단", "백종원", "자취생", "매콤한", "달콤한", "건강한", "다이어트", "엄마표", "10분", "에어프라이어"};
+    private static final String[] INGREDIENTS = {"양파", "마늘", "대파", "돼지고기", "소고기", "닭고기", "두부", "김치", "감자", "당근",
+            "애호박", "고추장", "간장", "설탕", "참기름", "계란", "어묵", "버섯", "콩나물", "미역", "오징어", "떡", "밥", "치즈"};
+    private static final String[] STEP_WORDS = {"썰어", "넣고", "볶아주세요", "끓여주세요", "중불에서", "약불로", "5분간", "뚜껑을 덮고",
+            "간을 맞춰주세요", "한입 크기로", "물을 붓고", "양념을 넣고", "골고루 섞어", "그릇에 담아", "마무리합니다"};
+    private static final String[] QUERIES = {"김", "김치", "김치찌", "김치찌개", "된장", "제육볶음", "돼지고기 김치", "두부조림 간장",
+            "떡볶이 치즈", "초간단 계란", "에어프라이어 감자", "미역국ㅂ"};
+
+    @Param("100000")
+    int recipeCount;
+
+    private RecipeSearchIndex index;
+    private int cursor;
+
+    @Setup
+    public void setup(){
+        SplittableRandom random = new SplittableRandom(42);
+        index = new RecipeSearchIndex();
+        for(long recipeId = 1; recipeId <= recipeCount; recipeId++){
+            String title = pick(random, MODIFIERS) + " " + pick(random, DISHES);
+            List<String> ingredients = new ArrayList<>();
+            for(int i = 0; i < 5 + random.nextInt(8); i++){
+                ingredients.add(pick(random, INGREDIENTS));
+            }
+            List<String> steps = new ArrayList<>();
+            for(int s = 0; s < 3 + random.nextInt(6); s++){
+                StringBuilder step = new StringBuilder(pick(random, INGREDIENTS));
+                for(int w = 0; w < 6; w++){
+                    step.append(' ').append(pick(random, STEP_WORDS));
+                }
+                steps.add(step.toString());
+            }
+            index.put(new RecipeDocument(recipeId, title, title + " 레시피입니다", ingredients, steps));
+        }
+    }
+
+    @Benchmark
+    public List<SearchHit> search10(){
+        return index.search(QUERIES[cursor++ % QUERIES.length], 10);
+    }
+
+    // 치우친 분포: 앞쪽 단어가 더 자주 나온다
+    private static String pick(SplittableRandom random, String[] words){
+        int i = (int) (words.length * Math.pow(random.nextDouble(), 2));
+        return words[i];
+    }
+}
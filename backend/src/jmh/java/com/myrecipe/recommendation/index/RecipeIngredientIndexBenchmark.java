@@ -0,0 +1,70 @@
+package com.myrecipe.recommendation.index;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레시피 10만 건 / 냉장고 재료 30개 기준 top-K 추천 지연 시간
+ * 재료 사용 빈도는 실제 레시피처럼 일부 재료(양파, 마늘 등)에 몰리도록 치우친 분포로 생성한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecipeIngredientIndexBenchmark {
+    @Param("100000")
+    int recipeCount;
+
+    @Param("2000")
+    int ingredientCount;
+
+    @Param("30")
+    int fridgeSize;
+
+    private RecipeIngredientIndex index;
+    private int[][] fridges;
+    private float[][] urgencies;
+    private int cursor;
+
+    @Setup
+    public void setup(){
+        SplittableRandom random = new SplittableRandom(42);
+        index = new RecipeIngredientIndex();
+        for(long recipeId = 1; recipeId <= recipeCount; recipeId++){
+            int[] ingredients = new int[5 + random.nextInt(11)];
+            for(int i = 0; i < ingredients.length; i++){
+                ingredients[i] = skewed(random);
+            }
+            index.put(recipeId, ingredients);
+        }
+
+        fridges = new int[64][];
+        urgencies = new float[64][];
+        for(int f = 0; f < fridges.length; f++){
+            fridges[f] = random.ints(0, ingredientCount).map(i -> skewed(random)).distinct().limit(fridgeSize).toArray();
+            urgencies[f] = new float[fridges[f].length];
+            for(int i = 0; i < urgencies[f].length; i++){
+                urgencies[f][i] = random.nextInt(4) == 0 ? (float) random.nextDouble() : 0f;
+            }
+        }
+    }
+
+    @Benchmark
+    public List<RecipeMatch> top10(){
+        return index.topK(fridges[cursor++ & 63], 10);
+    }
+
+    @Benchmark
+    public List<RecipeMatch> top10WithUrgency(){
+        int f = cursor++ & 63;
+        return index.topK(fridges[f], urgencies[f], 10);
+    }
+
+    // 앞쪽 재료일수록 자주 등장
+    private int skewed(SplittableRandom random){
+        double u = random.nextDouble();
+        return (int) (ingredientCount * u * u * u);
+    }
+}
@@ -0,0 +1,65 @@
+package com.myrecipe.security.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myrecipe.common.handler.ErrorResponseWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Base64;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동일 Access Token 반복 요청 시 JwtAuthenticationFilter 비용 비교
+ * - cached: 다이제스트 계산 + 캐시 조회
+ * - uncached: 매 요청 서명 검증 + 클레임 파싱
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private JwtAuthenticationFilter filter;
+    private AccessTokenCache cache;
+    private String accessToken;
+
+    @Setup
+    public void setup(){
+        byte[] secret = new byte[32];
+        ThreadLocalRandom.current().nextBytes(secret);
+
+        JwtTokenProvider provider = new JwtTokenProvider(Base64.getEncoder().encodeToString(secret), 30, 14);
+        provider.init();
+
+        cache = new AccessTokenCache(10_000, new SimpleMeterRegistry());
+        filter = new JwtAuthenticationFilter(provider, cache, new TokenEpochRegistry(new SimpleMeterRegistry()),
+                new ErrorResponseWriter(new ObjectMapper()));
+        accessToken = provider.issueTokens(1L, "USER", 0).getAccessToken();
+    }
+
+    @Benchmark
+    public Object cached() throws Exception {
+        return doFilter();
+    }
+
+    @Benchmark
+    public Object uncached() throws Exception {
+        cache.clear();
+        return doFilter();
+    }
+
+    private Object doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/refrigerator/item");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+}
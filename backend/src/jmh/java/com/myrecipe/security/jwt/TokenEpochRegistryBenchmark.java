@@ -0,0 +1,62 @@
+package com.myrecipe.security.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 하는 토큰 epoch 확인 비용 (사용자 100만 명 중 1만 명이 모든 기기 로그아웃을 한 상태)
+ * - registry: TokenEpochRegistry (long -> int open addressing, 잠금/할당 없음)
+ * - boxedMap: ConcurrentHashMap<Long, Integer> (비교 기준, 조회마다 Long 박싱)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenEpochRegistryBenchmark {
+    private static final int USERS = 1_000_000;
+    private static final int RAISED = 10_000;
+    private static final int LOOKUPS = 4096;
+
+    private TokenEpochRegistry registry;
+    private ConcurrentHashMap<Long, Integer> boxedMap;
+    private final long[] userIds = new long[LOOKUPS];
+
+    @Setup
+    public void setup(){
+        SplittableRandom random = new SplittableRandom(42);
+        registry = new TokenEpochRegistry(new SimpleMeterRegistry());
+        boxedMap = new ConcurrentHashMap<>();
+        for(int i = 0; i < RAISED; i++){
+            long userId = 1 + random.nextInt(USERS);
+            int epoch = 1 + random.nextInt(3);
+            registry.advance(userId, epoch);
+            boxedMap.merge(userId, epoch, Math::max);
+        }
+        for(int i = 0; i < LOOKUPS; i++){
+            userIds[i] = 1 + random.nextInt(USERS);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int registry(){
+        int current = 0;
+        for(long userId : userIds){
+            if(registry.isCurrent(userId, 0)) current++;
+        }
+        return current;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int boxedMap(){
+        int current = 0;
+        for(long userId : userIds){
+            if(0 >= boxedMap.getOrDefault(userId, 0)) current++;
+        }
+        return current;
+    }
+}
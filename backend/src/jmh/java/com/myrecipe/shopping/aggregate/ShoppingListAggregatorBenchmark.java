@@ -0,0 +1,92 @@
+package com.myrecipe.shopping.aggregate;
+
+import com.myrecipe.ingredient.dictionary.IngredientDictionary;
+import com.myrecipe.ingredient.domain.Ingredient;
+import com.myrecipe.ingredient.quantity.Dimension;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일주일 식단(21끼) 장보기 계산 (DB 조회 이후 메모리 처리 구간)
+ * 레시피당 재료 8~14개, 냉장고 재료 80개, 재료 이름은 사전 표준 이름/동의어/사전에 없는 이름을 섞는다.
+ * 이름 정규화(canonicalKey) + 밀도 조회 + 합산 + 부족분 계산까지 포함한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ShoppingListAggregatorBenchmark {
+    private static final int RECIPES = 21;
+    private static final int FRIDGE_ITEMS = 80;
+    private static final Dimension[] DIMENSIONS = Dimension.values();
+
+    private IngredientDictionary dictionary;
+
+    private String[] needNames;
+    private Long[] needIngredientIds;
+    private long[] needMicros;
+    private Dimension[] needDimensions;
+    private long[] needRecipeIds;
+
+    private String[] stockNames;
+    private Long[] stockMicros;
+    private Dimension[] stockDimensions;
+
+    @Setup
+    public void setup(){
+        SplittableRandom random = new SplittableRandom(11);
+        List<Ingredient> ingredients = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for(long id = 1; id <= 300; id++){
+            String name = "재료" + id;
+            ingredients.add(Ingredient.builder().id(id).name(name).category("분류" + id % 9)
+                    .aliases(Set.of("별칭" + id)).density(id % 3 == 0 ? 0.5 + id % 10 / 10.0 : null).build());
+            names.add(name);
+        }
+        dictionary = new IngredientDictionary();
+        dictionary.rebuild(ingredients);
+
+        List<Object[]> needs = new ArrayList<>();
+        for(long recipeId = 1; recipeId <= RECIPES; recipeId++){
+            for(int i = 0; i < 8 + random.nextInt(7); i++){
+                int index = random.nextInt(120); // 자주 쓰는 재료가 겹치도록 앞쪽에서 선택
+                String name = switch (random.nextInt(4)){
+                    case 0 -> "별칭" + (index + 1);
+                    case 1 -> "사전에없는재료" + index % 20;
+                    default -> names.get(index);
+                };
+                Long ingredientId = dictionary.resolveId(name).orElse(null);
+                long micros = random.nextInt(10) == 0 ? ShoppingListAggregator.UNKNOWN : (1 + random.nextInt(300)) * 1_000_000L;
+                needs.add(new Object[]{name, ingredientId, micros, DIMENSIONS[random.nextInt(3)], recipeId});
+            }
+        }
+        needNames = needs.stream().map(n -> (String) n[0]).toArray(String[]::new);
+        needIngredientIds = needs.stream().map(n -> (Long) n[1]).toArray(Long[]::new);
+        needMicros = needs.stream().mapToLong(n -> (long) n[2]).toArray();
+        needDimensions = needs.stream().map(n -> (Dimension) n[3]).toArray(Dimension[]::new);
+        needRecipeIds = needs.stream().mapToLong(n -> (long) n[4]).toArray();
+
+        stockNames = new String[FRIDGE_ITEMS];
+        stockMicros = new Long[FRIDGE_ITEMS];
+        stockDimensions = new Dimension[FRIDGE_ITEMS];
+        for(int i = 0; i < FRIDGE_ITEMS; i++){
+            stockNames[i] = names.get(random.nextInt(120));
+            stockMicros[i] = random.nextInt(8) == 0 ? null : (1 + random.nextInt(500)) * 1_000_000L;
+            stockDimensions[i] = DIMENSIONS[random.nextInt(3)];
+        }
+    }
+
+    @Benchmark
+    public List<Shortage> weeklyPlan(){
+        ShoppingListAggregator aggregator = new ShoppingListAggregator();
+        for(int i = 0; i < needNames.length; i++){
+            aggregator.need(dictionary.canonicalKey(needNames[i]), needNames[i], needIngredientIds[i],
+                    dictionary.densityOf(needIngredientIds[i]), needMicros[i], needDimensions[i], needRecipeIds[i]);
+        }
+        for(int i = 0; i < stockNames.length; i++){
+            aggregator.stock(dictionary.canonicalKey(stockNames[i]), stockMicros[i], stockDimensions[i]);
+        }
+        return aggregator.shortages();
+    }
+}
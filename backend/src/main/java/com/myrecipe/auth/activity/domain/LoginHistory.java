@@ -0,0 +1,46 @@
+package com.myrecipe.auth.activity.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 시도 기록
+ * 행은 LoginActivityRecorder 가 JDBC 배치로 넣는다 (엔티티는 스키마 정의와 조회용).
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "login_history",
+        indexes = {
+                @Index(name = "idx_login_history_user_id_occurred_at", columnList = "user_id, occurred_at"),
+                @Index(name = "idx_login_history_occurred_at", columnList = "occurred_at")
+        }
+)
+public class LoginHistory {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 가입되지 않은 이메일로 시도한 경우 null
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private LoginOutcome outcome;
+
+    // IPv6 최대 길이
+    @Column(length = 45)
+    private String ip;
+
+    @Column(name = "user_agent", length = 255)
+    private String userAgent;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
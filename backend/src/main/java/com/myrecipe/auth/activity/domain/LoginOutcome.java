@@ -0,0 +1,9 @@
+package com.myrecipe.auth.activity.domain;
+
+public enum LoginOutcome {
+    SUCCESS,
+    // 비밀번호 불일치
+    BAD_CREDENTIALS,
+    // 가입되지 않은 이메일 (user_id 없음)
+    UNKNOWN_EMAIL
+}
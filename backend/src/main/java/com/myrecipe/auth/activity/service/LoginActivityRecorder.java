@@ -0,0 +1,145 @@
+package com.myrecipe.auth.activity.service;
+
+import com.myrecipe.auth.activity.domain.LoginOutcome;
+import com.myrecipe.common.concurrency.MpscRingBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 로그인 기록 write-behind
+ * - 로그인 요청 스레드는 링 버퍼에 이벤트만 올리고 바로 돌아간다 (DB 쓰기를 기다리지 않음).
+ * - 주기적으로 버퍼를 비우면서 이력은 JDBC 배치 insert, users.last_login_at 은 사용자당 가장 늦은 시각 하나로 합쳐서 update 한다.
+ * - 버퍼가 가득 차거나 DB 반영에 실패한 이벤트는 버리고 dropped 카운터로만 남긴다 (로그인 자체는 영향 없음).
+ */
+@Slf4j
+@Component
+public class LoginActivityRecorder {
+    private static final String INSERT_HISTORY = """
+            insert into login_history (user_id, outcome, ip, user_agent, occurred_at)
+            values (?, ?, ?, ?, ?)""";
+    // 다른 인스턴스가 더 늦은 시각을 먼저 반영했으면 덮어쓰지 않는다
+    private static final String UPDATE_LAST_LOGIN = """
+            update users set last_login_at = ?
+            where id = ? and (last_login_at is null or last_login_at < ?)""";
+
+    private static final int IP_MAX_LENGTH = 45;
+    private static final int USER_AGENT_MAX_LENGTH = 255;
+
+    private final MpscRingBuffer<LoginEvent> buffer;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    // 링 버퍼는 소비자가 하나여야 하므로 스케줄러와 종료 시 flush 가 겹치지 않게 막는다
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Counter written;
+    private final Counter droppedFull;
+    private final Counter droppedFailed;
+
+    public LoginActivityRecorder(JdbcTemplate jdbcTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${auth.login-activity.buffer-size:8192}") int bufferSize,
+                                 @Value("${auth.login-activity.batch-size:500}") int batchSize){
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new MpscRingBuffer<>(bufferSize);
+        this.batchSize = batchSize;
+
+        this.written = Counter.builder("auth.login-activity.written")
+                .description("DB 에 반영한 로그인 기록 수")
+                .register(meterRegistry);
+        this.droppedFull = Counter.builder("auth.login-activity.dropped")
+                .description("반영하지 못하고 버린 로그인 기록 수")
+                .tag("reason", "buffer_full")
+                .register(meterRegistry);
+        this.droppedFailed = Counter.builder("auth.login-activity.dropped")
+                .description("반영하지 못하고 버린 로그인 기록 수")
+                .tag("reason", "write_failed")
+                .register(meterRegistry);
+        Gauge.builder("auth.login-activity.pending", buffer, MpscRingBuffer::size)
+                .description("반영 대기 중인 로그인 기록 수")
+                .register(meterRegistry);
+    }
+
+    public void record(Long userId, LoginOutcome outcome, String ip, String userAgent){
+        LoginEvent event = new LoginEvent(userId, outcome, truncate(ip, IP_MAX_LENGTH), truncate(userAgent, USER_AGENT_MAX_LENGTH), LocalDateTime.now());
+        if(!buffer.offer(event)){
+            droppedFull.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auth.login-activity.flush-interval:PT1S}")
+    public void flush(){
+        if(buffer.size() == 0 || !flushLock.tryLock()) return;
+        try {
+            drainAll();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 진행 중인 flush 가 끝나길 기다렸다가 남은 기록을 모두 반영
+    @PreDestroy
+    public void shutdown(){
+        flushLock.lock();
+        try {
+            drainAll();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void drainAll(){
+        List<LoginEvent> events = new ArrayList<>(Math.min(batchSize, buffer.capacity()));
+        while(buffer.drain(events::add, batchSize) > 0){
+            write(events);
+            events.clear();
+        }
+    }
+
+    private void write(List<LoginEvent> events){
+        List<Object[]> historyRows = new ArrayList<>(events.size());
+        // 같은 사용자의 연속 로그인은 가장 늦은 시각 하나만 (id 순으로 보내 교착 방지)
+        TreeMap<Long, LocalDateTime> lastLogins = new TreeMap<>();
+        for(LoginEvent event : events){
+            historyRows.add(new Object[]{event.userId(), event.outcome().name(), event.ip(), event.userAgent(), Timestamp.valueOf(event.occurredAt())});
+            if(event.outcome() == LoginOutcome.SUCCESS){
+                lastLogins.merge(event.userId(), event.occurredAt(), (a, b) -> a.isAfter(b) ? a : b);
+            }
+        }
+        List<Object[]> userRows = new ArrayList<>(lastLogins.size());
+        lastLogins.forEach((userId, at) -> {
+            Timestamp timestamp = Timestamp.valueOf(at);
+            userRows.add(new Object[]{timestamp, userId, timestamp});
+        });
+
+        try {
+            jdbcTemplate.batchUpdate(INSERT_HISTORY, historyRows);
+            if(!userRows.isEmpty()){
+                jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN, userRows);
+            }
+            written.increment(events.size());
+        } catch (DataAccessException e){
+            droppedFailed.increment(events.size());
+            log.warn("로그인 기록 반영 실패, {}건 버림", events.size(), e);
+        }
+    }
+
+    private static String truncate(String value, int maxLength){
+        if(value == null || value.length() <= maxLength) return value;
+        return value.substring(0, maxLength);
+    }
+}
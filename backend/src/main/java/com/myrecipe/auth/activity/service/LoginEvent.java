@@ -0,0 +1,9 @@
+package com.myrecipe.auth.activity.service;
+
+import com.myrecipe.auth.activity.domain.LoginOutcome;
+
+import java.time.LocalDateTime;
+
+// 링 버퍼에 올리는 로그인 시도 한 건
+public record LoginEvent(Long userId, LoginOutcome outcome, String ip, String userAgent, LocalDateTime occurredAt) {
+}
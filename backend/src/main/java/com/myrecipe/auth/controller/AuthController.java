@@ -3,12 +3,17 @@ package com.myrecipe.auth.controller;
 import com.myrecipe.auth.dto.*;
 import com.myrecipe.auth.service.AuthService;
 import com.myrecipe.security.jwt.TokenPair;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -23,9 +28,21 @@ public class AuthController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // 회원가입 폼에서 입력 중 확인용
+    @GetMapping("/availability/email")
+    public ResponseEntity<AvailabilityResponse> emailAvailability(@RequestParam String value){
+        return ResponseEntity.ok(new AvailabilityResponse(value, authService.isEmailAvailable(value)));
+    }
+
+    @GetMapping("/availability/handle")
+    public ResponseEntity<AvailabilityResponse> handleAvailability(@RequestParam String value){
+        return ResponseEntity.ok(new AvailabilityResponse(value, authService.isHandleAvailable(value)));
+    }
+
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request){
-        LoginResponse response = authService.login(request.getEmail(), request.getPassword());
+    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request, HttpServletRequest httpRequest){
+        LoginResponse response = authService.login(request.getEmail(), request.getPassword(),
+                httpRequest.getRemoteAddr(), httpRequest.getHeader(HttpHeaders.USER_AGENT));
         return ResponseEntity.ok(response);
     }
 
@@ -40,4 +57,10 @@ public class AuthController {
         authService.logout(request.getRefreshToken());
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutAll(@AuthenticationPrincipal Long userId){
+        authService.logoutAll(userId);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -0,0 +1,11 @@
+package com.myrecipe.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AvailabilityResponse {
+    private String value;
+    private boolean available;
+}
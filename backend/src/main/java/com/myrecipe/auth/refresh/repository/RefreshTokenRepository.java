@@ -2,11 +2,36 @@ package com.myrecipe.auth.refresh.repository;
 
 import com.myrecipe.auth.refresh.domain.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findByToken(String token);
-    void deleteByUserId(Long userId);
-    void deleteByToken(String token);
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
+
+    // 재발급: 기존 행의 해시/만료시각만 교체 (만료되지 않은 경우에만)
+    @Modifying
+    @Query("update RefreshToken t set t.tokenHash = :newHash, t.expiresAt = :expiresAt where t.tokenHash = :oldHash and t.expiresAt > :now")
+    int rotate(@Param("oldHash") byte[] oldHash, @Param("newHash") byte[] newHash,
+               @Param("now") Instant now, @Param("expiresAt") Instant expiresAt);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") byte[] tokenHash);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.familyId = :familyId")
+    int deleteByFamilyId(@Param("familyId") String familyId);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    // 만료 토큰을 limit 건씩 삭제 (expires_at 인덱스 사용, 한 번에 잡는 잠금 범위 제한)
+    @Modifying
+    @Query(value = "delete from refresh_tokens where expires_at < :now limit :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") Instant now, @Param("limit") int limit);
 }
@@ -0,0 +1,89 @@
+package com.myrecipe.auth.refresh.service;
+
+import com.myrecipe.auth.refresh.store.RefreshTokenStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 만료된 Refresh Token 정리 작업
+ * - chunk-size 건씩 나눠 삭제하고 chunk 사이에 pause 만큼 쉬어서 로그인/재발급 트래픽과 잠금 경합을 줄인다.
+ * - 한 번 실행에 max-chunks 까지만 삭제하고 나머지는 다음 주기로 넘긴다.
+ * - 저장 건수 gauge 는 정리 주기와 별도로 size-interval 마다만 센다 (DB 에서는 count 가 전체 스캔이라).
+ * - chunk 사이 대기 동안 스케줄러 스레드를 잡고 있으므로 spring.task.scheduling.pool.size 를 1보다 크게 둔다 (다른 @Scheduled 작업이 밀리지 않도록).
+ */
+@Slf4j
+@Component
+public class RefreshTokenReaper {
+    private final RefreshTokenStore refreshTokenStore;
+    private final int chunkSize;
+    private final int maxChunks;
+    private final Duration pause;
+
+    private final Counter purged;
+    private final Timer runTimer;
+    private final AtomicLong tableSize = new AtomicLong();
+
+    public RefreshTokenReaper(RefreshTokenStore refreshTokenStore,
+                              MeterRegistry meterRegistry,
+                              @Value("${auth.refresh-token.purge.chunk-size:1000}") int chunkSize,
+                              @Value("${auth.refresh-token.purge.max-chunks:100}") int maxChunks,
+                              @Value("${auth.refresh-token.purge.pause:PT0.2S}") Duration pause){
+        this.refreshTokenStore = refreshTokenStore;
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+        this.pause = pause;
+
+        this.purged = Counter.builder("auth.refresh_token.purged")
+                .description("삭제한 만료 Refresh Token 수")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("auth.refresh_token.purge")
+                .description("만료 Refresh Token 정리 작업 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("auth.refresh_token.rows", tableSize, AtomicLong::get)
+                .description("Refresh Token 저장 건수 (size-interval 마다 갱신)")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${auth.refresh-token.purge.initial-delay:PT1M}",
+               fixedDelayString = "${auth.refresh-token.purge.interval:PT10M}")
+    public void purgeExpired(){
+        runTimer.record(this::purgeInChunks);
+    }
+
+    @Scheduled(initialDelayString = "${auth.refresh-token.purge.initial-delay:PT1M}",
+               fixedDelayString = "${auth.refresh-token.purge.size-interval:PT1H}")
+    public void measureTableSize(){
+        tableSize.set(refreshTokenStore.count());
+    }
+
+    private void purgeInChunks(){
+        Instant now = Instant.now();
+        long total = 0;
+
+        try {
+            for(int chunk = 0; chunk < maxChunks; chunk++){
+                int deleted = refreshTokenStore.purgeExpired(now, chunkSize);
+                total += deleted;
+                purged.increment(deleted);
+                if(deleted < chunkSize) break;
+                Thread.sleep(pause.toMillis());
+            }
+        } catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+        }
+
+        if(total > 0){
+            log.info("만료 Refresh Token {}건 삭제", total);
+        }
+    }
+}
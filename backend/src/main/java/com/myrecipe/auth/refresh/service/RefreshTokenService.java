@@ -1,47 +1,50 @@
 package com.myrecipe.auth.refresh.service;
 
 
-import com.myrecipe.auth.refresh.domain.RefreshToken;
-import com.myrecipe.auth.refresh.repository.RefreshTokenRepository;
-
-
+import com.myrecipe.auth.refresh.store.RefreshTokenStore;
 import com.myrecipe.common.exception.client.UnauthorizedException;
+import com.myrecipe.security.jwt.TokenDigest;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
-import java.time.LocalDateTime;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenService {
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
-    public void save(String token, Long userId, Instant expiresAt){
-        refreshTokenRepository.save(RefreshToken.builder().token(token).userId(userId).expiresAt(expiresAt).build());
+    public void save(String token, String familyId, Long userId, Instant expiresAt){
+        refreshTokenStore.save(TokenDigest.of(token), familyId, userId, expiresAt);
     }
 
-    public RefreshToken validateExistsAndNotExpired(String refreshToken){
-        RefreshToken savedToken = refreshTokenRepository.findByToken(refreshToken)
-                .orElseThrow(() -> new UnauthorizedException("Refresh Token이 유효하지 않습니다."));
-        
-        if(savedToken.isExpired()){
-            throw new UnauthorizedException("Refresh Token이 만료되었습니다.");
+    /**
+     * 기존 토큰을 새 토큰으로 교체 (UPDATE 한 번)
+     * 저장소에 없는 토큰 = 이미 재발급에 쓰였거나 로그아웃된 토큰 -> 탈취 재사용으로 보고 계보 전체 폐기
+     */
+    public void rotate(String oldRefreshToken, String newRefreshToken, String familyId, Instant expiresAt){
+        boolean rotated = refreshTokenStore.rotate(TokenDigest.of(oldRefreshToken), TokenDigest.of(newRefreshToken), Instant.now(), expiresAt);
+        if(!rotated){
+            if(familyId != null){
+                log.warn("Refresh Token 재사용 감지: familyId={}", familyId);
+                refreshTokenStore.deleteFamily(familyId);
+            }
+            throw new UnauthorizedException("Refresh Token이 유효하지 않습니다.");
         }
-        return savedToken;
     }
 
-    @Transactional
-    public void rotate(String oldRefreshToken, String newRefreshToken, Long userId, Instant expiresAt){
-        refreshTokenRepository.deleteByToken(oldRefreshToken);
-        refreshTokenRepository.save(RefreshToken.builder().token(newRefreshToken).userId(userId).expiresAt(expiresAt).build());
+    /**
+     * 사용자의 모든 Refresh Token 삭제 (모든 기기 로그아웃)
+     */
+    public void deleteAll(Long userId){
+        refreshTokenStore.deleteByUserId(userId);
     }
 
     public void delete(String refreshToken){
-        RefreshToken savedToken = refreshTokenRepository.findByToken(refreshToken)
-                .orElseThrow(() -> new UnauthorizedException("Refresh Token이 유효하지 않습니다."));
-
-        refreshTokenRepository.delete(savedToken);
+        if(!refreshTokenStore.delete(TokenDigest.of(refreshToken))){
+            throw new UnauthorizedException("Refresh Token이 유효하지 않습니다.");
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,127 @@
+package com.myrecipe.auth.refresh.store;
+
+import com.myrecipe.security.jwt.TokenDigest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * 단일 인스턴스/테스트용 메모리 저장소
+ * 다이제스트 해시로 고른 샤드 하나만 잠그므로 서로 다른 토큰의 재발급은 경합하지 않는다.
+ * (재시작 시 모든 Refresh Token 이 사라지므로 다중 인스턴스 운영에는 jpa 사용)
+ */
+@Component
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+    private static final int SHARD_COUNT = 64;
+
+    @SuppressWarnings("unchecked")
+    private final Map<TokenDigest, StoredRefreshToken>[] shards = new Map[SHARD_COUNT];
+
+    public InMemoryRefreshTokenStore(){
+        for(int i = 0; i < SHARD_COUNT; i++){
+            shards[i] = new HashMap<>();
+        }
+    }
+
+    @Override
+    public void save(TokenDigest tokenHash, String familyId, Long userId, Instant expiresAt){
+        Map<TokenDigest, StoredRefreshToken> shard = shard(tokenHash);
+        synchronized (shard){
+            shard.put(tokenHash, new StoredRefreshToken(familyId, userId, expiresAt));
+        }
+    }
+
+    @Override
+    public Optional<StoredRefreshToken> find(TokenDigest tokenHash){
+        Map<TokenDigest, StoredRefreshToken> shard = shard(tokenHash);
+        synchronized (shard){
+            return Optional.ofNullable(shard.get(tokenHash));
+        }
+    }
+
+    @Override
+    public boolean rotate(TokenDigest oldHash, TokenDigest newHash, Instant now, Instant expiresAt){
+        StoredRefreshToken old;
+        Map<TokenDigest, StoredRefreshToken> oldShard = shard(oldHash);
+        synchronized (oldShard){
+            old = oldShard.get(oldHash);
+            if(old == null || old.isExpired(now)){
+                return false;
+            }
+            oldShard.remove(oldHash);
+        }
+        save(newHash, old.familyId(), old.userId(), expiresAt);
+        return true;
+    }
+
+    @Override
+    public boolean delete(TokenDigest tokenHash){
+        Map<TokenDigest, StoredRefreshToken> shard = shard(tokenHash);
+        synchronized (shard){
+            return shard.remove(tokenHash) != null;
+        }
+    }
+
+    @Override
+    public void deleteFamily(String familyId){
+        removeIf(token -> token.familyId().equals(familyId));
+    }
+
+    @Override
+    public void deleteByUserId(Long userId){
+        removeIf(token -> token.userId().equals(userId));
+    }
+
+    @Override
+    public int purgeExpired(Instant now, int limit){
+        int removed = 0;
+        for(Map<TokenDigest, StoredRefreshToken> shard : shards){
+            synchronized (shard){
+                Iterator<StoredRefreshToken> it = shard.values().iterator();
+                while(it.hasNext() && removed < limit){
+                    if(it.next().isExpired(now)){
+                        it.remove();
+                        removed++;
+                    }
+                }
+            }
+            if(removed >= limit) break;
+        }
+        return removed;
+    }
+
+    @Override
+    public long count(){
+        long count = 0;
+        for(Map<TokenDigest, StoredRefreshToken> shard : shards){
+            synchronized (shard){
+                count += shard.size();
+            }
+        }
+        return count;
+    }
+
+    // 계보/사용자 단위 삭제는 드물어서 전체 샤드를 순회
+    private int removeIf(Predicate<StoredRefreshToken> condition){
+        int removed = 0;
+        for(Map<TokenDigest, StoredRefreshToken> shard : shards){
+            synchronized (shard){
+                int before = shard.size();
+                shard.values().removeIf(condition);
+                removed += before - shard.size();
+            }
+        }
+        return removed;
+    }
+
+    private Map<TokenDigest, StoredRefreshToken> shard(TokenDigest tokenHash){
+        return shards[(int) (tokenHash.h0() & (SHARD_COUNT - 1))];
+    }
+}
@@ -0,0 +1,70 @@
+package com.myrecipe.auth.refresh.store;
+
+import com.myrecipe.auth.refresh.domain.RefreshToken;
+import com.myrecipe.auth.refresh.repository.RefreshTokenRepository;
+import com.myrecipe.security.jwt.TokenDigest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Override
+    public void save(TokenDigest tokenHash, String familyId, Long userId, Instant expiresAt){
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(tokenHash.toBytes())
+                .familyId(familyId)
+                .userId(userId)
+                .expiresAt(expiresAt)
+                .build());
+    }
+
+    @Override
+    public Optional<StoredRefreshToken> find(TokenDigest tokenHash){
+        return refreshTokenRepository.findByTokenHash(tokenHash.toBytes())
+                .map(token -> new StoredRefreshToken(token.getFamilyId(), token.getUserId(), token.getExpiresAt()));
+    }
+
+    @Override
+    @Transactional
+    public boolean rotate(TokenDigest oldHash, TokenDigest newHash, Instant now, Instant expiresAt){
+        return refreshTokenRepository.rotate(oldHash.toBytes(), newHash.toBytes(), now, expiresAt) == 1;
+    }
+
+    @Override
+    @Transactional
+    public boolean delete(TokenDigest tokenHash){
+        return refreshTokenRepository.deleteByTokenHash(tokenHash.toBytes()) > 0;
+    }
+
+    @Override
+    @Transactional
+    public void deleteFamily(String familyId){
+        refreshTokenRepository.deleteByFamilyId(familyId);
+    }
+
+    @Override
+    @Transactional
+    public void deleteByUserId(Long userId){
+        refreshTokenRepository.deleteByUserId(userId);
+    }
+
+    @Override
+    @Transactional
+    public int purgeExpired(Instant now, int limit){
+        return refreshTokenRepository.deleteExpired(now, limit);
+    }
+
+    @Override
+    public long count(){
+        return refreshTokenRepository.count();
+    }
+}
@@ -0,0 +1,55 @@
+package com.myrecipe.auth.refresh.store;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * refresh_tokens 의 예전 원문 토큰 컬럼(token) 제거
+ * - ddl-auto update 는 컬럼을 추가만 하고 지우지 않는다. 예전 token(NOT NULL, 기본값 없음) 컬럼이 남아 있으면 모든 insert 가 실패한다.
+ * - 원문 토큰으로는 다이제스트/계보를 채울 수 없으므로 기존 행은 지운다 (해당 사용자는 다시 로그인).
+ * - hibernate 스키마 갱신이 끝난 뒤, 요청을 받기 전에 한 번 실행된다. 이미 정리된 DB 에서는 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenSchemaMigration {
+    private static final String COLUMN_EXISTS = """
+            select count(*) from information_schema.columns
+            where table_schema = schema() and table_name = 'refresh_tokens' and column_name = 'token'""";
+    private static final String UNIQUE_EXISTS = """
+            select count(*) from information_schema.table_constraints
+            where table_schema = schema() and table_name = 'refresh_tokens' and constraint_name = 'uk_refresh_tokens_token_hash'""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // EntityManagerFactory 는 ddl-auto update(token_hash, family_id 추가)가 끝난 뒤에 실행되도록 순서만 잡는 용도
+    public RefreshTokenSchemaMigration(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory){
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    void migrate(){
+        if(!exists(COLUMN_EXISTS)) return;
+
+        int deleted = jdbcTemplate.update("delete from refresh_tokens");
+        try {
+            jdbcTemplate.execute("alter table refresh_tokens drop column token");
+        } catch (DataAccessException e){
+            // 다른 인스턴스가 먼저 지웠으면 그대로 진행
+            if(exists(COLUMN_EXISTS)) throw e;
+        }
+        // 기존 행이 있던 상태에서는 token_hash 가 모두 같은 값으로 채워져 hibernate 가 unique 제약을 만들지 못한다
+        if(!exists(UNIQUE_EXISTS)){
+            jdbcTemplate.execute("alter table refresh_tokens add constraint uk_refresh_tokens_token_hash unique (token_hash)");
+        }
+        log.warn("refresh_tokens 예전 token 컬럼 제거, 기존 Refresh Token {}건 삭제 (해당 사용자는 다시 로그인)", deleted);
+    }
+
+    private boolean exists(String sql){
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,40 @@
+package com.myrecipe.auth.refresh.store;
+
+import com.myrecipe.security.jwt.TokenDigest;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Refresh Token 저장소 (토큰 원문 대신 SHA-256 다이제스트로 저장/조회)
+ * auth.refresh-token.store 설정으로 구현체 선택: jpa(기본) / memory
+ */
+public interface RefreshTokenStore {
+
+    void save(TokenDigest tokenHash, String familyId, Long userId, Instant expiresAt);
+
+    Optional<StoredRefreshToken> find(TokenDigest tokenHash);
+
+    /**
+     * 만료되지 않은 기존 토큰을 새 토큰으로 교체
+     * @return 기존 토큰이 없거나 만료되어 교체하지 못했으면 false
+     */
+    boolean rotate(TokenDigest oldHash, TokenDigest newHash, Instant now, Instant expiresAt);
+
+    boolean delete(TokenDigest tokenHash);
+
+    void deleteFamily(String familyId);
+
+    void deleteByUserId(Long userId);
+
+    /**
+     * 만료된 토큰을 최대 limit 건 삭제
+     * @return 삭제한 건수
+     */
+    int purgeExpired(Instant now, int limit);
+
+    /**
+     * 저장 건수 (DB 는 전체 스캔이므로 드물게만 호출)
+     */
+    long count();
+}
@@ -0,0 +1,10 @@
+package com.myrecipe.auth.refresh.store;
+
+import java.time.Instant;
+
+public record StoredRefreshToken(String familyId, Long userId, Instant expiresAt) {
+
+    public boolean isExpired(Instant now){
+        return !expiresAt.isAfter(now);
+    }
+}
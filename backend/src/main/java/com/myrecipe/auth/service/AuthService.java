@@ -1,38 +1,51 @@
 package com.myrecipe.auth.service;
 
+import com.myrecipe.auth.activity.domain.LoginOutcome;
+import com.myrecipe.auth.activity.service.LoginActivityRecorder;
 import com.myrecipe.auth.dto.LoginResponse;
 import com.myrecipe.auth.dto.LoginUserResponse;
 import com.myrecipe.auth.dto.SignupResponse;
 import com.myrecipe.auth.dto.SignupUserResponse;
-import com.myrecipe.auth.refresh.domain.RefreshToken;
 import com.myrecipe.auth.refresh.service.RefreshTokenService;
 import com.myrecipe.common.exception.client.DuplicateEmailException;
+import com.myrecipe.common.exception.client.InvalidRequestException;
+import com.myrecipe.common.exception.client.ResourceNotFoundException;
 import com.myrecipe.common.exception.client.UnauthorizedException;
+import com.myrecipe.common.id.TimeOrderedIdGenerator;
 import com.myrecipe.security.jwt.JwtTokenProvider;
+import com.myrecipe.security.jwt.TokenEpochRegistry;
 import com.myrecipe.security.jwt.TokenPair;
+import com.myrecipe.security.password.PasswordHashingExecutor;
+import com.myrecipe.user.availability.UserAvailabilityIndex;
 import com.myrecipe.user.domain.User;
 import com.myrecipe.user.repository.UserRepository;
 import io.jsonwebtoken.Claims;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.concurrent.ThreadLocalRandom;
+
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenService refreshTokenService;
+    private final TokenEpochRegistry tokenEpochRegistry;
+    private final LoginActivityRecorder loginActivityRecorder;
+    private final UserAvailabilityIndex userAvailabilityIndex;
+    private final TimeOrderedIdGenerator timeOrderedIdGenerator;
 
     public SignupResponse signup(String email, String password, String nickname){
-        String encodedPassword = passwordEncoder.encode(password);
+        // 이미 가입된 이메일은 해싱 전에 거절 (Bloom filter 에 없으면 DB 조회도 하지 않음)
+        if(userAvailabilityIndex.isEmailTaken(email)){
+            throw new DuplicateEmailException("이미 사용 중인 이메일입니다.");
+        }
+        String encodedPassword = passwordHashingExecutor.encode(password);
         String handle = generateHandle();
 
         User user = User.builder().email(email).password(encodedPassword).nickname(nickname).handle(handle).build();
@@ -43,46 +56,66 @@ public class AuthService {
         } catch (DataIntegrityViolationException e) {
             throw new DuplicateEmailException("이미 사용 중인 이메일입니다.");
         }
+        userAvailabilityIndex.add(savedUser.getEmail(), savedUser.getHandle());
 
-        TokenPair tokens = jwtTokenProvider.issueTokens(savedUser.getId(), savedUser.getRole().name());
+        String familyId = jwtTokenProvider.newFamilyId();
+        TokenPair tokens = jwtTokenProvider.issueTokens(savedUser.getId(), savedUser.getRole().name(), familyId, savedUser.getTokenEpoch());
 
-        refreshTokenService.save(tokens.getRefreshToken(), savedUser.getId(), jwtTokenProvider.calculateRefreshTokenExpiry());
+        refreshTokenService.save(tokens.getRefreshToken(), familyId, savedUser.getId(), jwtTokenProvider.calculateRefreshTokenExpiry());
 
         return new SignupResponse(new SignupUserResponse(savedUser.getId(), savedUser.getNickname(), savedUser.getHandle()), tokens);
     }
 
-    public LoginResponse login(String email, String password){
-        User user = userRepository.findByEmail(email).orElseThrow(() -> new IllegalArgumentException());
-        if(!passwordEncoder.matches(password, user.getPassword())){
+    public LoginResponse login(String email, String password, String ip, String userAgent){
+        // 없는 이메일도 비밀번호 불일치와 같은 응답, 같은 해싱 시간 (계정 존재 여부 노출 방지)
+        User user = userRepository.findByEmail(email).orElse(null);
+        if(user == null){
+            passwordHashingExecutor.matchesNothing(password);
+            loginActivityRecorder.record(null, LoginOutcome.UNKNOWN_EMAIL, ip, userAgent);
             throw new UnauthorizedException("아이디 또는 비밀번호가 일치하지 않습니다.");
         }
-        TokenPair tokens = jwtTokenProvider.issueTokens(user.getId(), user.getRole().name());
-        refreshTokenService.save(tokens.getRefreshToken(), user.getId(), jwtTokenProvider.calculateRefreshTokenExpiry());
+        if(!passwordHashingExecutor.matches(password, user.getPassword())){
+            loginActivityRecorder.record(user.getId(), LoginOutcome.BAD_CREDENTIALS, ip, userAgent);
+            throw new UnauthorizedException("아이디 또는 비밀번호가 일치하지 않습니다.");
+        }
+        // cost 설정이 올라갔으면 평문을 알고 있는 지금 새 cost 로 재해싱
+        if(passwordHashingExecutor.needsRehash(user.getPassword())){
+            user.changePassword(passwordHashingExecutor.encode(password));
+            userRepository.save(user);
+        }
+        String familyId = jwtTokenProvider.newFamilyId();
+        TokenPair tokens = jwtTokenProvider.issueTokens(user.getId(), user.getRole().name(), familyId, user.getTokenEpoch());
+        refreshTokenService.save(tokens.getRefreshToken(), familyId, user.getId(), jwtTokenProvider.calculateRefreshTokenExpiry());
+        // 로그인 이력, last_login_at 은 백그라운드에서 모아서 반영
+        loginActivityRecorder.record(user.getId(), LoginOutcome.SUCCESS, ip, userAgent);
         return new LoginResponse(new LoginUserResponse(user.getId(), user.getEmail(), user.getNickname(), user.getHandle()), tokens);
     }
 
-    @Transactional
     public TokenPair refresh(String refreshToken){
-        // 파싱
+        // 파싱 (서명 + 만료 검증)
         Claims claims = jwtTokenProvider.parseClaims(refreshToken);
 
         // 리프레시 토큰 타입 검증
         if(!jwtTokenProvider.isRefreshToken(claims)){
             throw new UnauthorizedException("Refresh Token이 아닙니다.");
         }
-        
-        // DB에 존재하고 만료가 안됐는지 검사
-        RefreshToken savedToken = refreshTokenService.validateExistsAndNotExpired(refreshToken);
-        
-        // 토큰 정보 추출
-        Long userId = savedToken.getUserId();
+
+        // 토큰 정보 추출 (서명 검증을 마친 클레임)
+        Long userId = jwtTokenProvider.getUserId(claims);
         String role = jwtTokenProvider.getRole(claims);
+        String familyId = jwtTokenProvider.getFamilyId(claims);
+        int tokenEpoch = jwtTokenProvider.getTokenEpoch(claims);
+
+        // 모든 기기 로그아웃 이전에 발급된 토큰
+        if(!tokenEpochRegistry.isCurrent(userId, tokenEpoch)){
+            throw new UnauthorizedException("로그아웃된 토큰입니다.", "ERR_AUTH_TOKEN_REVOKED");
+        }
+
+        // 새 토큰 발급 (같은 계보, 같은 epoch)
+        TokenPair newTokens = jwtTokenProvider.issueTokens(userId, role, familyId, tokenEpoch);
 
-        // 새 토큰 발급
-        TokenPair newTokens = jwtTokenProvider.issueTokens(userId, role);
-    
-        // 기존 Refresh 토큰 폐기 + 신규 Refresh 토큰 저장
-        refreshTokenService.rotate(refreshToken, newTokens.getRefreshToken(), userId, jwtTokenProvider.calculateRefreshTokenExpiry());
+        // 기존 Refresh 토큰을 신규 토큰으로 교체 (DB에 없거나 만료됐으면 실패)
+        refreshTokenService.rotate(refreshToken, newTokens.getRefreshToken(), familyId, jwtTokenProvider.calculateRefreshTokenExpiry());
 
         return newTokens;
     }
@@ -97,10 +130,37 @@ public class AuthService {
         refreshTokenService.delete(refreshToken);
     }
 
+    /**
+     * 모든 기기에서 로그아웃
+     * 토큰 epoch 를 올려서 이미 발급된 Access Token 을 만료 전에 무효화하고, Refresh Token 은 모두 삭제한다.
+     */
+    @Transactional
+    public void logoutAll(Long userId){
+        if(userRepository.incrementTokenEpoch(userId, LocalDateTime.now()) == 0){
+            throw new ResourceNotFoundException("사용자를 찾을 수 없습니다.", "ERR_USER_NOT_FOUND");
+        }
+        int tokenEpoch = userRepository.findTokenEpochById(userId).orElseThrow();
+        refreshTokenService.deleteAll(userId);
+        tokenEpochRegistry.advance(userId, tokenEpoch);
+    }
+
+    public boolean isEmailAvailable(String email){
+        if(email == null || email.isBlank()){
+            throw new InvalidRequestException("이메일을 입력해주세요.");
+        }
+        return !userAvailabilityIndex.isEmailTaken(email);
+    }
+
+    public boolean isHandleAvailable(String handle){
+        if(handle == null || handle.isBlank()){
+            throw new InvalidRequestException("핸들을 입력해주세요.");
+        }
+        return !userAvailabilityIndex.isHandleTaken(handle);
+    }
+
+    // 시간순 id 를 36진수로 (노드 id 가 다르면 인스턴스 간에도 겹치지 않음, 최대 16자)
     private String generateHandle(){
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-        int random = ThreadLocalRandom.current().nextInt(10000,100000);
-        return "user_" + timestamp + random;
+        return "user_" + timeOrderedIdGenerator.nextBase36();
     }
 
 }
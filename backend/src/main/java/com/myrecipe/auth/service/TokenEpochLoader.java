@@ -0,0 +1,56 @@
+package com.myrecipe.auth.service;
+
+import com.myrecipe.security.jwt.TokenEpochRegistry;
+import com.myrecipe.user.dto.UserTokenEpoch;
+import com.myrecipe.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * users.token_epoch -> TokenEpochRegistry 적재
+ * - 기동 시: 폐기된 토큰이 통과하지 않도록 웹 서버가 요청을 받기 전(빈 초기화 단계)에 불러온다.
+ * - 주기적으로: 다른 인스턴스에서 처리한 "모든 기기 로그아웃" 을 반영한다 (최대 sync-interval 만큼 늦게 반영).
+ *   token_epoch_changed_at 인덱스로 직전 동기화 이후 바뀐 사용자만 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenEpochLoader {
+    // 인스턴스 간 시계 차이, 읽는 동안 커밋된 변경을 놓치지 않도록 직전 구간을 겹쳐 읽는다 (advance 는 여러 번 해도 같음)
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final UserRepository userRepository;
+    private final TokenEpochRegistry tokenEpochRegistry;
+
+    private volatile LocalDateTime syncedAt;
+
+    @PostConstruct
+    void load(){
+        LocalDateTime startedAt = LocalDateTime.now();
+        int loaded = apply(userRepository.findRaisedTokenEpochs());
+        syncedAt = startedAt;
+        log.info("토큰 epoch 적재: {}명", loaded);
+    }
+
+    @Scheduled(initialDelayString = "${auth.token-epoch.sync-interval:PT30S}", fixedDelayString = "${auth.token-epoch.sync-interval:PT30S}")
+    public int sync(){
+        LocalDateTime startedAt = LocalDateTime.now();
+        int changed = apply(userRepository.findTokenEpochsChangedSince(syncedAt.minus(SYNC_OVERLAP)));
+        syncedAt = startedAt;
+        return changed;
+    }
+
+    private int apply(List<UserTokenEpoch> epochs){
+        for(UserTokenEpoch epoch : epochs){
+            tokenEpochRegistry.advance(epoch.userId(), epoch.tokenEpoch());
+        }
+        return epochs.size();
+    }
+}
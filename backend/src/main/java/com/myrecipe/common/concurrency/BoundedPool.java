@@ -0,0 +1,33 @@
+package com.myrecipe.common.concurrency;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * 크기가 제한된 재사용 객체 풀 (질의용 누적 버퍼, MessageDigest 등)
+ * - ThreadLocal 캐시는 스레드 수만큼 쌓이고, 가상 스레드처럼 요청마다 스레드가 새로 생기면 매번 새로 만들어져 재사용이 되지 않는다.
+ * - 최대 maxIdle 개만 보관하고, 비어 있으면 호출 쪽에서 새로 만들며, 가득 찼을 때 반납한 객체는 버린다 (메모리 상한 = maxIdle 개).
+ * - 빌려 간 객체는 한 스레드만 쓰므로 객체 자체는 스레드 안전하지 않아도 된다.
+ */
+public final class BoundedPool<T> {
+    private final ArrayBlockingQueue<T> idle;
+
+    public BoundedPool(int maxIdle){
+        if(maxIdle < 1) throw new IllegalArgumentException("maxIdle must be >= 1");
+        this.idle = new ArrayBlockingQueue<>(maxIdle);
+    }
+
+    // CPU 코어 수만큼 보관 (CPU 위주 작업은 그 이상 동시에 돌아도 처리량이 늘지 않음)
+    public static <T> BoundedPool<T> perProcessor(){
+        return new BoundedPool<>(Runtime.getRuntime().availableProcessors());
+    }
+
+    // 보관 중인 객체 (없으면 null, 호출 쪽에서 새로 만든다)
+    public T poll(){
+        return idle.poll();
+    }
+
+    // 다 쓴 객체 반납 (처음 상태로 되돌린 뒤에만)
+    public void release(T item){
+        idle.offer(item);
+    }
+}
@@ -0,0 +1,80 @@
+package com.myrecipe.common.concurrency;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 크기가 고정된 다중 생산자 / 단일 소비자 링 버퍼
+ * - 칸마다 시퀀스 번호를 두고 생산자는 tail 을 CAS 로 한 칸씩 예약한다 (락, 노드 할당 없음).
+ * - 가득 차면 기다리지 않고 offer 가 false 를 돌려준다 (요청 스레드를 막지 않기 위해 버리는 쪽을 택함).
+ * - drain 은 한 스레드에서만 호출해야 한다.
+ */
+public final class MpscRingBuffer<E> {
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    // 칸 i 의 시퀀스: 비어 있으면 다음에 쓸 위치, 채워졌으면 위치 + 1
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    public MpscRingBuffer(int capacity){
+        if(capacity < 2) throw new IllegalArgumentException("capacity must be >= 2");
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for(int i = 0; i < size; i++){
+            sequences.setPlain(i, i);
+        }
+    }
+
+    public boolean offer(E element){
+        long position = tail.get();
+        while(true){
+            int index = (int) (position & mask);
+            long diff = sequences.getAcquire(index) - position;
+            if(diff == 0){
+                if(tail.compareAndSet(position, position + 1)){
+                    slots.setPlain(index, element);
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if(diff < 0){
+                // 소비자가 아직 한 바퀴 전 값을 꺼내지 않음 = 가득 참
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    // 꺼낸 개수를 반환, 최대 limit 개
+    public int drain(Consumer<? super E> consumer, int limit){
+        long position = head.getPlain();
+        int drained = 0;
+        while(drained < limit){
+            int index = (int) (position & mask);
+            if(sequences.getAcquire(index) != position + 1) break;
+            E element = slots.getPlain(index);
+            slots.setPlain(index, null);
+            sequences.setRelease(index, position + mask + 1);
+            position++;
+            drained++;
+            consumer.accept(element);
+        }
+        head.setRelease(position);
+        return drained;
+    }
+
+    public int capacity(){
+        return mask + 1;
+    }
+
+    // 다른 스레드에서 읽으면 근사값
+    public int size(){
+        return (int) Math.max(0, tail.get() - head.getAcquire());
+    }
+}
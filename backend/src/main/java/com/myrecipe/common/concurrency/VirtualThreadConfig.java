@@ -0,0 +1,51 @@
+package com.myrecipe.common.concurrency;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 모드 (spring.threads.virtual.enabled=true) 전용 설정
+ * 톰캣 요청 처리, @Async, @Scheduled 는 스프링 부트가 가상 스레드로 전환하고,
+ * 여기서는 HikariCP 앞에 동시 접근 제한을 걸고 pinning 감시를 켠다.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            @Value("${virtual-threads.connection-acquire-timeout:PT3S}") Duration acquireTimeout,
+            ObjectProvider<MeterRegistry> meterRegistry){
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName){
+                if(!(bean instanceof HikariDataSource hikari)){
+                    return bean;
+                }
+                ConnectionLimitingDataSource limited = new ConnectionLimitingDataSource(hikari, hikari.getMaximumPoolSize(), acquireTimeout);
+                meterRegistry.ifAvailable(registry -> {
+                    Gauge.builder("db.connection.limiter.waiting", limited, ConnectionLimitingDataSource::waitingThreads).register(registry);
+                    Gauge.builder("db.connection.limiter.available", limited, ConnectionLimitingDataSource::availablePermits).register(registry);
+                });
+                return limited;
+            }
+        };
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${virtual-threads.pinning-threshold:PT0.02S}") Duration threshold){
+        return new VirtualThreadPinningMonitor(meterRegistry, threshold);
+    }
+}
@@ -0,0 +1,64 @@
+package com.myrecipe.common.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 pinning 감시
+ * synchronized 블록 안에서 블로킹하는 등 가상 스레드가 캐리어 스레드를 붙잡은 채 threshold 이상 멈추면
+ * JFR jdk.VirtualThreadPinned 이벤트를 받아 메트릭을 올리고 스택 상단을 로그로 남긴다.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor {
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final Counter pinnedCount;
+    private final Timer pinnedDuration;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold){
+        this.threshold = threshold;
+        this.pinnedCount = Counter.builder("jvm.threads.virtual.pinned").register(meterRegistry);
+        this.pinnedDuration = Timer.builder("jvm.threads.virtual.pinned.duration").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start(){
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    void stop(){
+        if(stream != null){
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event){
+        pinnedCount.increment();
+        pinnedDuration.record(event.getDuration());
+
+        if(event.getStackTrace() != null){
+            List<RecordedFrame> frames = event.getStackTrace().getFrames();
+            String top = frames.stream().limit(LOGGED_FRAMES)
+                    .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                    .collect(Collectors.joining(" <- "));
+            log.warn("가상 스레드 pinning {}ms: {}", event.getDuration().toMillis(), top);
+        }
+    }
+}
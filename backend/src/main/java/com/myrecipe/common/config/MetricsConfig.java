@@ -0,0 +1,38 @@
+package com.myrecipe.common.config;
+
+import com.myrecipe.common.metrics.RequestMetricsInterceptor;
+import com.myrecipe.common.metrics.SqlStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 요청 단위 메트릭 (컨트롤러 메서드 타이머 + 요청당 SQL 수)
+ * 리포지토리 메서드(spring.data.repository.invocations), Hikari, Hibernate 통계는 actuator 자동 설정으로 수집된다.
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+    private final MeterRegistry meterRegistry;
+    private final int sqlWarnThreshold;
+
+    public MetricsConfig(MeterRegistry meterRegistry,
+                         @Value("${request-metrics.sql-warn-threshold:20}") int sqlWarnThreshold){
+        this.meterRegistry = meterRegistry;
+        this.sqlWarnThreshold = sqlWarnThreshold;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry){
+        registry.addInterceptor(new RequestMetricsInterceptor(meterRegistry, sqlWarnThreshold));
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(){
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+}
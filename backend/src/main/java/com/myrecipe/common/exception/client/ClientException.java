@@ -0,0 +1,17 @@
+package com.myrecipe.common.exception.client;
+
+import lombok.Getter;
+
+/**
+ * 예상된 클라이언트 오류(4xx) 공통 부모
+ * 응답과 로그에는 메시지/에러코드만 쓰므로 스택 트레이스를 만들지 않는다 (fillInStackTrace 비용 제거).
+ */
+@Getter
+public abstract class ClientException extends RuntimeException {
+    private final String errorCode;
+
+    protected ClientException(String message, String errorCode) {
+        super(message, null, false, false);
+        this.errorCode = errorCode;
+    }
+}
@@ -1,13 +1,7 @@
 package com.myrecipe.common.exception.client;
 
-import lombok.Getter;
-
-@Getter
-public class DuplicateEmailException extends RuntimeException {
-    private final String errorCode;
-
+public class DuplicateEmailException extends ClientException {
     public DuplicateEmailException(String message) {
-        super(message);
-        this.errorCode = "ERR_DUPLICATE_EMAIL";
+        super(message, "ERR_DUPLICATE_EMAIL");
     }
 }
@@ -0,0 +1,11 @@
+package com.myrecipe.common.exception.client;
+
+public class ForbiddenException extends ClientException {
+    public ForbiddenException(String message) {
+        super(message, "ERR_COMMON_FORBIDDEN");
+    }
+
+    public ForbiddenException(String message, String errorCode) {
+        super(message, errorCode);
+    }
+}
@@ -0,0 +1,11 @@
+package com.myrecipe.common.exception.client;
+
+public class InvalidRequestException extends ClientException {
+    public InvalidRequestException(String message) {
+        super(message, "ERR_COMMON_INVALID_REQUEST");
+    }
+
+    public InvalidRequestException(String message, String errorCode) {
+        super(message, errorCode);
+    }
+}
@@ -1,23 +1,15 @@
 package com.myrecipe.common.exception.client;
 
-import lombok.Getter;
-
-@Getter
-public class ResourceNotFoundException extends RuntimeException {
-    private final String errorCode;
-
+public class ResourceNotFoundException extends ClientException {
     public ResourceNotFoundException(String message) {
-        super(message);
-        this.errorCode = "ERR_COMMON_NOT_FOUND";
+        super(message, "ERR_COMMON_NOT_FOUND");
     }
 
     public ResourceNotFoundException(String message, String errorCode) {
-        super(message);
-        this.errorCode = errorCode;
+        super(message, errorCode);
     }
 
     public ResourceNotFoundException(String message, String errorCode, String debugMessage) {
-        super(message);
-        this.errorCode = errorCode;
+        super(message, errorCode);
     }
 }
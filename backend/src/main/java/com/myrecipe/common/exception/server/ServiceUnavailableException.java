@@ -0,0 +1,18 @@
+package com.myrecipe.common.exception.server;
+
+import lombok.Getter;
+
+@Getter
+public class ServiceUnavailableException extends RuntimeException {
+    private final String errorCode;
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+        this.errorCode = "ERR_COMMON_SERVICE_UNAVAILABLE";
+    }
+
+    public ServiceUnavailableException(String message, String errorCode) {
+        super(message);
+        this.errorCode = errorCode;
+    }
+}
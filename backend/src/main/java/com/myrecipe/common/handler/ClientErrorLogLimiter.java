@@ -0,0 +1,54 @@
+package com.myrecipe.common.handler;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 반복되는 4xx 로그 제한
+ * 에러 코드별로 1초마다 permitsPerSecond 건까지만 로그를 남기고, 넘는 건은 건수만 세었다가 다음 로그에 붙인다.
+ * (스캐너/크리덴셜 스터핑 트래픽이 로그 I/O 를 잡아먹지 않도록)
+ */
+@Component
+public class ClientErrorLogLimiter {
+    private final int permitsPerSecond;
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    public ClientErrorLogLimiter(@Value("${error-response.client-log-per-second:10}") int permitsPerSecond){
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    /**
+     * @return 로그를 남겨야 하면 그 사이 생략된 건수(0 이상), 생략해야 하면 -1
+     */
+    public long acquire(String errorCode){
+        return acquire(errorCode, System.currentTimeMillis());
+    }
+
+    long acquire(String errorCode, long nowMillis){
+        Window window = windows.computeIfAbsent(errorCode == null ? "" : errorCode, key -> new Window());
+        return window.acquire(nowMillis / 1000, permitsPerSecond);
+    }
+
+    // 경계 시점에 몇 건 더/덜 남는 정도의 오차는 허용한다
+    private static final class Window {
+        private final AtomicLong second = new AtomicLong(Long.MIN_VALUE);
+        private final AtomicInteger used = new AtomicInteger();
+        private final AtomicLong suppressed = new AtomicLong();
+
+        long acquire(long now, int permits){
+            long current = second.get();
+            if(current != now && second.compareAndSet(current, now)){
+                used.set(0);
+            }
+            if(used.incrementAndGet() <= permits){
+                return suppressed.getAndSet(0);
+            }
+            suppressed.incrementAndGet();
+            return -1;
+        }
+    }
+}
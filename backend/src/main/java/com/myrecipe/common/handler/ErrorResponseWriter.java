@@ -0,0 +1,117 @@
+package com.myrecipe.common.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myrecipe.common.dto.ErrorResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 에러 응답 본문 직렬화
+ * - 요청마다 같은 부분(status, error, errorCode, message)은 처음 한 번만 직렬화해서 캐시하고,
+ *   timestamp / path / traceId 만 붙여서 바로 byte[] 로 만든다.
+ * - 결과는 ErrorResponse 를 ObjectMapper 로 직렬화한 것과 필드 순서/형식이 같다.
+ * - 메시지에 요청 값이 들어가는 응답(유효성 검사 등)은 cacheable=false 로 매번 직렬화한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ErrorResponseWriter {
+    // 에러코드/메시지는 코드에 고정된 값이라 많지 않다 (혹시 모를 증가에 대비한 상한)
+    private static final int MAX_CACHED = 512;
+    private static final byte[] TIMESTAMP_PREFIX = "{\"timestamp\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PATH_PREFIX = "\"path\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRACE_ID_PREFIX = "\",\"traceId\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SUFFIX = "\"}".getBytes(StandardCharsets.US_ASCII);
+
+    private final ObjectMapper objectMapper;
+    private final ConcurrentHashMap<Key, byte[]> fixedParts = new ConcurrentHashMap<>();
+
+    public ResponseEntity<byte[]> toResponse(HttpStatus status, String errorCode, String message, String path, String traceId, boolean cacheable){
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(toBytes(status, errorCode, message, path, traceId, cacheable));
+    }
+
+    /**
+     * 필터/EntryPoint 처럼 컨트롤러 밖에서 응답을 직접 쓸 때
+     */
+    public void write(HttpServletResponse response, HttpStatus status, String errorCode, String message, String path, String traceId) throws IOException {
+        byte[] body = toBytes(status, errorCode, message, path, traceId, true);
+        response.setStatus(status.value());
+        response.setContentType("application/json;charset=UTF-8");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    public byte[] toBytes(HttpStatus status, String errorCode, String message, String path, String traceId, boolean cacheable){
+        if(!cacheable){
+            return serialize(ErrorResponse.of(status, errorCode, message, path, traceId));
+        }
+        byte[] fixed = fixedPart(status, errorCode, message);
+        byte[] timestamp = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(LocalDateTime.now()).getBytes(StandardCharsets.US_ASCII);
+        byte[] escapedPath = JsonStringEncoder.getInstance().quoteAsUTF8(path == null ? "" : path);
+        byte[] escapedTraceId = JsonStringEncoder.getInstance().quoteAsUTF8(traceId);
+
+        byte[] body = new byte[TIMESTAMP_PREFIX.length + timestamp.length + fixed.length + PATH_PREFIX.length
+                + escapedPath.length + TRACE_ID_PREFIX.length + escapedTraceId.length + SUFFIX.length];
+        int offset = 0;
+        offset = append(body, offset, TIMESTAMP_PREFIX);
+        offset = append(body, offset, timestamp);
+        offset = append(body, offset, fixed);
+        offset = append(body, offset, PATH_PREFIX);
+        offset = append(body, offset, escapedPath);
+        offset = append(body, offset, TRACE_ID_PREFIX);
+        offset = append(body, offset, escapedTraceId);
+        append(body, offset, SUFFIX);
+        return body;
+    }
+
+    // "\",\"status\":401,\"error\":\"UNAUTHORIZED\",\"errorCode\":\"...\",\"message\":\"...\","
+    private byte[] fixedPart(HttpStatus status, String errorCode, String message){
+        Key key = new Key(status, errorCode, message);
+        byte[] cached = fixedParts.get(key);
+        if(cached != null){
+            return cached;
+        }
+        byte[] fixed = ("\",\"status\":" + status.value()
+                + ",\"error\":" + quote(status.name())
+                + ",\"errorCode\":" + quote(errorCode)
+                + ",\"message\":" + quote(message)
+                + ",").getBytes(StandardCharsets.UTF_8);
+        if(fixedParts.size() < MAX_CACHED){
+            fixedParts.putIfAbsent(key, fixed);
+        }
+        return fixed;
+    }
+
+    private String quote(String value){
+        return value == null ? "null" : "\"" + new String(JsonStringEncoder.getInstance().quoteAsString(value)) + "\"";
+    }
+
+    private byte[] serialize(ErrorResponse response){
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("에러 응답 직렬화 실패", e);
+        }
+    }
+
+    private static int append(byte[] target, int offset, byte[] source){
+        System.arraycopy(source, 0, target, offset, source.length);
+        return offset + source.length;
+    }
+
+    private record Key(HttpStatus status, String errorCode, String message) {
+    }
+}
@@ -1,93 +1,128 @@
 package com.myrecipe.common.handler;
 
-import com.myrecipe.common.dto.ErrorResponse;
 import com.myrecipe.common.exception.client.DuplicateEmailException;
+import com.myrecipe.common.exception.client.ForbiddenException;
+import com.myrecipe.common.exception.client.InvalidRequestException;
 import com.myrecipe.common.exception.client.ResourceNotFoundException;
 import com.myrecipe.common.exception.client.UnauthorizedException;
 import com.myrecipe.common.exception.server.DataPersistenceException;
+import com.myrecipe.common.exception.server.ServiceUnavailableException;
+import com.myrecipe.common.trace.TraceIdFilter;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
-import java.util.UUID;
+import java.sql.SQLTransientConnectionException;
 
+/**
+ * 전역 예외 처리
+ * - 4xx: 예상된 오류이므로 스택 트레이스 없이 에러 코드별로 제한된 건수만 로그를 남긴다 (ClientErrorLogLimiter)
+ * - 5xx: 항상 스택 트레이스까지 남긴다
+ * - 추적 id 는 TraceIdFilter 가 정한 값을 쓰고 (로그에는 MDC 로 찍힌다), 본문은 ErrorResponseWriter 가 만든다
+ */
 @ControllerAdvice
 @Slf4j
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
+    private final ErrorResponseWriter errorResponseWriter;
+    private final ClientErrorLogLimiter clientErrorLogLimiter;
+
     /**
      * UnauthorizedException 처리 (HTTP 401 Unauthorized)
      */
     @ExceptionHandler(UnauthorizedException.class)
-    public ResponseEntity<ErrorResponse> handleUnauthorizedException(UnauthorizedException ex, HttpServletRequest request) {
-        // 예외 발생 시 분석을 위한 로깅
-        String traceId = generateTraceId();
-        log.warn("[{}] Unauthorized access attempt: Message='{}', ErrorCode='{}'",
-                traceId, ex.getMessage(), ex.getErrorCode(), ex);
-
-        // 에러 응답
-        ErrorResponse errorResponse = ErrorResponse.of(
-                HttpStatus.UNAUTHORIZED,
-                ex.getErrorCode(),
-                ex.getMessage(),
-                request.getRequestURI(),
-                traceId
-        );
-        return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
+    public ResponseEntity<byte[]> handleUnauthorizedException(UnauthorizedException ex, HttpServletRequest request) {
+        return clientError(HttpStatus.UNAUTHORIZED, ex.getErrorCode(), ex.getMessage(), "Unauthorized access attempt", request);
+    }
+
+    /**
+     * 서명/형식이 잘못되었거나 만료된 JWT (재발급/로그아웃 요청의 Refresh Token) 처리 (HTTP 401 Unauthorized)
+     */
+    @ExceptionHandler(JwtException.class)
+    public ResponseEntity<byte[]> handleJwtException(JwtException ex, HttpServletRequest request) {
+        return clientError(HttpStatus.UNAUTHORIZED, "ERR_COMMON_UNAUTHORIZED", "유효하지 않은 토큰입니다.", "Invalid token", request);
     }
 
     /**
      * ResourceNotFoundException 처리 (HTTP 404 Not Found)
      */
     @ExceptionHandler(ResourceNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handleResourceNotFoundException(ResourceNotFoundException ex, HttpServletRequest request) {
-        // 예외 발생 시 분석을 위한 로깅
-        String traceId = generateTraceId();
-        log.warn("[{}] Resource not found: Message='{}', ErrorCode='{}'",
-                traceId, ex.getMessage(), ex.getErrorCode(), ex);
-
-        // 에러 응답
-        ErrorResponse errorResponse = ErrorResponse.of(
-                HttpStatus.NOT_FOUND,
-                ex.getErrorCode(),
-                ex.getMessage(),
-                request.getRequestURI(),
-                traceId
-        );
-        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    public ResponseEntity<byte[]> handleResourceNotFoundException(ResourceNotFoundException ex, HttpServletRequest request) {
+        return clientError(HttpStatus.NOT_FOUND, ex.getErrorCode(), ex.getMessage(), "Resource not found", request);
     }
 
     /**
-     * DataPersistenceException (데이터 처리 오류) 처리 (HTTP 500 Internal Server Error)
+     * ForbiddenException 처리 (HTTP 403 Forbidden)
      */
-    @ExceptionHandler(DataPersistenceException.class)
-    public ResponseEntity<ErrorResponse> handleDataPersistenceException(DataPersistenceException ex, HttpServletRequest request) {
-        // 예외 발생 시 분석을 위한 로깅
-        String traceId = generateTraceId();
-        log.error("[{}] Data Persistence Error: Message='{}', ErrorCode='{}'",
-                traceId, ex.getMessage(), ex.getErrorCode(), ex);
-
-        // 에러 응답
-        ErrorResponse errorResponse = ErrorResponse.of(
-                HttpStatus.INTERNAL_SERVER_ERROR,
-                ex.getErrorCode(),
-                ex.getMessage(),
-                request.getRequestURI(),
-                traceId
-        );
-        return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+    @ExceptionHandler(ForbiddenException.class)
+    public ResponseEntity<byte[]> handleForbiddenException(ForbiddenException ex, HttpServletRequest request) {
+        return clientError(HttpStatus.FORBIDDEN, ex.getErrorCode(), ex.getMessage(), "Forbidden", request);
+    }
+
+    /**
+     * InvalidRequestException 처리 (HTTP 400 Bad Request)
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<byte[]> handleInvalidRequestException(InvalidRequestException ex, HttpServletRequest request) {
+        return clientError(HttpStatus.BAD_REQUEST, ex.getErrorCode(), ex.getMessage(), "Invalid request", request);
+    }
+
+    /**
+     * DataIntegrityViolationException 이메일 UNIQUE 위반
+     */
+    @ExceptionHandler(DuplicateEmailException.class)
+    public ResponseEntity<byte[]> handleDuplicateEmailException(DuplicateEmailException ex, HttpServletRequest request) {
+        return clientError(HttpStatus.BAD_REQUEST, ex.getErrorCode(), ex.getMessage(), "Duplicate", request);
+    }
+
+    /**
+     * 스프링 MVC 요청 오류 (없는 경로, 지원하지 않는 메서드/미디어 타입, 필수 파라미터 누락)
+     * 스캐너 트래픽 대부분이 여기로 들어오므로 500 이 아니라 해당 4xx 로 응답한다
+     */
+    @ExceptionHandler({NoResourceFoundException.class, HttpRequestMethodNotSupportedException.class,
+            HttpMediaTypeNotSupportedException.class, HttpMediaTypeNotAcceptableException.class,
+            MissingServletRequestParameterException.class})
+    public ResponseEntity<byte[]> handleSpringMvcException(Exception ex, HttpServletRequest request) {
+        HttpStatus status = HttpStatus.valueOf(((org.springframework.web.ErrorResponse) ex).getStatusCode().value());
+        return switch (status) {
+            case NOT_FOUND -> clientError(status, "ERR_COMMON_NOT_FOUND", "요청한 리소스를 찾을 수 없습니다.", "No handler", request);
+            case METHOD_NOT_ALLOWED -> clientError(status, "ERR_COMMON_METHOD_NOT_ALLOWED", "지원하지 않는 요청 메서드입니다.", "Method not allowed", request);
+            case UNSUPPORTED_MEDIA_TYPE, NOT_ACCEPTABLE -> clientError(status, "ERR_COMMON_UNSUPPORTED_MEDIA_TYPE", "지원하지 않는 미디어 타입입니다.", "Unsupported media type", request);
+            default -> clientError(HttpStatus.BAD_REQUEST, "ERR_COMMON_INVALID_REQUEST", "잘못된 요청입니다.", "Invalid request", request);
+        };
+    }
+
+    /**
+     * 요청 본문 파싱 실패, 경로/쿼리 파라미터 타입 불일치 (HTTP 400 Bad Request)
+     */
+    @ExceptionHandler({HttpMessageNotReadableException.class, MethodArgumentTypeMismatchException.class})
+    public ResponseEntity<byte[]> handleMalformedRequestException(Exception ex, HttpServletRequest request) {
+        return clientError(HttpStatus.BAD_REQUEST, "ERR_COMMON_INVALID_REQUEST", "요청 형식이 올바르지 않습니다.", "Malformed request", request);
     }
 
     /**
      * MethodArgumentNotValidException (DTO 유효성 검사 실패) 처리 (HTTP 400 Bad Request)
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<ErrorResponse> handleMethodArgumentNotValidException(MethodArgumentNotValidException ex, HttpServletRequest request) {
+    public ResponseEntity<byte[]> handleMethodArgumentNotValidException(MethodArgumentNotValidException ex, HttpServletRequest request) {
         // 예외 메시지 파싱
         String defaultMessage = "유효성 검사 실패: ";
         String detailedMessage = ex.getBindingResult().getAllErrors().stream()
@@ -95,88 +130,88 @@ public class GlobalExceptionHandler {
                 .reduce((msg1, msg2) -> msg1 + "; " + msg2)
                 .orElse(defaultMessage);
 
-        // 예외 발생 시 분석을 위한 로깅
-        String traceId = generateTraceId();
-        log.warn("[{}] Validation failed: Message='{}', Path='{}'",
-                traceId, detailedMessage, request.getRequestURI(), ex);
-
-        // 에러 응답
-        ErrorResponse errorResponse = ErrorResponse.of(
-                HttpStatus.BAD_REQUEST,
-                "ERR_VALIDATION_FAILED",
-                detailedMessage,
-                request.getRequestURI(),
-                traceId
-        );
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        // 필드 목록이 들어간 메시지라 본문 캐시는 쓰지 않는다
+        logClientError("Validation failed", "ERR_VALIDATION_FAILED", detailedMessage, request);
+        return errorResponseWriter.toResponse(HttpStatus.BAD_REQUEST, "ERR_VALIDATION_FAILED", detailedMessage,
+                request.getRequestURI(), TraceIdFilter.traceId(request), false);
     }
+
     /**
-     * DataIntegrityViolationException 이메일 UNIQUE 위반
+     * DataPersistenceException (데이터 처리 오류) 처리 (HTTP 500 Internal Server Error)
      */
-    @ExceptionHandler(DuplicateEmailException.class)
-    public ResponseEntity<ErrorResponse> handleDuplicateEmailException(
-            DuplicateEmailException ex,
-            HttpServletRequest request
-    ){
-        String traceId = generateTraceId();
+    @ExceptionHandler(DataPersistenceException.class)
+    public ResponseEntity<byte[]> handleDataPersistenceException(DataPersistenceException ex, HttpServletRequest request) {
+        log.error("Data Persistence Error: Message='{}', ErrorCode='{}'", ex.getMessage(), ex.getErrorCode(), ex);
+        return response(HttpStatus.INTERNAL_SERVER_ERROR, ex.getErrorCode(), ex.getMessage(), request);
+    }
 
-        log.warn("[{}] Duplicate: Message='{}', Path='{}",
-                traceId, ex.getMessage(), request.getRequestURI(), ex);
+    /**
+     * DB 커넥션 획득 실패 처리
+     * 커넥션 대기 시간 초과(SQLTransientConnectionException)는 일시적 과부하이므로 503, 그 외에는 500
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class})
+    public ResponseEntity<byte[]> handleConnectionAcquireException(RuntimeException ex, HttpServletRequest request) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientConnectionException) {
+                return handleServiceUnavailableException(
+                        new ServiceUnavailableException("요청이 많아 잠시 후 다시 시도해주세요.", "ERR_COMMON_DB_BUSY"), request);
+            }
+        }
+        return handleAllUncaughtRuntimeException(ex, request);
+    }
 
-        ErrorResponse errorResponse = ErrorResponse.of(
-                HttpStatus.BAD_REQUEST,
-                ex.getErrorCode(),
-                ex.getMessage(),
-                request.getRequestURI(),
-                traceId
-        );
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    /**
+     * ServiceUnavailableException (일시적 과부하) 처리 (HTTP 503 Service Unavailable)
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<byte[]> handleServiceUnavailableException(ServiceUnavailableException ex, HttpServletRequest request) {
+        // 과부하 중에 로그까지 쏟아지지 않도록 4xx 와 같은 제한을 적용
+        logClientError("Service unavailable", ex.getErrorCode(), ex.getMessage(), request);
+        byte[] body = errorResponseWriter.toBytes(HttpStatus.SERVICE_UNAVAILABLE, ex.getErrorCode(), ex.getMessage(),
+                request.getRequestURI(), TraceIdFilter.traceId(request), true);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
     /**
      * RuntimeException (포괄적인 런타임 예외) 처리 (HTTP 500 Internal Server Error)
      */
     @ExceptionHandler(RuntimeException.class)
-    public ResponseEntity<ErrorResponse> handleAllUncaughtRuntimeException(RuntimeException ex, HttpServletRequest request) {
-        // 예외 발생 시 분석을 위한 로깅
-        String traceId = generateTraceId();
-        log.error("[{}] An unexpected runtime error occurred: Message='{}', Path='{}'",
-                traceId, ex.getMessage(), request.getRequestURI(), ex);
-
-        // 에러 응답
-        ErrorResponse errorResponse = ErrorResponse.of(
-                HttpStatus.INTERNAL_SERVER_ERROR,
-                "ERR_UNEXPECTED_RUNTIME",
-                "서버 내부 오류가 발생했습니다.",
-                request.getRequestURI(),
-                traceId
-        );
-        return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+    public ResponseEntity<byte[]> handleAllUncaughtRuntimeException(RuntimeException ex, HttpServletRequest request) {
+        log.error("An unexpected runtime error occurred: Message='{}', Path='{}'", ex.getMessage(), request.getRequestURI(), ex);
+        return response(HttpStatus.INTERNAL_SERVER_ERROR, "ERR_UNEXPECTED_RUNTIME", "서버 내부 오류가 발생했습니다.", request);
     }
 
     /**
      * Exception (포괄적인 예외) 처리 (HTTP 500 Internal Server Error)
      */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ErrorResponse> handleAllUncaughtException(Exception ex, HttpServletRequest request) {
-        // 예외 발생 시 분석을 위한 로깅
-        String traceId = generateTraceId();
-        log.error("[{}] An unexpected server error occurred: Message='{}', Path='{}'",
-                traceId, ex.getMessage(), request.getRequestURI(), ex);
-
-        // 에러 응답
-        ErrorResponse errorResponse = ErrorResponse.of(
-                HttpStatus.INTERNAL_SERVER_ERROR,
-                "ERR_COMMON_INTERNAL_SERVER_ERROR",
-                "서버 내부 오류가 발생했습니다.",
-                request.getRequestURI(),
-                traceId
-        );
-        return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
-    }
-
-    // 로그 추적을 위한 고유 식별 id (예: 550e84)
-    private String generateTraceId() {
-        return UUID.randomUUID().toString().replace("-", "").substring(0, 6);
+    public ResponseEntity<byte[]> handleAllUncaughtException(Exception ex, HttpServletRequest request) {
+        log.error("An unexpected server error occurred: Message='{}', Path='{}'", ex.getMessage(), request.getRequestURI(), ex);
+        return response(HttpStatus.INTERNAL_SERVER_ERROR, "ERR_COMMON_INTERNAL_SERVER_ERROR", "서버 내부 오류가 발생했습니다.", request);
+    }
+
+    private ResponseEntity<byte[]> clientError(HttpStatus status, String errorCode, String message, String event, HttpServletRequest request) {
+        logClientError(event, errorCode, message, request);
+        return response(status, errorCode, message, request);
+    }
+
+    private ResponseEntity<byte[]> response(HttpStatus status, String errorCode, String message, HttpServletRequest request) {
+        return errorResponseWriter.toResponse(status, errorCode, message, request.getRequestURI(), TraceIdFilter.traceId(request), true);
+    }
+
+    private void logClientError(String event, String errorCode, String message, HttpServletRequest request) {
+        long suppressed = clientErrorLogLimiter.acquire(errorCode);
+        if (suppressed < 0) {
+            return;
+        }
+        if (suppressed == 0) {
+            log.warn("{}: Message='{}', ErrorCode='{}', Path='{}'", event, message, errorCode, request.getRequestURI());
+        } else {
+            log.warn("{}: Message='{}', ErrorCode='{}', Path='{}' (같은 에러코드 로그 {}건 생략)",
+                    event, message, errorCode, request.getRequestURI(), suppressed);
+        }
     }
 }
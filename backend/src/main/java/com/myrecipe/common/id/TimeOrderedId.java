@@ -0,0 +1,18 @@
+package com.myrecipe.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * @Id 필드에 붙이면 insert 전에 TimeOrderedIdGenerator 로 id 를 채운다
+ * IDENTITY 와 달리 DB 가 id 를 만들 때까지 기다리지 않으므로 insert 를 JDBC 배치로 묶을 수 있다.
+ */
+@IdGeneratorType(TimeOrderedIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
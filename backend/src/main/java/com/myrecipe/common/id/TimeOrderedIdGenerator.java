@@ -0,0 +1,62 @@
+package com.myrecipe.common.id;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간순으로 증가하는 id 생성기 (DB 왕복 없음, 잠금 없음)
+ * - 구성: [41bit 경과 ms][4bit 노드][8bit 시퀀스] = 53bit
+ *   JSON 으로 내려가는 id 를 JS number 가 정확히 표현할 수 있도록(2^53 미만) 64bit 를 다 쓰지 않는다.
+ *   노드당 ms 마다 256개, 2025-01-01 부터 약 69년.
+ * - (ms, 시퀀스) 를 AtomicLong 하나에 담고 max(현재 시각, 직전 값 + 1) 로 갱신하므로,
+ *   같은 ms 에 256개를 넘기거나 시계가 뒤로 가도 기다리지 않고 다음 ms 를 앞당겨 쓴다 (항상 단조 증가).
+ * - 인스턴스마다 id.node-id 가 달라야 서로 겹치지 않는다.
+ */
+@Component
+public class TimeOrderedIdGenerator {
+    static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 4;
+    static final int SEQUENCE_BITS = 8;
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long node;
+    // (경과 ms << SEQUENCE_BITS) | 시퀀스
+    private final AtomicLong state = new AtomicLong();
+
+    public TimeOrderedIdGenerator(@Value("${id.node-id:0}") int nodeId, MeterRegistry meterRegistry){
+        if(nodeId < 0 || nodeId > MAX_NODE_ID){
+            throw new IllegalArgumentException("id.node-id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.node = nodeId;
+        Gauge.builder("id.generator.clock-lead", this, TimeOrderedIdGenerator::clockLeadMillis)
+                .description("ms 당 발급량을 넘겨 현재 시각보다 앞당겨 쓰고 있는 시간(ms)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    public long nextId(){
+        long now = (System.currentTimeMillis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long next = state.accumulateAndGet(now, (current, time) -> Math.max(time, current + 1));
+        return ((next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)) | (node << SEQUENCE_BITS) | (next & SEQUENCE_MASK);
+    }
+
+    // 사용자 핸들 등 외부에 보이는 짧은 문자열 (소문자 + 숫자, 최대 11자)
+    public String nextBase36(){
+        return Long.toString(nextId(), 36);
+    }
+
+    long clockLeadMillis(){
+        return Math.max(0, (state.get() >>> SEQUENCE_BITS) - (System.currentTimeMillis() - EPOCH_MILLIS));
+    }
+
+    // 해당 시각 이후에 만들어진 id 는 모두 이 값 이상
+    public static long floorOf(long epochMillis){
+        return Math.max(0, epochMillis - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS);
+    }
+}
@@ -0,0 +1,32 @@
+package com.myrecipe.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+/**
+ * @TimeOrderedId 용 hibernate id 생성기
+ * hibernate.cdi.extensions=true 일 때 hibernate 가 스프링 빈 컨테이너를 통해 만들므로(application.yml),
+ * 엔티티가 여러 개여도 실제 생성은 TimeOrderedIdGenerator 빈 하나가 맡는다.
+ * 이 설정이 꺼지면 hibernate 가 리플렉션으로 만들려다 기동에 실패한다 (주입받을 생성자만 있음).
+ */
+public class TimeOrderedIdentifierGenerator implements BeforeExecutionGenerator {
+    private final TimeOrderedIdGenerator generator;
+
+    public TimeOrderedIdentifierGenerator(TimeOrderedIdGenerator generator){
+        this.generator = generator;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType){
+        return generator.nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes(){
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
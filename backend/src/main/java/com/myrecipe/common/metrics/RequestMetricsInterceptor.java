@@ -0,0 +1,65 @@
+package com.myrecipe.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 컨트롤러 메서드별 지연 시간 / SQL 횟수
+ * - http.controller.requests: controller, method, status, exception 태그 타이머 (히스토그램은 management.metrics 설정)
+ * - http.controller.sql.statements: 요청 한 번에 실행한 SQL 수, 기준을 넘으면 경고 로그 (N+1 감지)
+ */
+@Slf4j
+public class RequestMetricsInterceptor implements HandlerInterceptor {
+    private static final String SAMPLE_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".sample";
+
+    private final MeterRegistry meterRegistry;
+    private final int sqlWarnThreshold;
+
+    public RequestMetricsInterceptor(MeterRegistry meterRegistry, int sqlWarnThreshold){
+        this.meterRegistry = meterRegistry;
+        this.sqlWarnThreshold = sqlWarnThreshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler){
+        if(handler instanceof HandlerMethod){
+            request.setAttribute(SAMPLE_ATTRIBUTE, Timer.start(meterRegistry));
+            SqlStatementCounter.begin();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex){
+        if(!(handler instanceof HandlerMethod handlerMethod) || !(request.getAttribute(SAMPLE_ATTRIBUTE) instanceof Timer.Sample sample)){
+            return;
+        }
+        int statements = SqlStatementCounter.end();
+        String controller = handlerMethod.getBeanType().getSimpleName();
+        String method = handlerMethod.getMethod().getName();
+        Tags handlerTags = Tags.of("controller", controller, "method", method);
+
+        sample.stop(Timer.builder("http.controller.requests")
+                .description("컨트롤러 메서드 처리 시간")
+                .tags(handlerTags)
+                .tag("status", Integer.toString(response.getStatus()))
+                .tag("exception", ex == null ? "none" : ex.getClass().getSimpleName())
+                .register(meterRegistry));
+        DistributionSummary.builder("http.controller.sql.statements")
+                .description("요청 한 번에 실행한 SQL 수")
+                .tags(handlerTags)
+                .register(meterRegistry)
+                .record(statements);
+
+        if(statements > sqlWarnThreshold){
+            log.warn("SQL {}회 실행: {}.{} ({} {})", statements, controller, method, request.getMethod(), request.getRequestURI());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.myrecipe.common.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 요청 단위 SQL 횟수 (Hibernate 가 SQL 문을 준비할 때마다 호출, JDBC 배치는 한 번으로 센다)
+ * 요청 스레드에서 begin() ~ end() 사이에 실행된 SQL 만 센다 (스케줄러/기동 작업은 제외).
+ * JdbcTemplate 으로 직접 보내는 SQL 은 Hibernate 를 거치지 않으므로 포함되지 않는다.
+ */
+public class SqlStatementCounter implements StatementInspector {
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    public static void begin(){
+        COUNT.set(new int[1]);
+    }
+
+    public static int end(){
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    @Override
+    public String inspect(String sql){
+        int[] count = COUNT.get();
+        if(count != null){
+            count[0]++;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,74 @@
+package com.myrecipe.common.trace;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 추적 id
+ * - 앞단(게이트웨이/클라이언트)이 X-Request-Id 를 보내면 그대로 쓰고, 없거나 형식이 이상하면 새로 만든다.
+ * - MDC(traceId) 에 넣어 요청 중 모든 로그에 찍히게 하고, 응답 헤더와 에러 응답 본문에도 같은 값을 내려준다.
+ * - 보안 필터보다 먼저 실행해서 인증 실패 응답에도 같은 id 가 들어가게 한다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TraceIdFilter extends OncePerRequestFilter {
+    public static final String HEADER = "X-Request-Id";
+    public static final String MDC_KEY = "traceId";
+    private static final String ATTRIBUTE = TraceIdFilter.class.getName() + ".traceId";
+    private static final int MAX_LENGTH = 64;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String incoming = request.getHeader(HEADER);
+        String traceId = isValid(incoming) ? incoming : generate();
+
+        request.setAttribute(ATTRIBUTE, traceId);
+        response.setHeader(HEADER, traceId);
+        MDC.put(MDC_KEY, traceId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    /**
+     * 현재 요청의 추적 id (필터를 거치지 않은 요청이면 새로 만든다)
+     */
+    public static String traceId(HttpServletRequest request){
+        return request.getAttribute(ATTRIBUTE) instanceof String traceId ? traceId : generate();
+    }
+
+    // 16자리 hex (UUID 문자열 생성/치환 없이 난수 하나로 만든다)
+    public static String generate(){
+        long value = ThreadLocalRandom.current().nextLong();
+        char[] chars = new char[16];
+        for(int i = 0; i < chars.length; i++){
+            chars[i] = HEX[(int) (value >>> (60 - 4 * i)) & 0xF];
+        }
+        return new String(chars);
+    }
+
+    // 로그/응답에 그대로 쓰므로 영문, 숫자, '-', '_', '.' 만 허용
+    private static boolean isValid(String value){
+        if(value == null || value.isEmpty() || value.length() > MAX_LENGTH) return false;
+        for(int i = 0; i < value.length(); i++){
+            char c = value.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.';
+            if(!allowed) return false;
+        }
+        return true;
+    }
+}
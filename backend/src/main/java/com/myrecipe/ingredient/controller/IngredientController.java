@@ -0,0 +1,25 @@
+package com.myrecipe.ingredient.controller;
+
+import com.myrecipe.ingredient.dto.IngredientSuggestion;
+import com.myrecipe.ingredient.service.IngredientService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/ingredients")
+public class IngredientController {
+    private final IngredientService ingredientService;
+
+    // 재료 이름 입력 중 자동완성 (초성 검색 지원: "ㅇㅍ" -> 양파)
+    @GetMapping("/autocomplete")
+    public List<IngredientSuggestion> autocomplete(@RequestParam("q") String query,
+                                                   @RequestParam(defaultValue = "10") int size){
+        return ingredientService.autocomplete(query, size);
+    }
+}
@@ -0,0 +1,131 @@
+package com.myrecipe.ingredient.dictionary;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * 자동완성용 읽기 전용 트라이 (원시 배열 기반)
+ * - 정렬된 키로 한 번에 만들고 이후에는 변경하지 않는다 (재료 사전이 바뀌면 새로 빌드해서 교체).
+ * - 형제 노드는 배열에서 연속된 칸을 차지하므로 자식 탐색은 이진 탐색 한 번이다.
+ * - 키가 정렬되어 있어 한 노드의 하위 키들은 [rangeStart, rangeEnd) 구간으로 표현된다.
+ *   따라서 접두어 검색 = 접두어 노드까지 내려간 뒤 그 구간을 앞에서부터 읽는 것.
+ */
+public final class CompactTrie {
+    private final char[] labels;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] rangeStart;
+    private final int[] rangeEnd;
+
+    private final int[] values; // 정렬된 키 순서의 payload (재료 id 등)
+
+    private CompactTrie(char[] labels, int[] firstChild, int[] childCount, int[] rangeStart, int[] rangeEnd, int[] values){
+        this.labels = labels;
+        this.firstChild = firstChild;
+        this.childCount = childCount;
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
+        this.values = values;
+    }
+
+    /**
+     * @param keys 정렬된 키 (중복 허용)
+     * @param values keys 와 같은 순서의 payload
+     */
+    public static CompactTrie build(String[] keys, int[] values){
+        int capacity = 1;
+        for(String key : keys) capacity += key.length();
+
+        char[] labels = new char[capacity];
+        int[] firstChild = new int[capacity];
+        int[] childCount = new int[capacity];
+        int[] rangeStart = new int[capacity];
+        int[] rangeEnd = new int[capacity];
+
+        // 루트 = 0번 노드, BFS 로 자식 블록을 연속 할당
+        int nodeCount = 1;
+        rangeEnd[0] = keys.length;
+        ArrayDeque<int[]> queue = new ArrayDeque<>(); // {node, depth}
+        queue.add(new int[]{0, 0});
+
+        while(!queue.isEmpty()){
+            int[] entry = queue.poll();
+            int node = entry[0];
+            int depth = entry[1];
+            int lo = rangeStart[node];
+            int hi = rangeEnd[node];
+
+            // 현재 깊이에서 끝나는 키는 정렬상 구간 맨 앞에 모여 있다
+            int i = lo;
+            while(i < hi && keys[i].length() == depth) i++;
+
+            firstChild[node] = nodeCount;
+            while(i < hi){
+                char c = keys[i].charAt(depth);
+                int start = i;
+                while(i < hi && keys[i].charAt(depth) == c) i++;
+
+                int child = nodeCount++;
+                labels[child] = c;
+                rangeStart[child] = start;
+                rangeEnd[child] = i;
+                queue.add(new int[]{child, depth + 1});
+            }
+            childCount[node] = nodeCount - firstChild[node];
+        }
+
+        return new CompactTrie(
+                Arrays.copyOf(labels, nodeCount),
+                Arrays.copyOf(firstChild, nodeCount),
+                Arrays.copyOf(childCount, nodeCount),
+                Arrays.copyOf(rangeStart, nodeCount),
+                Arrays.copyOf(rangeEnd, nodeCount),
+                values.clone()
+        );
+    }
+
+    /**
+     * 접두어로 시작하는 키들의 정렬 순서 구간 {start, end}, 없으면 {0, 0}
+     */
+    public long prefixRange(CharSequence prefix){
+        int node = 0;
+        for(int d = 0; d < prefix.length(); d++){
+            node = child(node, prefix.charAt(d));
+            if(node < 0) return 0L;
+        }
+        return ((long) rangeStart[node] << 32) | rangeEnd[node];
+    }
+
+    public static int rangeStart(long range){
+        return (int) (range >>> 32);
+    }
+
+    public static int rangeEnd(long range){
+        return (int) range;
+    }
+
+    public int value(int position){
+        return values[position];
+    }
+
+    public int size(){
+        return values.length;
+    }
+
+    public int nodeCount(){
+        return labels.length;
+    }
+
+    private int child(int node, char c){
+        int lo = firstChild[node];
+        int hi = lo + childCount[node] - 1;
+        while(lo <= hi){
+            int mid = (lo + hi) >>> 1;
+            char label = labels[mid];
+            if(label < c) lo = mid + 1;
+            else if(label > c) hi = mid - 1;
+            else return mid;
+        }
+        return -1;
+    }
+}
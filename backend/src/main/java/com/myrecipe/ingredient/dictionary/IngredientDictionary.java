@@ -0,0 +1,191 @@
+package com.myrecipe.ingredient.dictionary;
+
+import com.myrecipe.ingredient.domain.Ingredient;
+import com.myrecipe.ingredient.dto.IngredientSuggestion;
+import com.myrecipe.ingredient.quantity.Quantities;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 메모리 재료 사전
+ * - 정규화된 이름/동의어 -> 표준 재료
+ * - 이름 트라이 + 초성 트라이로 입력 중 자동완성
+ * 사전이 바뀌면 전체를 새로 빌드해서 참조만 교체한다 (조회는 잠금 없음).
+ */
+@Component
+public class IngredientDictionary {
+    private volatile Snapshot snapshot = Snapshot.build(List.of());
+
+    public void rebuild(Collection<Ingredient> ingredients){
+        this.snapshot = Snapshot.build(ingredients);
+    }
+
+    public int size(){
+        return snapshot.ids.length;
+    }
+
+    /**
+     * 이름 또는 동의어에 해당하는 표준 재료 id
+     */
+    public Optional<Long> resolveId(String rawName){
+        Snapshot current = snapshot;
+        Integer ordinal = current.ordinalByKey.get(IngredientNormalizer.normalize(rawName));
+        return ordinal == null ? Optional.empty() : Optional.of(current.ids[ordinal]);
+    }
+
+    /**
+     * 매칭용 키: 사전에 있으면 표준 재료 이름, 없으면 정규화된 입력 그대로
+     */
+    public String canonicalKey(String rawName){
+        Snapshot current = snapshot;
+        String normalized = IngredientNormalizer.normalize(rawName);
+        Integer ordinal = current.ordinalByKey.get(normalized);
+        return ordinal == null ? normalized : current.keys[ordinal];
+    }
+
+    /**
+     * 표준 재료 밀도 (ml 당 마이크로 g, 사전에 없거나 밀도 정보가 없으면 물 기준)
+     */
+    public long densityOf(Long ingredientId){
+        if(ingredientId == null) return Quantities.WATER_DENSITY;
+        Snapshot current = snapshot;
+        Integer ordinal = current.ordinalById.get(ingredientId);
+        return ordinal == null ? Quantities.WATER_DENSITY : current.densities[ordinal];
+    }
+
+    /**
+     * 표준 재료 분류 (사전에 없으면 null)
+     */
+    public String categoryOf(Long ingredientId){
+        if(ingredientId == null) return null;
+        Snapshot current = snapshot;
+        Integer ordinal = current.ordinalById.get(ingredientId);
+        return ordinal == null ? null : current.categories[ordinal];
+    }
+
+    /**
+     * 접두어(또는 초성) 자동완성, 사전 순
+     */
+    public List<IngredientSuggestion> autocomplete(String query, int limit){
+        String normalized = IngredientNormalizer.normalize(query);
+        if(normalized.isEmpty() || limit <= 0) return List.of();
+
+        Snapshot current = snapshot;
+        CompactTrie trie = IngredientNormalizer.isChoseongOnly(normalized) ? current.choseongTrie : current.nameTrie;
+        long range = trie.prefixRange(normalized);
+
+        int[] picked = new int[limit];
+        int count = 0;
+        for(int p = CompactTrie.rangeStart(range), end = CompactTrie.rangeEnd(range); p < end && count < limit; p++){
+            int ordinal = trie.value(p);
+            if(!contains(picked, count, ordinal)){
+                picked[count++] = ordinal;
+            }
+        }
+
+        List<IngredientSuggestion> result = new ArrayList<>(count);
+        for(int i = 0; i < count; i++){
+            int ordinal = picked[i];
+            result.add(new IngredientSuggestion(current.ids[ordinal], current.names[ordinal], current.categories[ordinal]));
+        }
+        return result;
+    }
+
+    private static boolean contains(int[] values, int length, int value){
+        for(int i = 0; i < length; i++){
+            if(values[i] == value) return true;
+        }
+        return false;
+    }
+
+    private static final class Snapshot {
+        // 재료 순번(ordinal) 기준 배열
+        final long[] ids;
+        final String[] names;
+        final String[] keys;
+        final String[] categories;
+        final long[] densities;
+
+        final Map<String, Integer> ordinalByKey;
+        final Map<Long, Integer> ordinalById;
+        final CompactTrie nameTrie;
+        final CompactTrie choseongTrie;
+
+        private Snapshot(long[] ids, String[] names, String[] keys, String[] categories, long[] densities,
+                         Map<String, Integer> ordinalByKey, Map<Long, Integer> ordinalById,
+                         CompactTrie nameTrie, CompactTrie choseongTrie){
+            this.ids = ids;
+            this.names = names;
+            this.keys = keys;
+            this.categories = categories;
+            this.densities = densities;
+            this.ordinalByKey = ordinalByKey;
+            this.ordinalById = ordinalById;
+            this.nameTrie = nameTrie;
+            this.choseongTrie = choseongTrie;
+        }
+
+        static Snapshot build(Collection<Ingredient> ingredients){
+            int n = ingredients.size();
+            long[] ids = new long[n];
+            String[] names = new String[n];
+            String[] keys = new String[n];
+            String[] categories = new String[n];
+            long[] densities = new long[n];
+            Map<String, Integer> ordinalByKey = new HashMap<>();
+            Map<Long, Integer> ordinalById = new HashMap<>();
+            List<Map.Entry<String, Integer>> terms = new ArrayList<>();
+
+            int ordinal = 0;
+            for(Ingredient ingredient : ingredients){
+                ids[ordinal] = ingredient.getId();
+                names[ordinal] = ingredient.getName();
+                keys[ordinal] = IngredientNormalizer.normalize(ingredient.getName());
+                categories[ordinal] = ingredient.getCategory();
+                densities[ordinal] = ingredient.getDensity() == null || ingredient.getDensity() <= 0
+                        ? Quantities.WATER_DENSITY
+                        : Math.round(ingredient.getDensity() * Quantities.MICROS);
+                ordinalById.put(ingredient.getId(), ordinal);
+
+                addTerm(ingredient.getName(), ordinal, ordinalByKey, terms);
+                ordinal++;
+            }
+
+            // 표준 이름을 모두 등록한 뒤 동의어 등록 -> 동의어가 다른 재료 이름과 겹치면 표준 이름이 우선
+            ordinal = 0;
+            for(Ingredient ingredient : ingredients){
+                for(String alias : ingredient.getAliases()){
+                    addTerm(alias, ordinal, ordinalByKey, terms);
+                }
+                ordinal++;
+            }
+
+            return new Snapshot(ids, names, keys, categories, densities, ordinalByKey, ordinalById,
+                    buildTrie(terms, false), buildTrie(terms, true));
+        }
+
+        private static void addTerm(String raw, int ordinal, Map<String, Integer> ordinalByKey, List<Map.Entry<String, Integer>> terms){
+            String key = IngredientNormalizer.normalize(raw);
+            if(key.isEmpty()) return;
+            ordinalByKey.putIfAbsent(key, ordinal);
+            terms.add(Map.entry(key, ordinal));
+        }
+
+        private static CompactTrie buildTrie(List<Map.Entry<String, Integer>> terms, boolean choseong){
+            List<Map.Entry<String, Integer>> sorted = new ArrayList<>(terms.size());
+            for(Map.Entry<String, Integer> term : terms){
+                sorted.add(choseong ? Map.entry(IngredientNormalizer.choseong(term.getKey()), term.getValue()) : term);
+            }
+            sorted.sort(Map.Entry.comparingByKey());
+
+            String[] keys = new String[sorted.size()];
+            int[] values = new int[sorted.size()];
+            for(int i = 0; i < keys.length; i++){
+                keys[i] = sorted.get(i).getKey();
+                values[i] = sorted.get(i).getValue();
+            }
+            return CompactTrie.build(keys, values);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.myrecipe.ingredient.dictionary;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 재료 이름 정규화
+ * - NFC 정규화 (자모가 분리된 입력을 완성형으로)
+ * - 공백 제거, 영문 소문자화  ("양파 ", " 양 파" -> "양파", "Onion" -> "onion")
+ * - 초성 추출 ("양파" -> "ㅇㅍ")
+ */
+public final class IngredientNormalizer {
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private IngredientNormalizer() {
+    }
+
+    public static String normalize(String name){
+        if(name == null) return "";
+        String composed = Normalizer.isNormalized(name, Normalizer.Form.NFC) ? name : Normalizer.normalize(name, Normalizer.Form.NFC);
+
+        StringBuilder sb = new StringBuilder(composed.length());
+        for(int i = 0; i < composed.length(); i++){
+            char c = composed.charAt(i);
+            if(!Character.isWhitespace(c)){
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 완성형 한글은 초성으로 바꾸고 나머지 문자는 그대로 둔다
+     */
+    public static String choseong(String normalized){
+        char[] chars = normalized.toCharArray();
+        for(int i = 0; i < chars.length; i++){
+            char c = chars[i];
+            if(c >= HANGUL_BEGIN && c <= HANGUL_END){
+                chars[i] = CHOSEONG[(c - HANGUL_BEGIN) / 588];
+            }
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 입력이 초성(ㄱ~ㅎ)만으로 이루어졌는지
+     */
+    public static boolean isChoseongOnly(String normalized){
+        if(normalized.isEmpty()) return false;
+        for(int i = 0; i < normalized.length(); i++){
+            char c = normalized.charAt(i);
+            if(c < 'ㄱ' || c > 'ㅎ') return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,42 @@
+package com.myrecipe.ingredient.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 표준 재료 (냉장고/레시피 재료 이름을 이 재료로 정규화한다)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "ingredient",
+        uniqueConstraints = @UniqueConstraint(name = "uk_ingredient_name", columnNames = "name")
+)
+public class Ingredient {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String name;
+
+    @Column(length = 30)
+    private String category;
+
+    // 밀도 (g/ml, 큰술/컵 <-> g 환산용, 없으면 물과 같다고 본다)
+    @Column(name = "density")
+    private Double density;
+
+    // 동의어 (예: 양파 -> onion)
+    @Builder.Default
+    @ElementCollection
+    @CollectionTable(name = "ingredient_alias", joinColumns = @JoinColumn(name = "ingredient_id"))
+    @Column(name = "alias", nullable = false, length = 50)
+    private Set<String> aliases = new HashSet<>();
+}
@@ -0,0 +1,12 @@
+package com.myrecipe.ingredient.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class IngredientSuggestion {
+    private Long id;
+    private String name;
+    private String category;
+}
@@ -0,0 +1,30 @@
+package com.myrecipe.ingredient.quantity;
+
+/**
+ * 수량 차원 (DB 에는 code 를 TINYINT 로 저장)
+ * 차원별 기준 단위: 개수 = 개, 무게 = g, 부피 = ml
+ */
+public enum Dimension {
+    COUNT((byte) 0),
+    MASS((byte) 1),
+    VOLUME((byte) 2);
+
+    private static final Dimension[] BY_CODE = values();
+
+    private final byte code;
+
+    Dimension(byte code){
+        this.code = code;
+    }
+
+    public byte code(){
+        return code;
+    }
+
+    public static Dimension fromCode(byte code){
+        if(code < 0 || code >= BY_CODE.length){
+            throw new IllegalArgumentException("unknown dimension code: " + code);
+        }
+        return BY_CODE[code];
+    }
+}
@@ -0,0 +1,20 @@
+package com.myrecipe.ingredient.quantity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * enum 순서가 바뀌어도 저장된 값이 달라지지 않도록 ordinal 대신 고정 code 로 저장
+ */
+@Converter(autoApply = true)
+public class DimensionConverter implements AttributeConverter<Dimension, Byte> {
+    @Override
+    public Byte convertToDatabaseColumn(Dimension dimension){
+        return dimension == null ? null : dimension.code();
+    }
+
+    @Override
+    public Dimension convertToEntityAttribute(Byte code){
+        return code == null ? null : Dimension.fromCode(code);
+    }
+}
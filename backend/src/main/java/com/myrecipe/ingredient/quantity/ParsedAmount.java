@@ -0,0 +1,7 @@
+package com.myrecipe.ingredient.quantity;
+
+/**
+ * 분량 문자열 해석 결과 (기준 단위 마이크로 값 + 차원)
+ */
+public record ParsedAmount(long micros, Dimension dimension) {
+}
@@ -0,0 +1,123 @@
+package com.myrecipe.ingredient.quantity;
+
+import com.myrecipe.common.exception.client.InvalidRequestException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 수량 계산 (기준 단위의 마이크로 값 long + Dimension)
+ * 재고 차감/비교처럼 반복 호출되는 계산은 객체를 만들지 않고 primitive 로만 처리한다.
+ * - 무게/부피 변환은 재료 밀도(ml 당 마이크로 g = g/ml x 1,000,000)를 사용
+ * - 개수 <-> 무게/부피처럼 변환할 수 없는 조합은 INCOMPATIBLE 반환
+ */
+public final class Quantities {
+    public static final long MICROS = 1_000_000L;
+    public static final long INCOMPATIBLE = Long.MIN_VALUE;
+    public static final long WATER_DENSITY = MICROS; // 1 g/ml (밀도 정보가 없는 재료 기본값)
+    // 입력 한 건의 상한: 기준 단위 100만 (1t, 1,000L, 100만 개). 인분 배수/합산을 해도 long 범위 안에 머물도록
+    public static final long MAX_MICROS = 1_000_000L * MICROS;
+
+    private static final BigDecimal MICROS_DECIMAL = BigDecimal.valueOf(MICROS);
+
+    private Quantities(){
+    }
+
+    /**
+     * 입력 수량 -> 기준 단위 마이크로 값 (마이크로 미만은 반올림, MAX_MICROS 초과는 거부)
+     */
+    public static long toMicros(BigDecimal amount, QuantityUnit unit){
+        if(amount.signum() < 0){
+            throw new InvalidRequestException("수량은 0 이상이어야 합니다.", "ERR_QUANTITY_NEGATIVE");
+        }
+        BigDecimal micros = amount.multiply(BigDecimal.valueOf(unit.micros())).setScale(0, RoundingMode.HALF_UP);
+        if(micros.compareTo(BigDecimal.valueOf(MAX_MICROS)) > 0){
+            throw tooLarge();
+        }
+        return micros.longValueExact();
+    }
+
+    /**
+     * 수량 합계/배수 (long 범위를 넘으면 ERR_QUANTITY_TOO_LARGE, 상한 도입 전에 저장된 값 대비)
+     */
+    public static long addExact(long a, long b){
+        try {
+            return Math.addExact(a, b);
+        } catch (ArithmeticException e){
+            throw tooLarge();
+        }
+    }
+
+    public static long multiplyExact(long a, long b){
+        try {
+            return Math.multiplyExact(a, b);
+        } catch (ArithmeticException e){
+            throw tooLarge();
+        }
+    }
+
+    /**
+     * 기준 단위 마이크로 값 -> 입력 단위 수량 (응답 표시용)
+     */
+    public static BigDecimal toAmount(long micros, QuantityUnit unit){
+        return plain(BigDecimal.valueOf(micros).divide(BigDecimal.valueOf(unit.micros()), 6, RoundingMode.HALF_UP));
+    }
+
+    public static BigDecimal toBaseAmount(long micros){
+        return plain(BigDecimal.valueOf(micros).divide(MICROS_DECIMAL));
+    }
+
+    /**
+     * 차원 변환 (from == to 면 그대로)
+     * @param density 재료 밀도 (ml 당 마이크로 g)
+     */
+    public static long convert(long micros, Dimension from, Dimension to, long density){
+        if(from == to) return micros;
+        if(from == Dimension.VOLUME && to == Dimension.MASS){
+            return mulDiv(micros, density, MICROS);
+        }
+        if(from == Dimension.MASS && to == Dimension.VOLUME && density > 0){
+            return mulDiv(micros, MICROS, density);
+        }
+        return INCOMPATIBLE;
+    }
+
+    /**
+     * 재고에서 필요량을 뺀 남은 양 (재고 차원 기준, 0 아래로는 내려가지 않음)
+     */
+    public static long subtract(long stock, Dimension stockDimension, long need, Dimension needDimension, long density){
+        long converted = convert(need, needDimension, stockDimension, density);
+        if(converted == INCOMPATIBLE) return INCOMPATIBLE;
+        return Math.max(0L, stock - converted);
+    }
+
+    /**
+     * 재고가 필요량보다 모자란 양 (필요량 차원 기준, 충분하면 0)
+     */
+    public static long shortage(long stock, Dimension stockDimension, long need, Dimension needDimension, long density){
+        long available = convert(stock, stockDimension, needDimension, density);
+        if(available == INCOMPATIBLE) return INCOMPATIBLE;
+        return Math.max(0L, need - available);
+    }
+
+    private static InvalidRequestException tooLarge(){
+        return new InvalidRequestException("수량이 너무 큽니다.", "ERR_QUANTITY_TOO_LARGE");
+    }
+
+    // 10 -> 1E+1 처럼 지수 표기로 직렬화되지 않도록 정수는 scale 0 으로
+    private static BigDecimal plain(BigDecimal value){
+        BigDecimal stripped = value.stripTrailingZeros();
+        return stripped.scale() < 0 ? stripped.setScale(0) : stripped;
+    }
+
+    // a * b / c 반올림 (중간 곱이 long 범위를 넘을 때만 double 로 계산)
+    private static long mulDiv(long a, long b, long c){
+        long high = Math.multiplyHigh(a, b);
+        long low = a * b;
+        if((high == 0 && low >= 0) || (high == -1 && low < 0)){
+            long half = c >>> 1;
+            return low >= 0 ? (low + half) / c : (low - half) / c;
+        }
+        return Math.round((double) a * b / c);
+    }
+}
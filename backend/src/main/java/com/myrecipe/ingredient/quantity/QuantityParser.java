@@ -0,0 +1,93 @@
+package com.myrecipe.ingredient.quantity;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Optional;
+
+/**
+ * 레시피 분량 문자열 해석 ("200g", "1/4포기", "1.5 컵", "2~3개", "반 개", "두 큰술")
+ * - 범위(2~3)는 큰 값을 쓴다 (장보기에서 모자라지 않도록)
+ * - "약간", "적당량" 처럼 숫자가 없는 분량은 해석하지 않는다 (Optional.empty)
+ * 레시피 저장 시 한 번만 해석해서 amount_micros / unit_dimension 으로 저장한다.
+ */
+public final class QuantityParser {
+    private static final String[] KOREAN_NUMBERS = {"반", "한", "두", "세", "네", "다섯"};
+    private static final String[] KOREAN_VALUES = {"0.5", "1", "2", "3", "4", "5"};
+
+    private QuantityParser(){
+    }
+
+    public static Optional<ParsedAmount> parse(String raw){
+        if(raw == null || raw.isBlank()) return Optional.empty();
+        String text = raw.strip();
+
+        int[] position = {0};
+        BigDecimal amount = readNumber(text, position);
+        if(amount == null){
+            amount = readKoreanNumber(text, position);
+            if(amount == null) return Optional.empty();
+        } else {
+            // 범위: 2~3, 2-3
+            int p = skipSpaces(text, position[0]);
+            if(p < text.length() && (text.charAt(p) == '~' || text.charAt(p) == '-')){
+                int[] upper = {skipSpaces(text, p + 1)};
+                BigDecimal max = readNumber(text, upper);
+                if(max != null){
+                    amount = amount.max(max);
+                    position[0] = upper[0];
+                }
+            }
+        }
+
+        int start = skipSpaces(text, position[0]);
+        int end = start;
+        while(end < text.length() && isUnitChar(text.charAt(end))) end++;
+        QuantityUnit unit = QuantityUnit.resolve(text.substring(start, end));
+        if(amount.signum() <= 0) return Optional.empty();
+        return Optional.of(new ParsedAmount(Quantities.toMicros(amount, unit), unit.dimension()));
+    }
+
+    // 정수, 소수, 분수(1/4)
+    private static BigDecimal readNumber(String text, int[] position){
+        int p = position[0];
+        int start = p;
+        while(p < text.length() && (Character.isDigit(text.charAt(p)) || text.charAt(p) == '.')) p++;
+        if(p == start) return null;
+        BigDecimal value;
+        try {
+            value = new BigDecimal(text.substring(start, p));
+        } catch (NumberFormatException e){
+            return null;
+        }
+        if(p + 1 < text.length() && text.charAt(p) == '/' && Character.isDigit(text.charAt(p + 1))){
+            int denominatorStart = ++p;
+            while(p < text.length() && Character.isDigit(text.charAt(p))) p++;
+            BigDecimal denominator = new BigDecimal(text.substring(denominatorStart, p));
+            if(denominator.signum() == 0) return null;
+            value = value.divide(denominator, 6, RoundingMode.HALF_UP);
+        }
+        position[0] = p;
+        return value;
+    }
+
+    private static BigDecimal readKoreanNumber(String text, int[] position){
+        for(int i = 0; i < KOREAN_NUMBERS.length; i++){
+            String word = KOREAN_NUMBERS[i];
+            // "한 컵", "두큰술" (분량 칸에만 쓰므로 수 관형사로 시작하면 수량으로 본다)
+            if(text.startsWith(word)){
+                position[0] = word.length();
+                return new BigDecimal(KOREAN_VALUES[i]);
+            }
+        }
+        return null;
+    }
+
+    private static int skipSpaces(String text, int p){
+        while(p < text.length() && Character.isWhitespace(text.charAt(p))) p++;
+        return p;
+    }
+
+    private static boolean isUnitChar(char c){
+        return Character.isLetter(c);
+    }
+}
@@ -0,0 +1,79 @@
+package com.myrecipe.ingredient.quantity;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 입력 단위 -> 기준 단위 환산 계수 (1 단위 = micros 마이크로 기준 단위)
+ * 한국 계량 기준: 1컵 200ml, 1큰술 15ml, 1작은술 5ml, 1근 600g
+ * 모르는 단위(포기, 단 등 포함)는 개수로 본다.
+ */
+public enum QuantityUnit {
+    MILLIGRAM(Dimension.MASS, 1_000L, "mg", "밀리그램"),
+    GRAM(Dimension.MASS, 1_000_000L, "g", "그램", "gram"),
+    KILOGRAM(Dimension.MASS, 1_000_000_000L, "kg", "킬로", "킬로그램"),
+    GEUN(Dimension.MASS, 600_000_000L, "근"),
+    MILLILITER(Dimension.VOLUME, 1_000_000L, "ml", "cc", "밀리리터", "미리"),
+    LITER(Dimension.VOLUME, 1_000_000_000L, "L", "l", "리터"),
+    CUP(Dimension.VOLUME, 200_000_000L, "컵", "cup"),
+    TABLESPOON(Dimension.VOLUME, 15_000_000L, "큰술", "T", "tbsp", "숟가락", "스푼", "밥숟가락"),
+    TEASPOON(Dimension.VOLUME, 5_000_000L, "작은술", "t", "tsp", "티스푼", "찻숟가락"),
+    PIECE(Dimension.COUNT, 1_000_000L, "개", "ea", "알", "장", "모", "봉", "봉지", "팩", "캔", "병", "쪽", "줄기", "마리", "포기", "단", "통", "토막");
+
+    private static final Map<String, QuantityUnit> BY_ALIAS = new HashMap<>();
+
+    static {
+        for(QuantityUnit unit : values()){
+            for(String alias : unit.aliases){
+                BY_ALIAS.put(alias, unit);
+            }
+        }
+    }
+
+    private final Dimension dimension;
+    private final long micros;
+    private final String[] aliases;
+
+    QuantityUnit(Dimension dimension, long micros, String... aliases){
+        this.dimension = dimension;
+        this.micros = micros;
+        this.aliases = aliases;
+    }
+
+    public Dimension dimension(){
+        return dimension;
+    }
+
+    // 1 단위의 기준 단위 마이크로 값
+    public long micros(){
+        return micros;
+    }
+
+    // 표시용 이름 (첫 번째 별칭)
+    public String label(){
+        return aliases[0];
+    }
+
+    /**
+     * 차원별 표시 단위 (1000g 이상은 kg, 1000ml 이상은 L)
+     */
+    public static QuantityUnit displayUnit(Dimension dimension, long micros){
+        return switch (dimension){
+            case MASS -> micros >= KILOGRAM.micros ? KILOGRAM : GRAM;
+            case VOLUME -> micros >= LITER.micros ? LITER : MILLILITER;
+            case COUNT -> PIECE;
+        };
+    }
+
+    /**
+     * 입력 단위 해석 (T/t 처럼 대소문자로 구분되는 단위를 먼저 보고, 없으면 소문자로 다시 찾는다)
+     */
+    public static QuantityUnit resolve(String raw){
+        if(raw == null) return PIECE;
+        String unit = raw.strip();
+        QuantityUnit exact = BY_ALIAS.get(unit);
+        if(exact != null) return exact;
+        return BY_ALIAS.getOrDefault(unit.toLowerCase(Locale.ROOT), PIECE);
+    }
+}
@@ -0,0 +1,12 @@
+package com.myrecipe.ingredient.repository;
+
+import com.myrecipe.ingredient.domain.Ingredient;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface IngredientRepository extends JpaRepository<Ingredient, Long> {
+    @Query("select distinct i from Ingredient i left join fetch i.aliases")
+    List<Ingredient> findAllWithAliases();
+}
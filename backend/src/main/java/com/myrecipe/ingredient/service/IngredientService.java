@@ -0,0 +1,73 @@
+package com.myrecipe.ingredient.service;
+
+import com.myrecipe.ingredient.dictionary.IngredientDictionary;
+import com.myrecipe.ingredient.domain.Ingredient;
+import com.myrecipe.ingredient.dto.IngredientSuggestion;
+import com.myrecipe.ingredient.repository.IngredientRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IngredientService {
+    private static final String SEED_PATH = "ingredients/seed.tsv";
+    private static final int MAX_SUGGESTIONS = 20;
+
+    private final IngredientRepository ingredientRepository;
+    private final IngredientDictionary ingredientDictionary;
+
+    /**
+     * 기동 시 재료 사전 적재 (테이블이 비어 있으면 기본 재료 seed 입력)
+     * 레시피 색인이 재료 이름을 표준 재료로 묶을 수 있도록 다른 기동 작업보다 먼저 실행
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void loadDictionary(){
+        if(ingredientRepository.count() == 0){
+            ingredientRepository.saveAll(readSeed());
+        }
+        List<Ingredient> ingredients = ingredientRepository.findAllWithAliases();
+        ingredientDictionary.rebuild(ingredients);
+        log.info("재료 사전 적재 완료: {}건", ingredients.size());
+    }
+
+    public List<IngredientSuggestion> autocomplete(String query, int size){
+        return ingredientDictionary.autocomplete(query, Math.min(size, MAX_SUGGESTIONS));
+    }
+
+    // 형식: 이름<TAB>분류<TAB>동의어1,동의어2<TAB>밀도(g/ml)
+    private List<Ingredient> readSeed(){
+        List<Ingredient> ingredients = new ArrayList<>();
+        try(BufferedReader reader = new BufferedReader(new InputStreamReader(new ClassPathResource(SEED_PATH).getInputStream(), StandardCharsets.UTF_8))){
+            String line;
+            while((line = reader.readLine()) != null){
+                if(line.isBlank() || line.startsWith("#")) continue;
+                String[] columns = line.split("\t");
+                Set<String> aliases = new HashSet<>();
+                if(columns.length > 2){
+                    Arrays.stream(columns[2].split(",")).map(String::strip).filter(a -> !a.isEmpty()).forEach(aliases::add);
+                }
+                Double density = columns.length > 3 && !columns[3].isBlank() ? Double.valueOf(columns[3].strip()) : null;
+                ingredients.add(Ingredient.builder().name(columns[0].strip()).category(columns[1].strip()).aliases(aliases).density(density).build());
+            }
+        } catch (IOException e){
+            log.warn("재료 seed 파일을 읽을 수 없습니다: {}", SEED_PATH, e);
+        }
+        return ingredients;
+    }
+}
@@ -0,0 +1,27 @@
+package com.myrecipe.mealplan.controller;
+
+import com.myrecipe.mealplan.dto.MealPlanResponse;
+import com.myrecipe.mealplan.service.MealPlanService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/meal-plan")
+public class MealPlanController {
+    private final MealPlanService mealPlanService;
+
+    // startDate 부터 7일 x 3끼 식단 (기본: 오늘부터)
+    @GetMapping
+    public MealPlanResponse createPlan(@AuthenticationPrincipal Long userId,
+                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate){
+        return mealPlanService.createPlan(userId, startDate == null ? LocalDate.now() : startDate);
+    }
+}
@@ -0,0 +1,14 @@
+package com.myrecipe.mealplan.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class MealPlanDayResponse {
+    private LocalDate date;
+    private List<MealPlanSlotResponse> meals;
+}
@@ -0,0 +1,17 @@
+package com.myrecipe.mealplan.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class MealPlanResponse {
+    private LocalDate startDate;
+    private List<MealPlanDayResponse> days;
+    private int purchaseCount; // 일주일 동안 사야 하는 재료 수
+    private int spoiledCount;  // 계획대로 해도 유통기한이 지나 버리게 되는 재료 수
+    private int repeatCount;   // 같은 레시피가 반복된 횟수
+}
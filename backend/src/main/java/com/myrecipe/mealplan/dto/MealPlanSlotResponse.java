@@ -0,0 +1,14 @@
+package com.myrecipe.mealplan.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MealPlanSlotResponse {
+    private MealType meal;
+    private Long recipeId;
+    private String title;
+    private String imageUrl;
+    private int missingCount; // 사야 하는 재료 수
+}
@@ -0,0 +1,5 @@
+package com.myrecipe.mealplan.dto;
+
+public enum MealType {
+    BREAKFAST, LUNCH, DINNER
+}
@@ -0,0 +1,8 @@
+package com.myrecipe.mealplan.optimizer;
+
+/**
+ * @param slots     슬롯별 후보 레시피 번호 (MealPlanProblem.recipeIngredients 의 인덱스)
+ * @param iterations 탐색에서 평가한 이웃 해 수 (greedy 만 쓴 경우 0)
+ */
+public record MealPlan(int[] slots, MealPlanScore score, long iterations) {
+}
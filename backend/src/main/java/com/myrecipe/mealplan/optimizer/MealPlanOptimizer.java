@@ -0,0 +1,133 @@
+package com.myrecipe.mealplan.optimizer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * 식단 최적화
+ * 1. greedy: 슬롯을 순서대로 채우면서 (사야 할 재료 + 반복) - (상하기 전에 쓰는 재고) 가 가장 작은 레시피를 고른다.
+ * 2. simulated annealing: greedy 해에서 시작해 "슬롯 하나 교체" / "두 슬롯 맞바꾸기" 이웃을 시간 예산 안에서 탐색한다.
+ *    온도는 경과 시간 비율에 따라 기하급수적으로 낮춘다.
+ * 3. 서로 다른 시드의 chain 을 ForkJoinPool 에서 병렬로 돌리고 가장 좋은 해를 고른다.
+ */
+public final class MealPlanOptimizer {
+    private static final double START_TEMPERATURE = 2.0;
+    private static final double END_TEMPERATURE = 0.02;
+    private static final int CLOCK_CHECK_INTERVAL = 256;
+
+    private final ForkJoinPool pool;
+
+    public MealPlanOptimizer(ForkJoinPool pool){
+        this.pool = pool;
+    }
+
+    public MealPlan optimize(MealPlanProblem problem, Duration budget, int chains, long seed){
+        int[] initial = greedy(problem);
+        if(budget.isZero() || budget.isNegative() || problem.candidateCount() < 2){
+            return new MealPlan(initial, problem.score(initial), 0);
+        }
+
+        long deadline = System.nanoTime() + budget.toNanos();
+        List<ForkJoinTask<MealPlan>> tasks = new ArrayList<>(chains);
+        for(int chain = 0; chain < chains; chain++){
+            long chainSeed = seed + chain * 0x9E3779B97F4A7C15L;
+            tasks.add(pool.submit(() -> anneal(problem, initial, deadline, budget.toNanos(), chainSeed)));
+        }
+
+        MealPlan best = null;
+        for(ForkJoinTask<MealPlan> task : tasks){
+            MealPlan plan = task.join();
+            if(best == null || plan.score().cost() < best.score().cost()){
+                best = plan;
+            }
+        }
+        long iterations = tasks.stream().mapToLong(task -> task.join().iterations()).sum();
+        return new MealPlan(best.slots(), best.score(), iterations);
+    }
+
+    static int[] greedy(MealPlanProblem problem){
+        int[] plan = new int[MealPlanProblem.SLOTS];
+        int[] remaining = new int[problem.lotCount()];
+        System.arraycopy(problem.lotUnits, 0, remaining, 0, remaining.length);
+        int[] uses = new int[problem.candidateCount()];
+        int[] probe = new int[remaining.length];
+
+        for(int slot = 0; slot < MealPlanProblem.SLOTS; slot++){
+            int day = slot / MealPlanProblem.MEALS_PER_DAY;
+            int best = 0;
+            double bestCost = Double.MAX_VALUE;
+            for(int recipe = 0; recipe < problem.candidateCount(); recipe++){
+                System.arraycopy(remaining, 0, probe, 0, remaining.length);
+                double cost = MealPlanProblem.PURCHASE_COST * problem.consume(recipe, day, probe)
+                        + MealPlanProblem.REPEAT_COST * uses[recipe]
+                        - MealPlanProblem.SPOIL_COST * problem.rescued(recipe, day, remaining);
+                if(cost < bestCost){
+                    bestCost = cost;
+                    best = recipe;
+                }
+            }
+            plan[slot] = best;
+            uses[best]++;
+            problem.consume(best, day, remaining);
+        }
+        return plan;
+    }
+
+    static MealPlan anneal(MealPlanProblem problem, int[] initial, long deadline, long budgetNanos, long seed){
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] remaining = new int[problem.lotCount()];
+        int[] uses = new int[problem.candidateCount()];
+
+        int[] current = initial.clone();
+        double currentCost = problem.cost(current, remaining, uses);
+        int[] best = current.clone();
+        double bestCost = currentCost;
+
+        double temperature = START_TEMPERATURE;
+        long iterations = 0;
+        while(true){
+            if((iterations & (CLOCK_CHECK_INTERVAL - 1)) == 0){
+                long left = deadline - System.nanoTime();
+                if(left <= 0) break;
+                double progress = 1.0 - (double) left / budgetNanos;
+                temperature = START_TEMPERATURE * Math.pow(END_TEMPERATURE / START_TEMPERATURE, progress);
+            }
+            iterations++;
+
+            int slot = random.nextInt(MealPlanProblem.SLOTS);
+            int other = -1;
+            int previous = current[slot];
+            if(random.nextInt(3) == 0){
+                // 순서만 바꿔도 유통기한 안에 쓸 수 있는지가 달라진다
+                other = random.nextInt(MealPlanProblem.SLOTS);
+                if(current[other] == previous) continue;
+                current[slot] = current[other];
+                current[other] = previous;
+            } else {
+                int recipe = random.nextInt(problem.candidateCount());
+                if(recipe == previous) continue;
+                current[slot] = recipe;
+            }
+
+            double cost = problem.cost(current, remaining, uses);
+            double delta = cost - currentCost;
+            if(delta <= 0 || random.nextDouble() < Math.exp(-delta / temperature)){
+                currentCost = cost;
+                if(cost < bestCost){
+                    bestCost = cost;
+                    System.arraycopy(current, 0, best, 0, best.length);
+                }
+            } else if(other >= 0){
+                current[other] = current[slot];
+                current[slot] = previous;
+            } else {
+                current[slot] = previous;
+            }
+        }
+        return new MealPlan(best, problem.score(best), iterations);
+    }
+}
@@ -0,0 +1,152 @@
+package com.myrecipe.mealplan.optimizer;
+
+import java.util.Arrays;
+
+/**
+ * 일주일 식단 최적화 문제 (배열만 사용하는 순수 계산 모델)
+ * - 슬롯: 7일 x 3끼 = 21개, 각 슬롯에 후보 레시피 하나를 배정한다.
+ * - 냉장고 재고는 재료별 lot(유통기한이 같은 묶음) 단위로 보관하고, 레시피 한 번에 재료마다 1회분을 쓴다.
+ *   같은 재료가 여러 lot 이면 유통기한이 빠른 lot 부터 쓴다.
+ * - 비용 = 사야 하는 재료 수 x PURCHASE + 계획 기간 안에 상해서 버리는 재고 x SPOIL + 같은 레시피 반복 x REPEAT
+ */
+public final class MealPlanProblem {
+    public static final int DAYS = 7;
+    public static final int MEALS_PER_DAY = 3;
+    public static final int SLOTS = DAYS * MEALS_PER_DAY;
+
+    static final double PURCHASE_COST = 1.0;
+    static final double SPOIL_COST = 2.0;
+    static final double REPEAT_COST = 0.7;
+
+    // 후보 레시피별 재료 (냉장고 재료 번호, 냉장고에 없는 재료는 -1)
+    final int[][] recipeIngredients;
+
+    // 냉장고 재료 번호별 lot 범위 [lotStart[i], lotStart[i + 1]) 와 lot 정보 (유통기한 오름차순)
+    final int[] lotStart;
+    final int[] lotUnits;
+    final int[] lotLastDay; // 계획 시작일 기준 마지막 사용 가능 일 (유통기한 없으면 Integer.MAX_VALUE)
+
+    /**
+     * @param recipeIngredients 후보 레시피별 재료의 냉장고 재료 번호 (-1 = 냉장고에 없음)
+     * @param lotIngredient     lot 별 냉장고 재료 번호
+     * @param lotUnits          lot 별 남은 회분
+     * @param lotLastDay        lot 별 마지막 사용 가능 일 (0 = 계획 첫날)
+     * @param ingredientCount   냉장고 재료 종류 수
+     */
+    public MealPlanProblem(int[][] recipeIngredients, int[] lotIngredient, int[] lotUnits, int[] lotLastDay, int ingredientCount){
+        this.recipeIngredients = recipeIngredients;
+
+        // 재료 번호 -> 유통기한 순으로 정렬해서 재료별 연속 구간으로 만든다
+        Integer[] order = new Integer[lotIngredient.length];
+        for(int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> lotIngredient[a] != lotIngredient[b]
+                ? Integer.compare(lotIngredient[a], lotIngredient[b])
+                : Integer.compare(lotLastDay[a], lotLastDay[b]));
+
+        this.lotStart = new int[ingredientCount + 1];
+        this.lotUnits = new int[order.length];
+        this.lotLastDay = new int[order.length];
+        for(int i = 0; i < order.length; i++){
+            this.lotUnits[i] = lotUnits[order[i]];
+            this.lotLastDay[i] = lotLastDay[order[i]];
+            this.lotStart[lotIngredient[order[i]] + 1]++;
+        }
+        for(int i = 0; i < ingredientCount; i++){
+            this.lotStart[i + 1] += this.lotStart[i];
+        }
+    }
+
+    public int candidateCount(){
+        return recipeIngredients.length;
+    }
+
+    /**
+     * 계획 비용 (remaining / uses 는 호출하는 쪽에서 재사용하는 작업 버퍼)
+     */
+    double cost(int[] plan, int[] remaining, int[] uses){
+        System.arraycopy(lotUnits, 0, remaining, 0, lotUnits.length);
+        Arrays.fill(uses, 0);
+
+        int purchases = 0;
+        int repeats = 0;
+        for(int slot = 0; slot < SLOTS; slot++){
+            int recipe = plan[slot];
+            if(uses[recipe]++ > 0) repeats++;
+            purchases += consume(recipe, slot / MEALS_PER_DAY, remaining);
+        }
+        return PURCHASE_COST * purchases + SPOIL_COST * spoiled(remaining) + REPEAT_COST * repeats;
+    }
+
+    /**
+     * 비용 내역 (응답용)
+     */
+    public MealPlanScore score(int[] plan){
+        int[] remaining = lotUnits.clone();
+        int[] uses = new int[candidateCount()];
+        int[] missingBySlot = new int[SLOTS];
+        int purchases = 0;
+        int repeats = 0;
+        for(int slot = 0; slot < SLOTS; slot++){
+            int recipe = plan[slot];
+            if(uses[recipe]++ > 0) repeats++;
+            missingBySlot[slot] = consume(recipe, slot / MEALS_PER_DAY, remaining);
+            purchases += missingBySlot[slot];
+        }
+        int spoiled = spoiled(remaining);
+        double cost = PURCHASE_COST * purchases + SPOIL_COST * spoiled + REPEAT_COST * repeats;
+        return new MealPlanScore(cost, purchases, spoiled, repeats, missingBySlot);
+    }
+
+    /**
+     * day 에 recipe 를 만들 때 재고를 쓰고, 사야 하는 재료 수를 반환
+     */
+    int consume(int recipe, int day, int[] remaining){
+        int missing = 0;
+        for(int ingredient : recipeIngredients[recipe]){
+            if(ingredient < 0 || !take(ingredient, day, remaining)){
+                missing++;
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * 계획 기간 안에 유통기한이 끝나는 lot 에서 쓰는 회분 수 (greedy 에서 "버릴 재고를 줄이는" 정도로 사용)
+     */
+    int rescued(int recipe, int day, int[] remaining){
+        int rescued = 0;
+        for(int ingredient : recipeIngredients[recipe]){
+            if(ingredient < 0) continue;
+            int lot = usableLot(ingredient, day, remaining);
+            if(lot >= 0 && lotLastDay[lot] < DAYS) rescued++;
+        }
+        return rescued;
+    }
+
+    int lotCount(){
+        return lotUnits.length;
+    }
+
+    private boolean take(int ingredient, int day, int[] remaining){
+        int lot = usableLot(ingredient, day, remaining);
+        if(lot < 0) return false;
+        remaining[lot]--;
+        return true;
+    }
+
+    // 유통기한이 지나지 않았고 남은 양이 있는 lot 중 가장 빨리 끝나는 것
+    private int usableLot(int ingredient, int day, int[] remaining){
+        for(int lot = lotStart[ingredient]; lot < lotStart[ingredient + 1]; lot++){
+            if(remaining[lot] > 0 && lotLastDay[lot] >= day) return lot;
+        }
+        return -1;
+    }
+
+    private int spoiled(int[] remaining){
+        int spoiled = 0;
+        for(int lot = 0; lot < remaining.length; lot++){
+            if(lotLastDay[lot] < DAYS) spoiled += remaining[lot];
+        }
+        return spoiled;
+    }
+}
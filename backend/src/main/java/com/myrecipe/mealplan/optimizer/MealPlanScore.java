@@ -0,0 +1,7 @@
+package com.myrecipe.mealplan.optimizer;
+
+/**
+ * @param missingBySlot 슬롯별 사야 하는 재료 수
+ */
+public record MealPlanScore(double cost, int purchases, int spoiled, int repeats, int[] missingBySlot) {
+}
@@ -0,0 +1,150 @@
+package com.myrecipe.mealplan.service;
+
+import com.myrecipe.common.exception.client.InvalidRequestException;
+import com.myrecipe.ingredient.quantity.Dimension;
+import com.myrecipe.ingredient.quantity.Quantities;
+import com.myrecipe.mealplan.dto.MealPlanDayResponse;
+import com.myrecipe.mealplan.dto.MealPlanResponse;
+import com.myrecipe.mealplan.dto.MealPlanSlotResponse;
+import com.myrecipe.mealplan.dto.MealType;
+import com.myrecipe.mealplan.optimizer.MealPlan;
+import com.myrecipe.mealplan.optimizer.MealPlanOptimizer;
+import com.myrecipe.mealplan.optimizer.MealPlanProblem;
+import com.myrecipe.recipe.dto.RecipeSummaryResponse;
+import com.myrecipe.recipe.repository.RecipeRepository;
+import com.myrecipe.recommendation.index.IngredientIdRegistry;
+import com.myrecipe.recommendation.index.RecipeIngredientIndex;
+import com.myrecipe.recommendation.index.RecipeMatch;
+import com.myrecipe.recommendation.urgency.FridgeUrgencyRegistry;
+import com.myrecipe.recommendation.urgency.UrgencySnapshot;
+import com.myrecipe.refrigerator.domain.RefrigeratorItem;
+import com.myrecipe.refrigerator.repository.RefrigeratorItemRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 냉장고 재고 기반 일주일 식단 생성
+ * - 후보 레시피: 재료 역색인에서 냉장고 재료(유통기한 임박 가중치 포함)를 많이 쓰는 상위 레시피
+ * - 배정: MealPlanOptimizer (greedy + simulated annealing, 시간 예산 안에서 chain 병렬 탐색)
+ * 탐색은 요청 스레드가 아니라 전용 ForkJoinPool 에서 돈다 (CPU 바운드 작업이 톰캣/가상 스레드를 붙잡지 않도록).
+ */
+@Service
+public class MealPlanService {
+    private final RefrigeratorItemRepository refrigeratorItemRepository;
+    private final RecipeRepository recipeRepository;
+    private final IngredientIdRegistry ingredientIdRegistry;
+    private final FridgeUrgencyRegistry fridgeUrgencyRegistry;
+    private final RecipeIngredientIndex recipeIngredientIndex;
+
+    private final ForkJoinPool pool;
+    private final MealPlanOptimizer optimizer;
+    private final Duration timeBudget;
+    private final int chains;
+    private final int candidateCount;
+
+    public MealPlanService(RefrigeratorItemRepository refrigeratorItemRepository,
+                           RecipeRepository recipeRepository,
+                           IngredientIdRegistry ingredientIdRegistry,
+                           FridgeUrgencyRegistry fridgeUrgencyRegistry,
+                           RecipeIngredientIndex recipeIngredientIndex,
+                           @Value("${mealplan.time-budget:PT0.3S}") Duration timeBudget,
+                           @Value("${mealplan.chains:4}") int chains,
+                           @Value("${mealplan.parallelism:0}") int parallelism,
+                           @Value("${mealplan.candidates:200}") int candidateCount){
+        this.refrigeratorItemRepository = refrigeratorItemRepository;
+        this.recipeRepository = recipeRepository;
+        this.ingredientIdRegistry = ingredientIdRegistry;
+        this.fridgeUrgencyRegistry = fridgeUrgencyRegistry;
+        this.recipeIngredientIndex = recipeIngredientIndex;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.optimizer = new MealPlanOptimizer(pool);
+        this.timeBudget = timeBudget;
+        this.chains = chains;
+        this.candidateCount = candidateCount;
+    }
+
+    @PreDestroy
+    void shutdown(){
+        pool.shutdownNow();
+    }
+
+    public MealPlanResponse createPlan(Long userId, LocalDate startDate){
+        // 냉장고 재료 -> 문제 안의 재료 번호 / lot
+        Map<Integer, Integer> localIngredient = new HashMap<>();
+        List<int[]> lots = new ArrayList<>(); // {재료 번호, 회분, 마지막 사용 가능 일}
+        for(RefrigeratorItem item : refrigeratorItemRepository.findByUserId(userId)){
+            if(item.getExpirationDate() != null && item.getExpirationDate().isBefore(startDate)) continue;
+            // 레시피에 없는 재료는 어떤 식단에도 쓰이지 않으므로 제외 (자유 입력 이름으로 id 를 새로 발급하지 않는다)
+            int ingredientId = ingredientIdRegistry.find(item.getName());
+            if(ingredientId == IngredientIdRegistry.UNKNOWN) continue;
+            int local = localIngredient.computeIfAbsent(ingredientId, id -> localIngredient.size());
+            int lastDay = item.getExpirationDate() == null
+                    ? Integer.MAX_VALUE
+                    : (int) ChronoUnit.DAYS.between(startDate, item.getExpirationDate());
+            lots.add(new int[]{local, portions(item), lastDay});
+        }
+        if(lots.isEmpty()){
+            throw new InvalidRequestException("냉장고에 사용할 수 있는 재료가 없습니다.", "ERR_MEALPLAN_EMPTY_FRIDGE");
+        }
+
+        UrgencySnapshot fridge = fridgeUrgencyRegistry.snapshot(userId);
+        List<RecipeMatch> candidates = recipeIngredientIndex.topK(fridge.ingredientIds(), fridge.weights(), candidateCount);
+        if(candidates.isEmpty()){
+            throw new InvalidRequestException("냉장고 재료로 만들 수 있는 레시피가 없습니다.", "ERR_MEALPLAN_NO_RECIPE");
+        }
+
+        int[][] recipeIngredients = new int[candidates.size()][];
+        for(int c = 0; c < candidates.size(); c++){
+            recipeIngredients[c] = Arrays.stream(recipeIngredientIndex.ingredientsOf(candidates.get(c).recipeId()))
+                    .map(id -> localIngredient.getOrDefault(id, -1))
+                    .toArray();
+        }
+        MealPlanProblem problem = new MealPlanProblem(recipeIngredients,
+                lots.stream().mapToInt(lot -> lot[0]).toArray(),
+                lots.stream().mapToInt(lot -> lot[1]).toArray(),
+                lots.stream().mapToInt(lot -> lot[2]).toArray(),
+                localIngredient.size());
+
+        MealPlan plan = optimizer.optimize(problem, timeBudget, chains, userId ^ startDate.toEpochDay());
+        return toResponse(startDate, plan, candidates);
+    }
+
+    private MealPlanResponse toResponse(LocalDate startDate, MealPlan plan, List<RecipeMatch> candidates){
+        Set<Long> recipeIds = Arrays.stream(plan.slots()).mapToObj(c -> candidates.get(c).recipeId()).collect(Collectors.toSet());
+        Map<Long, RecipeSummaryResponse> summaries = recipeRepository.findSummariesByIdIn(recipeIds).stream()
+                .collect(Collectors.toMap(RecipeSummaryResponse::getId, Function.identity()));
+
+        List<MealPlanDayResponse> days = new ArrayList<>(MealPlanProblem.DAYS);
+        MealType[] meals = MealType.values();
+        for(int day = 0; day < MealPlanProblem.DAYS; day++){
+            List<MealPlanSlotResponse> slots = new ArrayList<>(MealPlanProblem.MEALS_PER_DAY);
+            for(int meal = 0; meal < MealPlanProblem.MEALS_PER_DAY; meal++){
+                int slot = day * MealPlanProblem.MEALS_PER_DAY + meal;
+                long recipeId = candidates.get(plan.slots()[slot]).recipeId();
+                RecipeSummaryResponse summary = summaries.get(recipeId);
+                slots.add(new MealPlanSlotResponse(meals[meal], recipeId,
+                        summary == null ? null : summary.getTitle(),
+                        summary == null ? null : summary.getImageUrl(),
+                        plan.score().missingBySlot()[slot]));
+            }
+            days.add(new MealPlanDayResponse(startDate.plusDays(day), slots));
+        }
+        return new MealPlanResponse(startDate, days, plan.score().purchases(), plan.score().spoiled(), plan.score().repeats());
+    }
+
+    // 개수 단위만 수량만큼 여러 번 쓸 수 있다고 보고, 무게/부피는 레시피 한 번 분량으로 본다
+    private static int portions(RefrigeratorItem item){
+        Long micros = item.getAmountMicros();
+        if(micros == null || micros <= 0 || item.getDimension() != Dimension.COUNT) return 1;
+        return (int) Math.max(1, Math.min(micros / Quantities.MICROS, MealPlanProblem.SLOTS));
+    }
+}
@@ -0,0 +1,9 @@
+package com.myrecipe.notification.expiration;
+
+import java.util.List;
+
+/**
+ * 사용자 한 명에게 보내는 유통기한 임박 알림 (같은 시각에 울린 재료를 한 건으로 묶음)
+ */
+public record ExpirationNotification(Long userId, List<ExpiringItem> items) {
+}
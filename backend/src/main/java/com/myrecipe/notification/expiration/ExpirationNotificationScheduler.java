@@ -0,0 +1,200 @@
+package com.myrecipe.notification.expiration;
+
+import com.myrecipe.notification.sink.NotificationSink;
+import com.myrecipe.notification.wheel.HierarchicalTimingWheel;
+import com.myrecipe.refrigerator.event.RefrigeratorItemChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유통기한 임박 알림 스케줄러
+ * - 유통기한이 있는 냉장고 재료를 알림 시각 기준으로 타이밍 휠에 올려 두고, 주기적으로 휠을 진행시켜 울린 재료만 꺼낸다.
+ *   (매일 전체 재료를 조회하는 배치 대신 DB 는 기동 시 한 번만 읽고, 이후에는 냉장고 변경 이벤트로만 갱신)
+ * - 알림 시각 = (유통기한 - lead-days) 의 notify-time + 사용자별 고정 오프셋(0 ~ spread)
+ *   사용자마다 오프셋이 달라 한 시각에 몰리지 않고, 같은 사용자의 같은 날 재료는 같은 시각에 울려 한 건으로 묶인다.
+ * - 꺼낸 재료는 사용자별로 묶어 batch-size 단위로 NotificationSink 에 보낸다.
+ */
+@Slf4j
+@Component
+public class ExpirationNotificationScheduler {
+    private static final long TICK_MILLIS = Duration.ofMinutes(1).toMillis();
+    private static final String SELECT_UPCOMING = """
+            select id, user_id, name, expiration_date
+            from refrigerator_item
+            where expiration_date >= ?""";
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final HierarchicalTimingWheel<ExpiringItem> wheel;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    // 기동 시 적재 중에 삭제된 재료 (적재가 끝난 뒤 휠에서 다시 뺀다)
+    private final Set<Long> deletedDuringRebuild = new HashSet<>();
+    private boolean rebuilding;
+
+    private final NotificationSink sink;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final int leadDays;
+    private final LocalTime notifyTime;
+    private final long spreadMillis;
+    private final int batchSize;
+    private final Counter sentNotifications;
+    private final Counter failedNotifications;
+
+    public ExpirationNotificationScheduler(NotificationSink sink,
+                                           DataSource dataSource,
+                                           MeterRegistry meterRegistry,
+                                           @Value("${notification.expiration.lead-days:1}") int leadDays,
+                                           @Value("${notification.expiration.notify-time:09:00}") String notifyTime,
+                                           @Value("${notification.expiration.spread:PT2H}") Duration spread,
+                                           @Value("${notification.expiration.batch-size:500}") int batchSize,
+                                           @Value("${notification.expiration.rebuild-fetch-size:-2147483648}") int rebuildFetchSize){
+        this.sink = sink;
+        this.leadDays = leadDays;
+        this.notifyTime = LocalTime.parse(notifyTime);
+        this.spreadMillis = spread.toMillis();
+        this.batchSize = batchSize;
+        this.wheel = new HierarchicalTimingWheel<>(TICK_MILLIS, System.currentTimeMillis());
+
+        // 적재 쿼리 전용 (MySQL 은 fetch size 가 Integer.MIN_VALUE 일 때 결과를 한 번에 받지 않고 행 단위로 스트리밍)
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(rebuildFetchSize);
+
+        this.sentNotifications = Counter.builder("notification.expiration.sent")
+                .description("보낸 유통기한 임박 알림 수 (사용자 기준)")
+                .register(meterRegistry);
+        this.failedNotifications = Counter.builder("notification.expiration.failed")
+                .description("전송에 실패한 유통기한 임박 알림 수")
+                .register(meterRegistry);
+        Gauge.builder("notification.expiration.scheduled", this, ExpirationNotificationScheduler::scheduledCount)
+                .description("알림 대기 중인 냉장고 재료 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동 시 알림 대상 적재 (결과를 한 번에 메모리에 올리지 않고 커서로 한 행씩 읽는다)
+     * 알림 시각이 이미 지난 재료는 재기동 전에 보냈다고 보고 건너뛴다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild(){
+        setRebuilding(true);
+        long now = System.currentTimeMillis();
+        int[] loaded = {0};
+        try {
+            streamingJdbcTemplate.query(SELECT_UPCOMING, rs -> {
+                ExpiringItem item = new ExpiringItem(rs.getLong("user_id"), rs.getLong("id"), rs.getString("name"),
+                        rs.getObject("expiration_date", LocalDate.class));
+                long deadline = deadline(item.userId(), item.expirationDate());
+                if(deadline < now) return;
+                lock.lock();
+                try {
+                    wheel.schedule(item.itemId(), deadline, item);
+                } finally {
+                    lock.unlock();
+                }
+                loaded[0]++;
+            }, LocalDate.now(zone));
+        } finally {
+            setRebuilding(false);
+        }
+        log.info("유통기한 알림 대상 적재 완료: {}건", loaded[0]);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(RefrigeratorItemChangedEvent event){
+        lock.lock();
+        try {
+            if(event.type() == RefrigeratorItemChangedEvent.Type.DELETED){
+                if(rebuilding) deletedDuringRebuild.add(event.itemId());
+                wheel.cancel(event.itemId());
+                return;
+            }
+            LocalDate expirationDate = event.expirationDate();
+            if(expirationDate == null || expirationDate.isBefore(LocalDate.now(zone))){
+                wheel.cancel(event.itemId());
+                return;
+            }
+            // 알림 시각이 이미 지났으면 새로 넣은 재료이거나 아직 알림 전인 재료만 바로 보낸다 (이미 알린 재료를 수정해도 다시 알리지 않음)
+            long deadline = deadline(event.userId(), expirationDate);
+            boolean late = deadline < System.currentTimeMillis();
+            if(late && event.type() != RefrigeratorItemChangedEvent.Type.CREATED && !wheel.contains(event.itemId())){
+                return;
+            }
+            wheel.schedule(event.itemId(), deadline, new ExpiringItem(event.userId(), event.itemId(), event.name(), expirationDate));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notification.expiration.poll-interval:PT15S}")
+    public void dispatch(){
+        dispatch(System.currentTimeMillis());
+    }
+
+    void dispatch(long nowMillis){
+        Map<Long, List<ExpiringItem>> byUser = new LinkedHashMap<>();
+        lock.lock();
+        try {
+            wheel.advance(nowMillis, item -> byUser.computeIfAbsent(item.userId(), userId -> new ArrayList<>()).add(item));
+        } finally {
+            lock.unlock();
+        }
+        if(byUser.isEmpty()) return;
+
+        List<ExpirationNotification> notifications = new ArrayList<>(byUser.size());
+        byUser.forEach((userId, items) -> notifications.add(new ExpirationNotification(userId, List.copyOf(items))));
+        for(int from = 0; from < notifications.size(); from += batchSize){
+            List<ExpirationNotification> batch = notifications.subList(from, Math.min(from + batchSize, notifications.size()));
+            try {
+                sink.send(batch);
+                sentNotifications.increment(batch.size());
+            } catch (RuntimeException e){
+                failedNotifications.increment(batch.size());
+                log.warn("유통기한 알림 전송 실패 ({}건)", batch.size(), e);
+            }
+        }
+    }
+
+    public int scheduledCount(){
+        lock.lock();
+        try {
+            return wheel.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long deadline(Long userId, LocalDate expirationDate){
+        long base = expirationDate.minusDays(leadDays).atTime(notifyTime).atZone(zone).toInstant().toEpochMilli();
+        return spreadMillis <= 0 ? base : base + Math.floorMod(userId * 0x9E3779B97F4A7C15L, spreadMillis);
+    }
+
+    private void setRebuilding(boolean value){
+        lock.lock();
+        try {
+            rebuilding = value;
+            if(!value){
+                deletedDuringRebuild.forEach(wheel::cancel);
+                deletedDuringRebuild.clear();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
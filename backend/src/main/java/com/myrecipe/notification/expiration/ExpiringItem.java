@@ -0,0 +1,6 @@
+package com.myrecipe.notification.expiration;
+
+import java.time.LocalDate;
+
+public record ExpiringItem(Long userId, Long itemId, String name, LocalDate expirationDate) {
+}
@@ -0,0 +1,40 @@
+package com.myrecipe.notification.sink;
+
+import com.myrecipe.notification.expiration.ExpirationNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 테스트/로컬 확인용 메모리 구현 (보낸 알림을 drain() 으로 꺼내 본다)
+ */
+@Component
+@ConditionalOnProperty(name = "notification.sink", havingValue = "memory")
+public class InMemoryNotificationSink implements NotificationSink {
+    private final ReentrantLock lock = new ReentrantLock();
+    private List<ExpirationNotification> sent = new ArrayList<>();
+
+    @Override
+    public void send(List<ExpirationNotification> batch){
+        lock.lock();
+        try {
+            sent.addAll(batch);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<ExpirationNotification> drain(){
+        lock.lock();
+        try {
+            List<ExpirationNotification> drained = sent;
+            sent = new ArrayList<>();
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
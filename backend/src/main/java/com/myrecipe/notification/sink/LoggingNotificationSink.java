@@ -0,0 +1,27 @@
+package com.myrecipe.notification.sink;
+
+import com.myrecipe.notification.expiration.ExpirationNotification;
+import com.myrecipe.notification.expiration.ExpiringItem;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 푸시 연동 전까지 사용하는 로그 출력 구현
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.sink", havingValue = "log", matchIfMissing = true)
+public class LoggingNotificationSink implements NotificationSink {
+
+    @Override
+    public void send(List<ExpirationNotification> batch){
+        for(ExpirationNotification notification : batch){
+            log.info("유통기한 임박 알림: userId={}, {}개 ({})", notification.userId(), notification.items().size(),
+                    notification.items().stream().map(ExpiringItem::name).collect(Collectors.joining(", ")));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.myrecipe.notification.sink;
+
+import com.myrecipe.notification.expiration.ExpirationNotification;
+
+import java.util.List;
+
+/**
+ * 알림 전송 (푸시 서버 연동 지점)
+ * notification.sink 설정으로 구현체 선택: log(기본) / memory
+ */
+public interface NotificationSink {
+
+    /**
+     * 사용자별로 묶인 알림 한 묶음 전송 (실패하면 예외, 재시도하지 않는다)
+     */
+    void send(List<ExpirationNotification> batch);
+}
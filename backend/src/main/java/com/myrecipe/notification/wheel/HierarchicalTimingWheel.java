@@ -0,0 +1,159 @@
+package com.myrecipe.notification.wheel;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠 (틱 하나 = tickMillis, 단계마다 64칸)
+ * - 0단계: 1틱 x 64, 1단계: 64틱 x 64, 2단계: 4096틱 x 64 (1분 틱이면 약 182일), 그 이후는 overflow 목록
+ * - 등록/취소는 칸 안의 이중 연결 리스트라 O(1), 시간이 지나면 상위 단계 칸을 하위 단계로 내려 보낸다 (cascade).
+ * - 같은 id 로 다시 등록하면 기존 항목을 교체한다.
+ * 스레드 안전하지 않다 (사용하는 쪽에서 잠금).
+ */
+public final class HierarchicalTimingWheel<T> {
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 3;
+
+    private final long tickMillis;
+    private final Node<T>[][] wheels;
+    private final Node<T> overflow = Node.sentinel();
+    private final Map<Long, Node<T>> nodes = new HashMap<>();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, long startMillis){
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        this.wheels = new Node[LEVELS][SLOTS];
+        for(int level = 0; level < LEVELS; level++){
+            for(int slot = 0; slot < SLOTS; slot++){
+                wheels[level][slot] = Node.sentinel();
+            }
+        }
+    }
+
+    /**
+     * deadline 이 이미 지났으면 다음 advance 에서 바로 만료된다
+     */
+    public void schedule(long id, long deadlineMillis, T value){
+        cancel(id);
+        // 틱 경계에 걸친 deadline 은 다음 틱에 만료 (일찍 울리지 않도록 올림)
+        long tick = Math.max(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), currentTick + 1);
+        Node<T> node = new Node<>(id, tick, value);
+        nodes.put(id, node);
+        place(node);
+    }
+
+    public boolean cancel(long id){
+        Node<T> node = nodes.remove(id);
+        if(node == null) return false;
+        node.unlink();
+        return true;
+    }
+
+    public boolean contains(long id){
+        return nodes.containsKey(id);
+    }
+
+    public int size(){
+        return nodes.size();
+    }
+
+    /**
+     * nowMillis 까지 시간을 진행시키면서 만료된 항목을 deadline 순서(틱 단위)로 넘긴다
+     */
+    public void advance(long nowMillis, Consumer<T> expired){
+        long target = nowMillis / tickMillis;
+        while(currentTick < target){
+            currentTick++;
+            if((currentTick & MASK) == 0){
+                cascade();
+            }
+            Node<T> head = wheels[0][(int) (currentTick & MASK)];
+            for(Node<T> node = head.next; node != head; ){
+                Node<T> next = node.next;
+                node.unlink();
+                nodes.remove(node.id);
+                expired.accept(node.value);
+                node = next;
+            }
+        }
+    }
+
+    // 상위 단계 칸이 한 바퀴 돌 때마다 다음 칸의 항목을 현재 시각 기준으로 다시 배치 (높은 단계부터)
+    private void cascade(){
+        long upper = currentTick >>> BITS;
+        if((upper & MASK) == 0){
+            long top = upper >>> BITS;
+            if((top & MASK) == 0){
+                reinsert(overflow);
+            }
+            reinsert(wheels[2][(int) (top & MASK)]);
+        }
+        reinsert(wheels[1][(int) (upper & MASK)]);
+    }
+
+    private void reinsert(Node<T> head){
+        Node<T> node = head.next;
+        head.next = head;
+        head.prev = head;
+        while(node != head){
+            Node<T> next = node.next;
+            place(node);
+            node = next;
+        }
+    }
+
+    private void place(Node<T> node){
+        long delta = node.tick - currentTick;
+        Node<T> head;
+        if(delta < SLOTS){
+            head = wheels[0][(int) (node.tick & MASK)];
+        } else if(delta < (long) SLOTS * SLOTS){
+            head = wheels[1][(int) ((node.tick >>> BITS) & MASK)];
+        } else if(delta < (long) SLOTS * SLOTS * SLOTS){
+            head = wheels[2][(int) ((node.tick >>> (2 * BITS)) & MASK)];
+        } else {
+            head = overflow;
+        }
+        node.linkBefore(head);
+    }
+
+    private static final class Node<T> {
+        final long id;
+        final long tick;
+        final T value;
+        Node<T> prev;
+        Node<T> next;
+
+        Node(long id, long tick, T value){
+            this.id = id;
+            this.tick = tick;
+            this.value = value;
+        }
+
+        static <T> Node<T> sentinel(){
+            Node<T> head = new Node<>(0L, 0L, null);
+            head.prev = head;
+            head.next = head;
+            return head;
+        }
+
+        void linkBefore(Node<T> head){
+            prev = head.prev;
+            next = head;
+            head.prev.next = this;
+            head.prev = this;
+        }
+
+        void unlink(){
+            prev.next = next;
+            next.prev = prev;
+            prev = null;
+            next = null;
+        }
+    }
+}
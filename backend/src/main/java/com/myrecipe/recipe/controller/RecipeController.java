@@ -0,0 +1,60 @@
+package com.myrecipe.recipe.controller;
+
+import com.myrecipe.recipe.dto.RecipePageResponse;
+import com.myrecipe.recipe.dto.RecipeRequest;
+import com.myrecipe.recipe.dto.RecipeResponse;
+import com.myrecipe.recipe.dto.RecipeSearchResponse;
+import com.myrecipe.recipe.service.RecipeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/recipes")
+public class RecipeController {
+    private final RecipeService recipeService;
+
+    // 최신순 목록 (nextCursor 를 cursor 로 넘겨 다음 페이지 요청)
+    @GetMapping
+    public RecipePageResponse findRecipePage(@RequestParam(required = false) Long cursor,
+                                             @RequestParam(defaultValue = "20") int size){
+        return recipeService.findRecipePage(cursor, size);
+    }
+
+    // 제목/재료/조리 과정 검색 (입력 중인 검색어도 그대로 전달)
+    @GetMapping("/search")
+    public List<RecipeSearchResponse> search(@RequestParam("q") String query,
+                                             @RequestParam(defaultValue = "10") int size){
+        return recipeService.search(query, size);
+    }
+
+    @GetMapping("/{recipeId}")
+    public RecipeResponse findRecipe(@PathVariable Long recipeId){
+        return recipeService.findRecipe(recipeId);
+    }
+
+    @PostMapping
+    public ResponseEntity<RecipeResponse> createRecipe(@AuthenticationPrincipal Long userId,
+                                                       @RequestBody RecipeRequest request){
+        RecipeResponse response = recipeService.createRecipe(userId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PutMapping("/{recipeId}")
+    public RecipeResponse updateRecipe(@AuthenticationPrincipal Long userId,
+                                       @PathVariable Long recipeId,
+                                       @RequestBody RecipeRequest request){
+        return recipeService.updateRecipe(userId, recipeId, request);
+    }
+
+    @DeleteMapping("/{recipeId}")
+    public ResponseEntity<Void> deleteRecipe(@AuthenticationPrincipal Long userId, @PathVariable Long recipeId){
+        recipeService.deleteRecipe(userId, recipeId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,108 @@
+package com.myrecipe.recipe.counter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 레시피 좋아요/북마크/댓글 수 write-behind 버퍼
+ * - 요청마다 recipe 행을 UPDATE 하면 인기 레시피 한 행에 잠금이 몰리므로, 증감분을 메모리에 모았다가 주기적으로 한 번에 반영한다.
+ * - 같은 레시피의 증감은 합쳐서 레시피당 UPDATE 한 건, 전체를 JDBC 배치 한 번으로 보낸다 (id 순으로 보내 교착 방지).
+ * - 반영 실패 시 증감분을 버퍼에 되돌려 다음 주기에 다시 시도한다.
+ * 조회 시에는 DB 값 + pending(id) 를 더해서 내려주므로 본인이 누른 좋아요는 바로 보인다.
+ */
+@Slf4j
+@Component
+public class RecipeCounterBuffer {
+    private static final String UPDATE_COUNTERS = """
+            update recipe
+            set like_count = like_count + ?, bookmark_count = bookmark_count + ?, comment_count = comment_count + ?
+            where id = ?""";
+
+    // 값은 불변 객체로 두고 merge 로 교체하므로, remove 로 꺼낸 값 이후의 증감은 새 항목으로 쌓인다
+    private final ConcurrentHashMap<Long, RecipeCounterDelta> pending = new ConcurrentHashMap<>();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter flushedRows;
+    private final Counter failedFlushes;
+
+    public RecipeCounterBuffer(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry){
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushedRows = Counter.builder("recipe.counter.flushed")
+                .description("DB 에 반영한 레시피 카운터 행 수")
+                .register(meterRegistry);
+        this.failedFlushes = Counter.builder("recipe.counter.flush.failed")
+                .description("레시피 카운터 반영 실패 횟수")
+                .register(meterRegistry);
+        Gauge.builder("recipe.counter.pending", pending, Map::size)
+                .description("반영 대기 중인 레시피 수")
+                .register(meterRegistry);
+    }
+
+    public void addLike(long recipeId, int delta){
+        add(recipeId, new RecipeCounterDelta(delta, 0, 0));
+    }
+
+    public void addBookmark(long recipeId, int delta){
+        add(recipeId, new RecipeCounterDelta(0, delta, 0));
+    }
+
+    public void addComment(long recipeId, int delta){
+        add(recipeId, new RecipeCounterDelta(0, 0, delta));
+    }
+
+    public RecipeCounterDelta pending(long recipeId){
+        return pending.getOrDefault(recipeId, RecipeCounterDelta.ZERO);
+    }
+
+    // 삭제된 레시피의 증감분은 버린다
+    public void discard(long recipeId){
+        pending.remove(recipeId);
+    }
+
+    @Scheduled(fixedDelayString = "${recipe.counter.flush-interval:PT2S}")
+    public void flush(){
+        if(pending.isEmpty()) return;
+
+        TreeMap<Long, RecipeCounterDelta> drained = new TreeMap<>();
+        for(Long recipeId : pending.keySet()){
+            RecipeCounterDelta delta = pending.remove(recipeId);
+            if(delta != null && !delta.isZero()){
+                drained.put(recipeId, delta);
+            }
+        }
+        if(drained.isEmpty()) return;
+
+        List<Object[]> rows = new ArrayList<>(drained.size());
+        drained.forEach((recipeId, delta) -> rows.add(new Object[]{delta.likes(), delta.bookmarks(), delta.comments(), recipeId}));
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_COUNTERS, rows);
+            flushedRows.increment(rows.size());
+        } catch (DataAccessException e){
+            failedFlushes.increment();
+            drained.forEach(this::add);
+            log.warn("레시피 카운터 반영 실패, 다음 주기에 재시도 ({}건)", drained.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown(){
+        flush();
+    }
+
+    private void add(long recipeId, RecipeCounterDelta delta){
+        pending.merge(recipeId, delta, RecipeCounterDelta::plus);
+    }
+}
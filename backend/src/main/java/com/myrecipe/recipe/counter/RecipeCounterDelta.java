@@ -0,0 +1,16 @@
+package com.myrecipe.recipe.counter;
+
+/**
+ * 아직 DB 에 반영하지 않은 레시피 카운터 증감분
+ */
+public record RecipeCounterDelta(long likes, long bookmarks, long comments) {
+    public static final RecipeCounterDelta ZERO = new RecipeCounterDelta(0, 0, 0);
+
+    public RecipeCounterDelta plus(RecipeCounterDelta other){
+        return new RecipeCounterDelta(likes + other.likes, bookmarks + other.bookmarks, comments + other.comments);
+    }
+
+    public boolean isZero(){
+        return likes == 0 && bookmarks == 0 && comments == 0;
+    }
+}
@@ -0,0 +1,124 @@
+package com.myrecipe.recipe.domain;
+
+import com.myrecipe.user.domain.User;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "recipe",
+        indexes = @Index(name = "idx_recipe_user", columnList = "user_id, id")
+)
+public class Recipe {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 작성자
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    @Column(length = 1000)
+    private String description;
+
+    // 조리 시간 (분)
+    @Column(name = "cooking_time")
+    private Integer cookingTime;
+
+    @Column
+    private Integer servings;
+
+    @Column(name = "image_url", length = 500)
+    private String imageUrl;
+
+    // 좋아요/북마크/댓글 수는 RecipeCounterBuffer 가 모아서 직접 UPDATE 한다 (엔티티 저장 시에는 건드리지 않음)
+    @ColumnDefault("0")
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false)
+    private long likeCount;
+
+    @ColumnDefault("0")
+    @Column(name = "bookmark_count", nullable = false, insertable = false, updatable = false)
+    private long bookmarkCount;
+
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    private long commentCount;
+
+    // 목록/색인 적재 시 레시피 여러 건의 재료/단계를 IN 쿼리 한 번으로 함께 조회
+    @Builder.Default
+    @BatchSize(size = 100)
+    @OrderBy("position")
+    @OneToMany(mappedBy = "recipe", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<RecipeIngredient> ingredients = new ArrayList<>();
+
+    @Builder.Default
+    @BatchSize(size = 100)
+    @OrderBy("stepNumber")
+    @OneToMany(mappedBy = "recipe", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<RecipeStep> steps = new ArrayList<>();
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    void onCreate(){
+        LocalDateTime now = LocalDateTime.now();
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+
+    @PreUpdate
+    void onUpdate(){
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void update(String title, String description, Integer cookingTime, Integer servings, String imageUrl){
+        this.title = title;
+        this.description = description;
+        this.cookingTime = cookingTime;
+        this.servings = servings;
+        this.imageUrl = imageUrl;
+    }
+
+    // 재료/단계는 통째로 교체 (orphanRemoval 로 빠진 행은 삭제)
+    public void replaceIngredients(List<RecipeIngredient> ingredients){
+        this.ingredients.clear();
+        ingredients.forEach(this::addIngredient);
+    }
+
+    public void replaceSteps(List<RecipeStep> steps){
+        this.steps.clear();
+        steps.forEach(this::addStep);
+    }
+
+    public void addIngredient(RecipeIngredient ingredient){
+        ingredient.assignRecipe(this);
+        this.ingredients.add(ingredient);
+    }
+
+    public void addStep(RecipeStep step){
+        step.assignRecipe(this);
+        this.steps.add(step);
+    }
+
+    public boolean isWrittenBy(Long userId){
+        return user.getId().equals(userId);
+    }
+}
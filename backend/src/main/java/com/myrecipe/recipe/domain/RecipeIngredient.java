@@ -0,0 +1,52 @@
+package com.myrecipe.recipe.domain;
+
+import com.myrecipe.ingredient.quantity.Dimension;
+import jakarta.persistence.*;
+import lombok.*;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "recipe_ingredient",
+        indexes = @Index(name = "idx_recipe_ingredient_recipe", columnList = "recipe_id, position")
+)
+public class RecipeIngredient {
+    // 레시피 하나에 재료 여러 건이 함께 insert 되므로 JDBC 배치가 가능한 테이블 전략 사용
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "recipe_ingredient_id")
+    @TableGenerator(name = "recipe_ingredient_id", table = "id_sequences", pkColumnValue = "recipe_ingredient", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "recipe_id", nullable = false)
+    private Recipe recipe;
+
+    // 레시피 안에서의 표시 순서
+    @Column(nullable = false)
+    private int position;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    // 분량 (예: "1개", "200g")
+    @Column(length = 50)
+    private String amount;
+
+    // 분량을 해석한 값 (기준 단위 마이크로 값 + 차원, "약간" 처럼 해석할 수 없으면 null)
+    @Column(name = "amount_micros")
+    private Long amountMicros;
+
+    @Column(name = "unit_dimension")
+    private Dimension dimension;
+
+    // 재료 사전의 표준 재료 (사전에 없는 이름이면 null)
+    @Column(name = "ingredient_id")
+    private Long ingredientId;
+
+    void assignRecipe(Recipe recipe){
+        this.recipe = recipe;
+    }
+}
@@ -0,0 +1,41 @@
+package com.myrecipe.recipe.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "recipe_step",
+        indexes = @Index(name = "idx_recipe_step_recipe", columnList = "recipe_id, step_number")
+)
+public class RecipeStep {
+    // 레시피 하나에 단계 여러 건이 함께 insert 되므로 JDBC 배치가 가능한 테이블 전략 사용
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "recipe_step_id")
+    @TableGenerator(name = "recipe_step_id", table = "id_sequences", pkColumnValue = "recipe_step", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "recipe_id", nullable = false)
+    private Recipe recipe;
+
+    @Column(name = "step_number", nullable = false)
+    private int stepNumber;
+
+    @Column(length = 100)
+    private String title;
+
+    @Column(length = 2000)
+    private String description;
+
+    @Column(name = "image_url", length = 500)
+    private String imageUrl;
+
+    void assignRecipe(Recipe recipe){
+        this.recipe = recipe;
+    }
+}
@@ -0,0 +1,10 @@
+package com.myrecipe.recipe.dto;
+
+import com.myrecipe.ingredient.quantity.Dimension;
+
+/**
+ * 장보기 계산용 레시피 재료 분량 (레시피 기준 인분 포함)
+ */
+public record RecipeIngredientAmount(Long recipeId, Integer servings, String name, Long ingredientId,
+                                     Long amountMicros, Dimension dimension) {
+}
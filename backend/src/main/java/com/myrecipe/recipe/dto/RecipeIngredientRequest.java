@@ -0,0 +1,11 @@
+package com.myrecipe.recipe.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class RecipeIngredientRequest {
+    private String name;
+    private String amount;
+}
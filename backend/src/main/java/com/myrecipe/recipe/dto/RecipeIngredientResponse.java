@@ -0,0 +1,17 @@
+package com.myrecipe.recipe.dto;
+
+import com.myrecipe.recipe.domain.RecipeIngredient;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RecipeIngredientResponse {
+    private String name;
+    private String amount;
+    private Long ingredientId;
+
+    public static RecipeIngredientResponse from(RecipeIngredient ingredient){
+        return new RecipeIngredientResponse(ingredient.getName(), ingredient.getAmount(), ingredient.getIngredientId());
+    }
+}
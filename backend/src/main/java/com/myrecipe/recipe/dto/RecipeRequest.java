@@ -0,0 +1,19 @@
+package com.myrecipe.recipe.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class RecipeRequest {
+    private String title;
+    private String description;
+    private Integer cookingTime;
+    private Integer servings;
+    private String imageUrl;
+    private List<RecipeIngredientRequest> ingredients = new ArrayList<>();
+    private List<RecipeStepRequest> cookingSteps = new ArrayList<>();
+}
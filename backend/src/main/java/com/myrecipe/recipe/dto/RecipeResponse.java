@@ -0,0 +1,50 @@
+package com.myrecipe.recipe.dto;
+
+import com.myrecipe.recipe.counter.RecipeCounterDelta;
+import com.myrecipe.recipe.domain.Recipe;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class RecipeResponse {
+    private Long id;
+    private Long authorId;
+    private String authorNickname;
+    private String title;
+    private String description;
+    private Integer cookingTime;
+    private Integer servings;
+    private String imageUrl;
+    private long likeCount;
+    private long bookmarkCount;
+    private long commentCount;
+    private List<RecipeIngredientResponse> ingredients;
+    private List<RecipeStepResponse> cookingSteps;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // pending: 아직 DB 에 반영되지 않은 카운터 증감분
+    public static RecipeResponse from(Recipe recipe, RecipeCounterDelta pending){
+        return new RecipeResponse(
+                recipe.getId(),
+                recipe.getUser().getId(),
+                recipe.getUser().getNickname(),
+                recipe.getTitle(),
+                recipe.getDescription(),
+                recipe.getCookingTime(),
+                recipe.getServings(),
+                recipe.getImageUrl(),
+                recipe.getLikeCount() + pending.likes(),
+                recipe.getBookmarkCount() + pending.bookmarks(),
+                recipe.getCommentCount() + pending.comments(),
+                recipe.getIngredients().stream().map(RecipeIngredientResponse::from).toList(),
+                recipe.getSteps().stream().map(RecipeStepResponse::from).toList(),
+                recipe.getCreatedAt(),
+                recipe.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.myrecipe.recipe.dto;
+
+import com.myrecipe.recipe.search.SearchHit;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RecipeSearchResponse {
+    private Long recipeId;
+    private String title;
+    private double score;
+
+    public static RecipeSearchResponse from(SearchHit hit){
+        return new RecipeSearchResponse(hit.recipeId(), hit.title(), hit.score());
+    }
+}
@@ -0,0 +1,13 @@
+package com.myrecipe.recipe.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class RecipeStepRequest {
+    private Integer stepNumber;
+    private String image;
+    private String title;
+    private String description;
+}
@@ -0,0 +1,18 @@
+package com.myrecipe.recipe.dto;
+
+import com.myrecipe.recipe.domain.RecipeStep;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RecipeStepResponse {
+    private int stepNumber;
+    private String image;
+    private String title;
+    private String description;
+
+    public static RecipeStepResponse from(RecipeStep step){
+        return new RecipeStepResponse(step.getStepNumber(), step.getImageUrl(), step.getTitle(), step.getDescription());
+    }
+}
@@ -0,0 +1,17 @@
+package com.myrecipe.recipe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 목록용 (재료/단계 제외, 리포지토리에서 생성자 표현식으로 바로 조회)
+@Getter
+@AllArgsConstructor
+public class RecipeSummaryResponse {
+    private Long id;
+    private String title;
+    private String imageUrl;
+    private Integer cookingTime;
+    private LocalDateTime createdAt;
+}
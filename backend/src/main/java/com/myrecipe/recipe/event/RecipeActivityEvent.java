@@ -0,0 +1,26 @@
+package com.myrecipe.recipe.event;
+
+/**
+ * 레시피 조회/좋아요/북마크 활동 이벤트 (인기 레시피 집계용)
+ */
+public record RecipeActivityEvent(Type type, Long recipeId) {
+
+    public enum Type {
+        VIEW(1), BOOKMARK(3), LIKE(5);
+
+        // 인기 점수 가중치
+        private final int weight;
+
+        Type(int weight){
+            this.weight = weight;
+        }
+
+        public int weight(){
+            return weight;
+        }
+    }
+
+    public static RecipeActivityEvent of(Type type, Long recipeId){
+        return new RecipeActivityEvent(type, recipeId);
+    }
+}
@@ -0,0 +1,23 @@
+package com.myrecipe.recipe.event;
+
+import com.myrecipe.recipe.search.RecipeDocument;
+
+/**
+ * 레시피 변경 이벤트 (생성/수정/삭제)
+ * 검색 색인, 재료 역색인처럼 레시피를 메모리에 들고 있는 컴포넌트가 DB를 다시 읽지 않고 갱신할 수 있도록 발행한다.
+ * 삭제 이벤트의 document 는 null
+ */
+public record RecipeChangedEvent(Type type, Long recipeId, RecipeDocument document) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static RecipeChangedEvent upserted(Type type, RecipeDocument document){
+        return new RecipeChangedEvent(type, document.recipeId(), document);
+    }
+
+    public static RecipeChangedEvent deleted(Long recipeId){
+        return new RecipeChangedEvent(Type.DELETED, recipeId, null);
+    }
+}
@@ -0,0 +1,22 @@
+package com.myrecipe.recipe.repository;
+
+import com.myrecipe.recipe.domain.RecipeIngredient;
+import com.myrecipe.recipe.dto.RecipeIngredientAmount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface RecipeIngredientRepository extends JpaRepository<RecipeIngredient, Long> {
+
+    // 여러 레시피의 재료 분량을 한 번에 (인덱스: recipe_id, position)
+    @Query("""
+            select new com.myrecipe.recipe.dto.RecipeIngredientAmount(r.id, r.servings, i.name, i.ingredientId, i.amountMicros, i.dimension)
+            from RecipeIngredient i join i.recipe r
+            where r.id in :recipeIds
+            order by r.id, i.position
+            """)
+    List<RecipeIngredientAmount> findAmountsByRecipeIdIn(@Param("recipeIds") Collection<Long> recipeIds);
+}
@@ -0,0 +1,39 @@
+package com.myrecipe.recipe.repository;
+
+import com.myrecipe.recipe.domain.Recipe;
+import com.myrecipe.recipe.dto.RecipeSummaryResponse;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface RecipeRepository extends JpaRepository<Recipe, Long> {
+
+    // 작성자까지 한 번에 (재료/단계는 @BatchSize 로 이어서 조회)
+    @Query("select r from Recipe r join fetch r.user where r.id = :id")
+    Optional<Recipe> findDetailById(@Param("id") Long id);
+
+    // 최신순 키셋 페이지 (id < cursor)
+    @Query("""
+            select new com.myrecipe.recipe.dto.RecipeSummaryResponse(r.id, r.title, r.imageUrl, r.cookingTime, r.createdAt)
+            from Recipe r
+            where r.id < :cursor
+            order by r.id desc
+            """)
+    List<RecipeSummaryResponse> findPage(@Param("cursor") Long cursor, Limit limit);
+
+    // 인기 레시피 목록용 (제목/이미지만)
+    @Query("""
+            select new com.myrecipe.recipe.dto.RecipeSummaryResponse(r.id, r.title, r.imageUrl, r.cookingTime, r.createdAt)
+            from Recipe r
+            where r.id in :ids
+            """)
+    List<RecipeSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 기동 시 색인 적재용 (id 오름차순으로 끊어서 조회)
+    List<Recipe> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+}
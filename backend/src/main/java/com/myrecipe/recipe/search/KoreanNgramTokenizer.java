@@ -0,0 +1,75 @@
+package com.myrecipe.recipe.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 레시피 검색용 n-gram 토크나이저
+ * - NFC 정규화 + 영문 소문자화 후 문자/숫자 구간을 단어로 본다. 한글과 그 외 문자가 바뀌는 지점에서도 나눈다 ("2인분" -> "2", "인분").
+ * - 색인: 단어마다 첫 글자(1-gram) + 모든 2-gram  ("김치찌개" -> 김, 김치, 치찌, 찌개)
+ *   조사가 붙은 형태("김치를")나 띄어쓰기가 달라도 2-gram 이 겹치므로 형태소 분석 없이 찾을 수 있다.
+ * - 질의: 두 글자 이상이면 2-gram, 한 글자면 1-gram  ("김" 만 입력해도 김으로 시작하는 단어가 걸린다)
+ * - 낱자모(ㄱ~ㅣ)는 구분자로 취급해서, 입력 중인 "김ㅊ" 은 "김" 으로 검색된다.
+ */
+public final class KoreanNgramTokenizer {
+    private static final int SEPARATOR = 0;
+    private static final int HANGUL = 1;
+    private static final int OTHER = 2;
+
+    private KoreanNgramTokenizer() {
+    }
+
+    public static void indexTerms(String text, Consumer<String> sink){
+        forEachWord(text, (word) -> {
+            sink.accept(word.substring(0, 1));
+            for(int i = 0; i + 1 < word.length(); i++){
+                sink.accept(word.substring(i, i + 2));
+            }
+        });
+    }
+
+    // 중복 없이 입력 순서대로
+    public static List<String> queryTerms(String query){
+        Set<String> terms = new LinkedHashSet<>();
+        forEachWord(query, (word) -> {
+            if(word.length() == 1){
+                terms.add(word);
+                return;
+            }
+            for(int i = 0; i + 1 < word.length(); i++){
+                terms.add(word.substring(i, i + 2));
+            }
+        });
+        return new ArrayList<>(terms);
+    }
+
+    private static void forEachWord(String text, Consumer<String> sink){
+        if(text == null || text.isEmpty()) return;
+        String normalized = (Normalizer.isNormalized(text, Normalizer.Form.NFC) ? text : Normalizer.normalize(text, Normalizer.Form.NFC))
+                .toLowerCase(Locale.ROOT);
+
+        int start = -1;
+        int startType = SEPARATOR;
+        for(int i = 0; i <= normalized.length(); i++){
+            int type = i == normalized.length() ? SEPARATOR : typeOf(normalized.charAt(i));
+            if(type != startType){
+                if(startType != SEPARATOR){
+                    sink.accept(normalized.substring(start, i));
+                }
+                start = i;
+                startType = type;
+            }
+        }
+    }
+
+    private static int typeOf(char c){
+        if(c >= '가' && c <= '힣') return HANGUL;
+        if(c >= 'ㄱ' && c <= 'ㆎ') return SEPARATOR;
+        return Character.isLetterOrDigit(c) ? OTHER : SEPARATOR;
+    }
+}
@@ -0,0 +1,30 @@
+package com.myrecipe.recipe.search;
+
+import com.myrecipe.recipe.domain.Recipe;
+import com.myrecipe.recipe.domain.RecipeIngredient;
+import com.myrecipe.recipe.domain.RecipeStep;
+
+import java.util.List;
+
+/**
+ * 검색 색인에 넣는 레시피 텍스트 (엔티티와 분리해 트랜잭션 밖에서도 사용할 수 있도록 값만 복사)
+ */
+public record RecipeDocument(long recipeId, String title, String description,
+                             List<String> ingredientNames, List<String> stepTexts) {
+
+    public static RecipeDocument from(Recipe recipe){
+        return new RecipeDocument(
+                recipe.getId(),
+                recipe.getTitle(),
+                recipe.getDescription(),
+                recipe.getIngredients().stream().map(RecipeIngredient::getName).toList(),
+                recipe.getSteps().stream().map(RecipeDocument::stepText).toList()
+        );
+    }
+
+    private static String stepText(RecipeStep step){
+        if(step.getTitle() == null) return step.getDescription();
+        if(step.getDescription() == null) return step.getTitle();
+        return step.getTitle() + " " + step.getDescription();
+    }
+}
@@ -0,0 +1,85 @@
+package com.myrecipe.recipe.search;
+
+import com.myrecipe.recipe.domain.Recipe;
+import com.myrecipe.recipe.event.RecipeChangedEvent;
+import com.myrecipe.recipe.repository.RecipeRepository;
+import com.myrecipe.recommendation.index.IngredientIdRegistry;
+import com.myrecipe.recommendation.index.RecipeIngredientIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 레시피 -> 메모리 색인 동기화
+ * - 기동 시 전체 레시피를 id 순으로 끊어 읽어 검색 색인 / 재료 역색인(추천)을 채운다.
+ * - 이후에는 커밋된 RecipeChangedEvent 로만 갱신한다.
+ */
+@Slf4j
+@Component
+public class RecipeIndexer {
+    private static final int LOAD_CHUNK_SIZE = 500;
+
+    private final RecipeRepository recipeRepository;
+    private final RecipeSearchIndex recipeSearchIndex;
+    private final RecipeIngredientIndex recipeIngredientIndex;
+    private final IngredientIdRegistry ingredientIdRegistry;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public RecipeIndexer(RecipeRepository recipeRepository,
+                         RecipeSearchIndex recipeSearchIndex,
+                         RecipeIngredientIndex recipeIngredientIndex,
+                         IngredientIdRegistry ingredientIdRegistry,
+                         PlatformTransactionManager transactionManager){
+        this.recipeRepository = recipeRepository;
+        this.recipeSearchIndex = recipeSearchIndex;
+        this.recipeIngredientIndex = recipeIngredientIndex;
+        this.ingredientIdRegistry = ingredientIdRegistry;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // 재료 사전이 먼저 적재되어야 재료 이름이 표준 재료로 묶인다 (IngredientService.loadDictionary 가 먼저 실행)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll(){
+        long lastId = 0L;
+        int loaded = 0;
+        while(true){
+            long after = lastId;
+            // 청크마다 트랜잭션을 끊어 영속성 컨텍스트가 전체 레시피를 붙잡고 있지 않도록
+            List<RecipeDocument> documents = readOnlyTransaction.execute(status ->
+                    recipeRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(LOAD_CHUNK_SIZE)).stream()
+                            .map(RecipeDocument::from)
+                            .toList());
+            if(documents == null || documents.isEmpty()) break;
+
+            documents.forEach(this::index);
+            loaded += documents.size();
+            lastId = documents.get(documents.size() - 1).recipeId();
+            if(documents.size() < LOAD_CHUNK_SIZE) break;
+        }
+        log.info("레시피 색인 적재 완료: {}건", loaded);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecipeChanged(RecipeChangedEvent event){
+        if(event.type() == RecipeChangedEvent.Type.DELETED){
+            recipeSearchIndex.remove(event.recipeId());
+            recipeIngredientIndex.remove(event.recipeId());
+        } else {
+            index(event.document());
+        }
+    }
+
+    private void index(RecipeDocument document){
+        recipeSearchIndex.put(document);
+        recipeIngredientIndex.put(document.recipeId(),
+                document.ingredientNames().stream().mapToInt(ingredientIdRegistry::register).toArray());
+    }
+}
@@ -0,0 +1,297 @@
+package com.myrecipe.recipe.search;
+
+import com.myrecipe.common.concurrency.BoundedPool;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 레시피 전문 검색용 메모리 역색인 (BM25)
+ * - 제목, 재료, 설명/조리 단계를 KoreanNgramTokenizer 로 자른 n-gram 을 색인한다.
+ * - 필드 가중치(제목 3, 재료 2, 본문 1)를 곱한 빈도를 한 문서의 빈도로 합쳐 BM25 로 점수를 매긴다.
+ * - 문서 번호는 추가 순서대로 증가하고, 삭제/수정은 기존 번호를 삭제 표시만 해 둔다 (수정 = 삭제 표시 + 새 번호로 추가).
+ *   삭제 표시가 전체의 1/4 을 넘으면 posting list 를 한 번에 정리하면서 번호를 다시 매긴다.
+ */
+@Component
+public class RecipeSearchIndex {
+    static final int TITLE_WEIGHT = 3;
+    static final int INGREDIENT_WEIGHT = 2;
+    static final int BODY_WEIGHT = 1;
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int MAX_QUERY_TERMS = 32;
+    private static final int MIN_DELETED_FOR_COMPACTION = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> docByRecipeId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+
+    private long[] recipeIds = new long[1024];
+    private String[] titles = new String[1024];
+    private int[] lengths = new int[1024];
+    private int docCount;
+    private int deletedCount;
+    private long totalLength; // 살아 있는 문서 길이 합 (평균 길이 계산용)
+
+    // 질의마다 문서 수만큼 배열을 만들지 않도록 누적 버퍼를 재사용 (스레드 수와 무관하게 코어 수만큼만 보관)
+    private final BoundedPool<Scratch> scratchPool = BoundedPool.perProcessor();
+
+    /**
+     * 레시피 색인 (이미 있으면 교체)
+     */
+    public void put(RecipeDocument document){
+        // 토큰화는 락 밖에서
+        Map<String, int[]> frequencies = new HashMap<>();
+        addField(frequencies, document.title(), TITLE_WEIGHT);
+        document.ingredientNames().forEach(name -> addField(frequencies, name, INGREDIENT_WEIGHT));
+        addField(frequencies, document.description(), BODY_WEIGHT);
+        document.stepTexts().forEach(text -> addField(frequencies, text, BODY_WEIGHT));
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = docByRecipeId.get(document.recipeId());
+            if(existing != null){
+                markDeleted(existing);
+            }
+            int doc = allocateDoc(document.recipeId(), document.title());
+            int length = 0;
+            for(Map.Entry<String, int[]> entry : frequencies.entrySet()){
+                int frequency = entry.getValue()[0];
+                postings.computeIfAbsent(entry.getKey(), term -> new Postings()).add(doc, frequency);
+                length += frequency;
+            }
+            lengths[doc] = length;
+            totalLength += length;
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long recipeId){
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByRecipeId.get(recipeId);
+            if(doc == null) return;
+            markDeleted(doc);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size(){
+        lock.readLock().lock();
+        try {
+            return docByRecipeId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * BM25 상위 K개
+     * 질의 n-gram 이 2개 이하면 모두 포함한 문서만, 그보다 많으면 3/4 이상 포함한 문서만 후보로 본다
+     * (입력 중인 마지막 글자나 오타 하나 때문에 결과가 통째로 사라지지 않도록)
+     */
+    public List<SearchHit> search(String query, int k){
+        List<String> terms = KoreanNgramTokenizer.queryTerms(query);
+        if(k <= 0 || terms.isEmpty()) return List.of();
+        if(terms.size() > MAX_QUERY_TERMS){
+            terms = terms.subList(0, MAX_QUERY_TERMS);
+        }
+        int required = terms.size() <= 2 ? terms.size() : terms.size() * 3 / 4;
+
+        lock.readLock().lock();
+        try {
+            int liveCount = docByRecipeId.size();
+            if(liveCount == 0) return List.of();
+            float averageLength = (float) totalLength / liveCount;
+
+            Scratch buffer = scratch(docCount);
+            float[] scores = buffer.scores;
+            int[] matched = buffer.matched;
+            int[] touched = buffer.touched;
+            int touchedCount = 0;
+
+            for(String term : terms){
+                Postings posting = postings.get(term);
+                if(posting == null) continue;
+                // 문서 빈도에는 아직 정리 안 된 삭제 문서가 섞여 있을 수 있음
+                int documentFrequency = Math.min(posting.size, liveCount);
+                float idf = (float) Math.log(1 + (liveCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+
+                int[] docs = posting.docs;
+                byte[] frequencies = posting.frequencies;
+                for(int i = 0; i < posting.size; i++){
+                    int doc = docs[i];
+                    if(deleted.get(doc)) continue;
+                    float tf = frequencies[i] & 0xFF;
+                    float norm = tf * (K1 + 1) / (tf + K1 * (1 - B + B * lengths[doc] / averageLength));
+                    if(matched[doc]++ == 0){
+                        touched[touchedCount++] = doc;
+                    }
+                    scores[doc] += idf * norm;
+                }
+            }
+
+            PriorityQueue<SearchHit> heap = new PriorityQueue<>(k + 1, RANKING);
+            for(int i = 0; i < touchedCount; i++){
+                int doc = touched[i];
+                float score = scores[doc];
+                boolean candidate = matched[doc] >= required;
+                scores[doc] = 0f;
+                matched[doc] = 0;
+                if(!candidate) continue;
+                // 힙에 들어갈 후보만 객체를 만든다
+                if(heap.size() < k){
+                    heap.add(new SearchHit(recipeIds[doc], titles[doc], score));
+                } else if(score > heap.peek().score() || (score == heap.peek().score() && recipeIds[doc] > heap.peek().recipeId())){
+                    heap.poll();
+                    heap.add(new SearchHit(recipeIds[doc], titles[doc], score));
+                }
+            }
+
+            // 건드린 칸을 모두 0으로 되돌렸으므로 반납 (중간에 예외가 나면 버린다)
+            scratchPool.release(buffer);
+
+            List<SearchHit> result = new ArrayList<>(heap);
+            result.sort(RANKING.reversed());
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 오름차순 = 낮은 순위 (점수가 같으면 최신 레시피 우선)
+     */
+    private static final Comparator<SearchHit> RANKING = Comparator
+            .comparingDouble(SearchHit::score)
+            .thenComparingLong(SearchHit::recipeId);
+
+    private static void addField(Map<String, int[]> frequencies, String text, int weight){
+        KoreanNgramTokenizer.indexTerms(text, term -> frequencies.computeIfAbsent(term, t -> new int[1])[0] += weight);
+    }
+
+    private int allocateDoc(long recipeId, String title){
+        int doc = docCount++;
+        if(doc == recipeIds.length){
+            recipeIds = Arrays.copyOf(recipeIds, doc * 2);
+            titles = Arrays.copyOf(titles, doc * 2);
+            lengths = Arrays.copyOf(lengths, doc * 2);
+        }
+        recipeIds[doc] = recipeId;
+        titles[doc] = title;
+        docByRecipeId.put(recipeId, doc);
+        return doc;
+    }
+
+    private void markDeleted(int doc){
+        docByRecipeId.remove(recipeIds[doc]);
+        deleted.set(doc);
+        deletedCount++;
+        totalLength -= lengths[doc];
+        titles[doc] = null;
+    }
+
+    /**
+     * 삭제 표시된 문서를 posting list 에서 걷어내고 살아 있는 문서 번호를 0부터 다시 매긴다
+     * 번호 순서는 그대로 유지되므로 posting list 는 정렬된 상태로 남는다.
+     */
+    private void compactIfNeeded(){
+        if(deletedCount < MIN_DELETED_FOR_COMPACTION || deletedCount * 4 < docCount) return;
+
+        int[] remap = new int[docCount];
+        int live = 0;
+        for(int doc = 0; doc < docCount; doc++){
+            if(deleted.get(doc)){
+                remap[doc] = -1;
+                continue;
+            }
+            remap[doc] = live;
+            recipeIds[live] = recipeIds[doc];
+            titles[live] = titles[doc];
+            lengths[live] = lengths[doc];
+            live++;
+        }
+        Arrays.fill(titles, live, docCount, null);
+
+        Iterator<Postings> iterator = postings.values().iterator();
+        while(iterator.hasNext()){
+            Postings posting = iterator.next();
+            posting.retain(remap);
+            if(posting.size == 0){
+                iterator.remove();
+            }
+        }
+
+        docByRecipeId.clear();
+        for(int doc = 0; doc < live; doc++){
+            docByRecipeId.put(recipeIds[doc], doc);
+        }
+        deleted.clear();
+        deletedCount = 0;
+        docCount = live;
+    }
+
+    private Scratch scratch(int size){
+        Scratch buffer = scratchPool.poll();
+        if(buffer == null) return new Scratch(size);
+        if(buffer.scores.length < size) return new Scratch(Math.max(size, buffer.scores.length * 2));
+        return buffer;
+    }
+
+    /**
+     * 단어 하나의 posting list (문서 번호 오름차순)
+     * 가중 빈도는 BM25 에서 금방 포화되므로 1바이트(최대 255)로 저장해 메모리를 줄인다.
+     */
+    private static final class Postings {
+        int[] docs = new int[4];
+        byte[] frequencies = new byte[4];
+        int size;
+
+        void add(int doc, int frequency){
+            if(size == docs.length){
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docs[size] = doc;
+            frequencies[size] = (byte) Math.min(frequency, 255);
+            size++;
+        }
+
+        void retain(int[] remap){
+            int kept = 0;
+            for(int i = 0; i < size; i++){
+                int doc = remap[docs[i]];
+                if(doc < 0) continue;
+                docs[kept] = doc;
+                frequencies[kept] = frequencies[i];
+                kept++;
+            }
+            size = kept;
+            if(kept > 0 && kept < docs.length / 4){
+                docs = Arrays.copyOf(docs, kept * 2);
+                frequencies = Arrays.copyOf(frequencies, kept * 2);
+            }
+        }
+    }
+
+    // 문서 번호별 누적값 (질의가 끝나면 건드린 칸만 0으로 되돌린다)
+    private static final class Scratch {
+        final float[] scores;
+        final int[] matched;
+        final int[] touched;
+
+        Scratch(int size){
+            this.scores = new float[size];
+            this.matched = new int[size];
+            this.touched = new int[size];
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.myrecipe.recipe.search;
+
+public record SearchHit(long recipeId, String title, double score) {
+}
@@ -0,0 +1,198 @@
+package com.myrecipe.recipe.service;
+
+import com.myrecipe.common.exception.client.ForbiddenException;
+import com.myrecipe.common.exception.client.InvalidRequestException;
+import com.myrecipe.common.exception.client.ResourceNotFoundException;
+import com.myrecipe.common.exception.server.DataPersistenceException;
+import com.myrecipe.ingredient.dictionary.IngredientDictionary;
+import com.myrecipe.ingredient.quantity.ParsedAmount;
+import com.myrecipe.ingredient.quantity.QuantityParser;
+import com.myrecipe.recipe.counter.RecipeCounterBuffer;
+import com.myrecipe.recipe.domain.Recipe;
+import com.myrecipe.recipe.domain.RecipeIngredient;
+import com.myrecipe.recipe.domain.RecipeStep;
+import com.myrecipe.recipe.dto.*;
+import com.myrecipe.recipe.event.RecipeActivityEvent;
+import com.myrecipe.recipe.event.RecipeChangedEvent;
+import com.myrecipe.recipe.repository.RecipeRepository;
+import com.myrecipe.recipe.search.RecipeDocument;
+import com.myrecipe.recipe.search.RecipeSearchIndex;
+import com.myrecipe.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.myrecipe.recipe.event.RecipeChangedEvent.Type.CREATED;
+import static com.myrecipe.recipe.event.RecipeChangedEvent.Type.UPDATED;
+
+@Service
+@RequiredArgsConstructor
+public class RecipeService {
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_SEARCH_SIZE = 50;
+    private static final int MAX_SERVINGS = 100;
+
+    private final RecipeRepository recipeRepository;
+    private final UserRepository userRepository;
+    private final IngredientDictionary ingredientDictionary;
+    private final RecipeSearchIndex recipeSearchIndex;
+    private final RecipeCounterBuffer recipeCounterBuffer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MessageSource messageSource;
+
+    @Transactional(readOnly = true)
+    public RecipeResponse findRecipe(Long recipeId){
+        RecipeResponse response = toResponse(getRecipe(recipeId));
+        eventPublisher.publishEvent(RecipeActivityEvent.of(RecipeActivityEvent.Type.VIEW, recipeId));
+        return response;
+    }
+
+    // 최신순 키셋 페이지 (nextCursor 를 cursor 로 넘겨 다음 페이지 요청)
+    public RecipePageResponse findRecipePage(Long cursor, int size){
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<RecipeSummaryResponse> rows = recipeRepository.findPage(cursor == null ? Long.MAX_VALUE : cursor, Limit.of(pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<RecipeSummaryResponse> recipes = hasNext ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = hasNext ? recipes.get(recipes.size() - 1).getId() : null;
+        return new RecipePageResponse(recipes, nextCursor, hasNext);
+    }
+
+    // DB 를 거치지 않고 메모리 역색인에서 바로 검색 (입력할 때마다 호출되는 자동완성 용도)
+    public List<RecipeSearchResponse> search(String query, int size){
+        return recipeSearchIndex.search(query, Math.min(size, MAX_SEARCH_SIZE)).stream()
+                .map(RecipeSearchResponse::from)
+                .toList();
+    }
+
+    @Transactional
+    public RecipeResponse createRecipe(Long userId, RecipeRequest request){
+        validate(request);
+        Recipe recipe = Recipe.builder()
+                .user(userRepository.getReferenceById(userId))
+                .title(request.getTitle().strip())
+                .description(request.getDescription())
+                .cookingTime(request.getCookingTime())
+                .servings(request.getServings())
+                .imageUrl(request.getImageUrl())
+                .build();
+        toIngredients(request).forEach(recipe::addIngredient);
+        toSteps(request).forEach(recipe::addStep);
+
+        try {
+            recipe = recipeRepository.saveAndFlush(recipe);
+        } catch (DataAccessException e){
+            throw new DataPersistenceException(message("recipe.create.failed"), "ERR_RECIPE_CREATE_FAILED");
+        }
+        eventPublisher.publishEvent(RecipeChangedEvent.upserted(CREATED, RecipeDocument.from(recipe)));
+        return toResponse(recipe);
+    }
+
+    @Transactional
+    public RecipeResponse updateRecipe(Long userId, Long recipeId, RecipeRequest request){
+        validate(request);
+        Recipe recipe = getOwnedRecipe(userId, recipeId);
+        recipe.update(request.getTitle().strip(), request.getDescription(), request.getCookingTime(),
+                request.getServings(), request.getImageUrl());
+        recipe.replaceIngredients(toIngredients(request));
+        recipe.replaceSteps(toSteps(request));
+
+        try {
+            recipeRepository.flush();
+        } catch (DataAccessException e){
+            throw new DataPersistenceException(message("recipe.update.failed"), "ERR_RECIPE_UPDATE_FAILED");
+        }
+        eventPublisher.publishEvent(RecipeChangedEvent.upserted(UPDATED, RecipeDocument.from(recipe)));
+        return toResponse(recipe);
+    }
+
+    @Transactional
+    public void deleteRecipe(Long userId, Long recipeId){
+        Recipe recipe = getOwnedRecipe(userId, recipeId);
+        try {
+            recipeRepository.delete(recipe);
+            recipeRepository.flush();
+        } catch (DataAccessException e){
+            throw new DataPersistenceException(message("recipe.delete.failed"), "ERR_RECIPE_DELETE_FAILED");
+        }
+        recipeCounterBuffer.discard(recipeId);
+        eventPublisher.publishEvent(RecipeChangedEvent.deleted(recipeId));
+    }
+
+    private RecipeResponse toResponse(Recipe recipe){
+        return RecipeResponse.from(recipe, recipeCounterBuffer.pending(recipe.getId()));
+    }
+
+    private Recipe getRecipe(Long recipeId){
+        return recipeRepository.findDetailById(recipeId)
+                .orElseThrow(() -> new ResourceNotFoundException(message("recipe.notfound"), "ERR_RECIPE_NOT_FOUND"));
+    }
+
+    private Recipe getOwnedRecipe(Long userId, Long recipeId){
+        Recipe recipe = getRecipe(recipeId);
+        if(!recipe.isWrittenBy(userId)){
+            throw new ForbiddenException("본인이 작성한 레시피만 수정/삭제할 수 있습니다.", "ERR_RECIPE_FORBIDDEN");
+        }
+        return recipe;
+    }
+
+    private void validate(RecipeRequest request){
+        if(request.getTitle() == null || request.getTitle().isBlank()){
+            throw new InvalidRequestException("레시피 제목을 입력해주세요.", "ERR_RECIPE_TITLE_REQUIRED");
+        }
+        // 장보기 목록에서 기준 인분으로 나눠 배수를 구하므로 범위를 제한 (분량 상한은 Quantities.toMicros)
+        if(request.getServings() != null && (request.getServings() <= 0 || request.getServings() > MAX_SERVINGS)){
+            throw new InvalidRequestException("인분은 1 이상 " + MAX_SERVINGS + " 이하여야 합니다.", "ERR_RECIPE_INVALID_SERVINGS");
+        }
+    }
+
+    // 빈 줄은 건너뛰고, 이름은 재료 사전의 표준 재료와 연결 (분량은 장보기 계산용으로 미리 해석)
+    private List<RecipeIngredient> toIngredients(RecipeRequest request){
+        List<RecipeIngredient> ingredients = new ArrayList<>();
+        if(request.getIngredients() == null) return ingredients;
+        for(RecipeIngredientRequest line : request.getIngredients()){
+            if(line == null || line.getName() == null || line.getName().isBlank()) continue;
+            ParsedAmount parsed = QuantityParser.parse(line.getAmount()).orElse(null);
+            ingredients.add(RecipeIngredient.builder()
+                    .position(ingredients.size())
+                    .name(line.getName().strip())
+                    .amount(line.getAmount())
+                    .amountMicros(parsed == null ? null : parsed.micros())
+                    .dimension(parsed == null ? null : parsed.dimension())
+                    .ingredientId(ingredientDictionary.resolveId(line.getName()).orElse(null))
+                    .build());
+        }
+        return ingredients;
+    }
+
+    // 단계 번호는 요청 순서대로 1부터 다시 매긴다
+    private List<RecipeStep> toSteps(RecipeRequest request){
+        List<RecipeStep> steps = new ArrayList<>();
+        if(request.getCookingSteps() == null) return steps;
+        for(RecipeStepRequest step : request.getCookingSteps()){
+            if(step == null) continue;
+            boolean empty = (step.getTitle() == null || step.getTitle().isBlank())
+                    && (step.getDescription() == null || step.getDescription().isBlank());
+            if(empty) continue;
+            steps.add(RecipeStep.builder()
+                    .stepNumber(steps.size() + 1)
+                    .title(step.getTitle())
+                    .description(step.getDescription())
+                    .imageUrl(step.getImage())
+                    .build());
+        }
+        return steps;
+    }
+
+    private String message(String code){
+        return messageSource.getMessage(code, null, LocaleContextHolder.getLocale());
+    }
+}
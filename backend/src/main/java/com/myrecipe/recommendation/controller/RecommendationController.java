@@ -0,0 +1,25 @@
+package com.myrecipe.recommendation.controller;
+
+import com.myrecipe.recommendation.dto.RecommendationResponse;
+import com.myrecipe.recommendation.service.RecipeRecommendationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/recommendations")
+public class RecommendationController {
+    private final RecipeRecommendationService recipeRecommendationService;
+
+    @GetMapping
+    public List<RecommendationResponse> recommend(@AuthenticationPrincipal Long userId,
+                                                  @RequestParam(defaultValue = "10") int size){
+        return recipeRecommendationService.recommend(userId, size);
+    }
+}
@@ -0,0 +1,25 @@
+package com.myrecipe.recommendation.dto;
+
+import com.myrecipe.recommendation.index.RecipeMatch;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RecommendationResponse {
+    private Long recipeId;
+    private int matchedCount;   // 냉장고에 있는 재료 수
+    private int requiredCount;  // 레시피 전체 재료 수
+    private double coverage;    // 재료 충족률 (0 ~ 1)
+    private double score;       // 충족률 + 유통기한 임박 재료 가산점
+
+    public static RecommendationResponse from(RecipeMatch match){
+        return new RecommendationResponse(
+                match.recipeId(),
+                match.matchedCount(),
+                match.requiredCount(),
+                match.coverage(),
+                match.score()
+        );
+    }
+}
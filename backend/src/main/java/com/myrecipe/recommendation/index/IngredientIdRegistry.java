@@ -0,0 +1,54 @@
+package com.myrecipe.recommendation.index;
+
+import com.myrecipe.ingredient.dictionary.IngredientDictionary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 재료 이름 -> 역색인용 정수 id
+ * 재료 사전의 표준 이름으로 바꾼 뒤 id 를 발급하므로 "양파", "양파 ", "onion" 은 같은 id 가 된다.
+ * 사전에 없는 이름은 정규화(공백 제거, 소문자)한 이름 그대로 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IngredientIdRegistry {
+    public static final int UNKNOWN = -1;
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger sequence = new AtomicInteger();
+    // 새 id 가 맵에 들어간 "뒤에" 올린다 (세대를 먼저 읽고 조회한 쪽은 놓친 등록이 있으면 반드시 다음 세대를 보게 됨)
+    private final AtomicInteger generation = new AtomicInteger();
+
+    private final IngredientDictionary ingredientDictionary;
+
+    // 처음 보는 재료면 새 id 발급
+    public int register(String name){
+        String key = ingredientDictionary.canonicalKey(name);
+        Integer id = ids.get(key);
+        if(id != null) return id;
+        id = ids.computeIfAbsent(key, k -> sequence.getAndIncrement());
+        generation.incrementAndGet();
+        return id;
+    }
+
+    // 어떤 레시피/냉장고에도 없던 재료면 UNKNOWN
+    public int find(String name){
+        return findByKey(ingredientDictionary.canonicalKey(name));
+    }
+
+    public int findByKey(String canonicalKey){
+        return ids.getOrDefault(canonicalKey, UNKNOWN);
+    }
+
+    public String canonicalKey(String name){
+        return ingredientDictionary.canonicalKey(name);
+    }
+
+    // 새 재료가 등록될 때마다 커지는 값 (find 결과를 캐시한 쪽의 무효화 기준)
+    public int generation(){
+        return generation.get();
+    }
+}
@@ -0,0 +1,211 @@
+package com.myrecipe.recommendation.index;
+
+import com.myrecipe.common.concurrency.BoundedPool;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 재료 -> 레시피 역색인
+ * - 재료 id 별로 레시피 문서 번호(int)를 Roaring 비트맵으로 보관한다.
+ * - 냉장고 재료 posting list 를 순회하며 레시피별 보유 재료 수를 누적하므로, 레시피 수가 아니라 매칭 건수에 비례해 동작한다.
+ * - 레시피 id(Long) 는 내부 문서 번호로 변환해서 사용하고, 삭제된 번호는 재사용한다.
+ */
+@Component
+public class RecipeIngredientIndex {
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Integer, RoaringBitmap> postings = new HashMap<>();
+    private final Map<Long, Integer> docByRecipeId = new HashMap<>();
+    private final ArrayDeque<Integer> freeDocs = new ArrayDeque<>();
+
+    private long[] recipeIds = new long[1024];
+    private int[][] ingredientsByDoc = new int[1024][];
+    private int docCount;
+
+    // 질의마다 레시피 수만큼 배열을 만들지 않도록 누적 버퍼를 재사용 (스레드 수와 무관하게 코어 수만큼만 보관)
+    private final BoundedPool<Scratch> scratchPool = BoundedPool.perProcessor();
+
+    /**
+     * 레시피 재료 목록 등록 (이미 있으면 교체)
+     */
+    public void put(long recipeId, int[] ingredientIds){
+        int[] distinct = Arrays.stream(ingredientIds).distinct().toArray();
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = docByRecipeId.get(recipeId);
+            int doc = existing != null ? existing : allocateDoc(recipeId);
+            if(existing != null){
+                unlink(doc);
+            }
+            for(int ingredientId : distinct){
+                postings.computeIfAbsent(ingredientId, id -> new RoaringBitmap()).add(doc);
+            }
+            ingredientsByDoc[doc] = distinct;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long recipeId){
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByRecipeId.remove(recipeId);
+            if(doc == null) return;
+            unlink(doc);
+            ingredientsByDoc[doc] = null;
+            freeDocs.push(doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 레시피의 재료 id 목록 (색인에 없으면 빈 배열)
+     */
+    public int[] ingredientsOf(long recipeId){
+        lock.readLock().lock();
+        try {
+            Integer doc = docByRecipeId.get(recipeId);
+            return doc == null ? new int[0] : ingredientsByDoc[doc].clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size(){
+        lock.readLock().lock();
+        try {
+            return docByRecipeId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 보유 재료 기준 상위 K개 레시피 (긴급도 가중치 없음)
+     */
+    public List<RecipeMatch> topK(int[] ownedIngredientIds, int k){
+        return topK(ownedIngredientIds, null, k);
+    }
+
+    /**
+     * 보유 재료 기준 상위 K개 레시피 (점수 -> 보유 재료 수 -> 필요 재료 수 적은 순)
+     * @param urgencyWeights ownedIngredientIds 와 같은 순서의 유통기한 긴급도 (null 이면 0), 재료 id 는 중복 없이 넘긴다
+     */
+    public List<RecipeMatch> topK(int[] ownedIngredientIds, float[] urgencyWeights, int k){
+        if(k <= 0 || ownedIngredientIds.length == 0) return List.of();
+
+        lock.readLock().lock();
+        try {
+            Scratch buffer = scratch(docCount);
+            int[] matched = buffer.matched;
+            float[] urgency = buffer.urgency;
+            RoaringBitmap candidates = new RoaringBitmap();
+
+            for(int i = 0; i < ownedIngredientIds.length; i++){
+                RoaringBitmap posting = postings.get(ownedIngredientIds[i]);
+                if(posting == null) continue;
+                float weight = urgencyWeights == null ? 0f : urgencyWeights[i];
+                if(weight == 0f){
+                    posting.forEach((int doc) -> matched[doc]++);
+                } else {
+                    posting.forEach((int doc) -> {
+                        matched[doc]++;
+                        urgency[doc] += weight;
+                    });
+                }
+                candidates.or(posting);
+            }
+
+            PriorityQueue<RecipeMatch> heap = new PriorityQueue<>(k + 1, RANKING);
+            candidates.forEach((int doc) -> {
+                int matchedCount = matched[doc];
+                int requiredCount = ingredientsByDoc[doc].length;
+                float urgencySum = urgency[doc];
+                matched[doc] = 0;
+                urgency[doc] = 0f;
+                // 힙에 들어갈 후보만 객체를 만든다
+                if(heap.size() < k){
+                    heap.add(new RecipeMatch(recipeIds[doc], matchedCount, requiredCount, urgencySum));
+                } else if(outranks(matchedCount, requiredCount, urgencySum, recipeIds[doc], heap.peek())){
+                    heap.poll();
+                    heap.add(new RecipeMatch(recipeIds[doc], matchedCount, requiredCount, urgencySum));
+                }
+            });
+
+            // 건드린 칸을 모두 0으로 되돌렸으므로 반납 (중간에 예외가 나면 버린다)
+            scratchPool.release(buffer);
+
+            List<RecipeMatch> result = new ArrayList<>(heap);
+            result.sort(RANKING.reversed());
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 오름차순 = 낮은 순위. 힙의 최솟값이 현재 K번째 후보가 된다.
+     */
+    private static final Comparator<RecipeMatch> RANKING = Comparator
+            .comparingDouble(RecipeMatch::score)
+            .thenComparingInt(RecipeMatch::matchedCount)
+            .thenComparing(Comparator.comparingInt(RecipeMatch::requiredCount).reversed())
+            .thenComparing(Comparator.comparingLong(RecipeMatch::recipeId).reversed());
+
+    private static boolean outranks(int matchedCount, int requiredCount, float urgency, long recipeId, RecipeMatch lowest){
+        double score = (matchedCount + urgency) / requiredCount;
+        if(score != lowest.score()) return score > lowest.score();
+        if(matchedCount != lowest.matchedCount()) return matchedCount > lowest.matchedCount();
+        if(requiredCount != lowest.requiredCount()) return requiredCount < lowest.requiredCount();
+        return recipeId < lowest.recipeId();
+    }
+
+    private int allocateDoc(long recipeId){
+        int doc;
+        if(!freeDocs.isEmpty()){
+            doc = freeDocs.pop();
+        } else {
+            doc = docCount++;
+            if(doc == recipeIds.length){
+                recipeIds = Arrays.copyOf(recipeIds, doc * 2);
+                ingredientsByDoc = Arrays.copyOf(ingredientsByDoc, doc * 2);
+            }
+        }
+        recipeIds[doc] = recipeId;
+        docByRecipeId.put(recipeId, doc);
+        return doc;
+    }
+
+    private void unlink(int doc){
+        for(int ingredientId : ingredientsByDoc[doc]){
+            RoaringBitmap posting = postings.get(ingredientId);
+            posting.remove(doc);
+            if(posting.isEmpty()){
+                postings.remove(ingredientId);
+            }
+        }
+    }
+
+    private Scratch scratch(int size){
+        Scratch buffer = scratchPool.poll();
+        if(buffer == null) return new Scratch(size);
+        if(buffer.matched.length < size) return new Scratch(Math.max(size, buffer.matched.length * 2));
+        return buffer;
+    }
+
+    // 문서 번호별 누적값 (질의가 끝나면 건드린 칸만 0으로 되돌린다)
+    private static final class Scratch {
+        final int[] matched;
+        final float[] urgency;
+
+        Scratch(int size){
+            this.matched = new int[size];
+            this.urgency = new float[size];
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.myrecipe.recommendation.index;
+
+/**
+ * 역색인 조회 결과 (레시피 하나의 재료 보유 현황)
+ * urgency 는 매칭된 냉장고 재료들의 유통기한 긴급도 합 (0 ~ matchedCount)
+ */
+public record RecipeMatch(long recipeId, int matchedCount, int requiredCount, float urgency) {
+
+    public double coverage(){
+        return requiredCount == 0 ? 0 : (double) matchedCount / requiredCount;
+    }
+
+    /**
+     * 재료 충족률 + 곧 상할 재료를 쓰는 만큼의 가산점
+     */
+    public double score(){
+        return requiredCount == 0 ? 0 : (matchedCount + urgency) / requiredCount;
+    }
+
+    public int missingCount(){
+        return requiredCount - matchedCount;
+    }
+}
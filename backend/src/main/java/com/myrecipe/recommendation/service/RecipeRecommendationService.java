@@ -0,0 +1,28 @@
+package com.myrecipe.recommendation.service;
+
+import com.myrecipe.recommendation.dto.RecommendationResponse;
+import com.myrecipe.recommendation.index.RecipeIngredientIndex;
+import com.myrecipe.recommendation.urgency.FridgeUrgencyRegistry;
+import com.myrecipe.recommendation.urgency.UrgencySnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class RecipeRecommendationService {
+    private static final int MAX_SIZE = 50;
+
+    private final FridgeUrgencyRegistry fridgeUrgencyRegistry;
+    private final RecipeIngredientIndex recipeIngredientIndex;
+
+    // 곧 상할 재료를 쓰는 레시피일수록 상위에 노출
+    public List<RecommendationResponse> recommend(Long userId, int size){
+        UrgencySnapshot fridge = fridgeUrgencyRegistry.snapshot(userId);
+
+        return recipeIngredientIndex.topK(fridge.ingredientIds(), fridge.weights(), Math.min(size, MAX_SIZE)).stream()
+                .map(RecommendationResponse::from)
+                .toList();
+    }
+}
@@ -0,0 +1,81 @@
+package com.myrecipe.recommendation.urgency;
+
+import com.myrecipe.recommendation.index.IngredientIdRegistry;
+import com.myrecipe.refrigerator.domain.RefrigeratorItem;
+import com.myrecipe.refrigerator.event.RefrigeratorItemChangedEvent;
+import com.myrecipe.refrigerator.repository.RefrigeratorItemRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 FridgeUrgencyVector 보관소
+ * - 처음 조회할 때 한 번만 findByUserId 로 채우고, 이후에는 냉장고 변경 이벤트로만 갱신한다.
+ * - 메모리에 없는 사용자의 이벤트는 무시한다 (다음 조회 때 DB에서 새로 읽음).
+ * - 재료는 표준 키로 담고 id 는 조회만 한다 (자유 입력 이름으로 id 가 늘어나지 않도록).
+ *   id 는 스냅샷을 만들 때 찾으므로, 레시피 색인 적재 전에 캐시된 냉장고나 새 레시피로 생긴 재료도 다음 조회부터 반영된다.
+ */
+@Component
+public class FridgeUrgencyRegistry {
+    private final ConcurrentHashMap<Long, FridgeUrgencyVector> vectors = new ConcurrentHashMap<>();
+
+    private final RefrigeratorItemRepository refrigeratorItemRepository;
+    private final IngredientIdRegistry ingredientIdRegistry;
+    private final int horizonDays;
+    private final int maxUsers;
+
+    public FridgeUrgencyRegistry(RefrigeratorItemRepository refrigeratorItemRepository,
+                                 IngredientIdRegistry ingredientIdRegistry,
+                                 @Value("${recommendation.urgency.horizon-days:7}") int horizonDays,
+                                 @Value("${recommendation.urgency.max-users:50000}") int maxUsers){
+        this.refrigeratorItemRepository = refrigeratorItemRepository;
+        this.ingredientIdRegistry = ingredientIdRegistry;
+        this.horizonDays = horizonDays;
+        this.maxUsers = maxUsers;
+    }
+
+    public UrgencySnapshot snapshot(Long userId){
+        if(vectors.size() >= maxUsers && !vectors.containsKey(userId)){
+            evictSome();
+        }
+        return vectors.computeIfAbsent(userId, this::load).snapshot(LocalDate.now().toEpochDay(), ingredientIdRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(RefrigeratorItemChangedEvent event){
+        vectors.computeIfPresent(event.userId(), (userId, vector) -> {
+            if(event.type() == RefrigeratorItemChangedEvent.Type.DELETED){
+                vector.remove(event.itemId());
+            } else {
+                vector.upsert(event.itemId(), ingredientIdRegistry.canonicalKey(event.name()), epochDay(event.expirationDate()));
+            }
+            return vector;
+        });
+    }
+
+    private FridgeUrgencyVector load(Long userId){
+        FridgeUrgencyVector vector = new FridgeUrgencyVector(horizonDays);
+        for(RefrigeratorItem item : refrigeratorItemRepository.findByUserId(userId)){
+            vector.upsert(item.getId(), ingredientIdRegistry.canonicalKey(item.getName()), epochDay(item.getExpirationDate()));
+        }
+        return vector;
+    }
+
+    // 최대 사용자 수의 10%를 비운다 (다시 조회되면 DB에서 재적재)
+    private void evictSome(){
+        int target = Math.max(1, maxUsers / 10);
+        Iterator<Long> it = vectors.keySet().iterator();
+        while(target-- > 0 && it.hasNext()){
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static int epochDay(LocalDate date){
+        return date == null ? FridgeUrgencyVector.NO_EXPIRATION : (int) date.toEpochDay();
+    }
+}
@@ -0,0 +1,116 @@
+package com.myrecipe.recommendation.urgency;
+
+import com.myrecipe.recommendation.index.IngredientIdRegistry;
+
+import java.util.Arrays;
+
+/**
+ * 사용자 한 명의 냉장고 재료 + 유통기한 (원시 배열)
+ * - 재료 생성/수정/삭제 이벤트로 한 칸씩 갱신한다.
+ * - 재료별 긴급도 가중치는 날짜가 바뀌거나 내용이 바뀔 때만 다시 계산하고, 그 외에는 캐시된 배열을 그대로 돌려준다.
+ * - 재료는 표준 키로 보관하고 id 는 스냅샷을 만들 때 조회한다. 새 재료가 등록되면(레시피 색인 적재, 새 레시피) 스냅샷을 다시 만든다.
+ */
+public class FridgeUrgencyVector {
+    static final int NO_EXPIRATION = Integer.MAX_VALUE;
+
+    private final int horizonDays;
+
+    private long[] itemIds = new long[16];
+    private String[] ingredientKeys = new String[16];
+    private int[] expirationEpochDays = new int[16];
+    private int size;
+
+    private UrgencySnapshot snapshot;
+    private long snapshotDay = Long.MIN_VALUE;
+    private int snapshotGeneration;
+
+    public FridgeUrgencyVector(int horizonDays){
+        this.horizonDays = horizonDays;
+    }
+
+    public synchronized void upsert(long itemId, String ingredientKey, int expirationEpochDay){
+        int slot = indexOf(itemId);
+        if(slot < 0){
+            if(size == itemIds.length){
+                itemIds = Arrays.copyOf(itemIds, size * 2);
+                ingredientKeys = Arrays.copyOf(ingredientKeys, size * 2);
+                expirationEpochDays = Arrays.copyOf(expirationEpochDays, size * 2);
+            }
+            slot = size++;
+            itemIds[slot] = itemId;
+        }
+        ingredientKeys[slot] = ingredientKey;
+        expirationEpochDays[slot] = expirationEpochDay;
+        snapshot = null;
+    }
+
+    public synchronized void remove(long itemId){
+        int slot = indexOf(itemId);
+        if(slot < 0) return;
+        // 마지막 칸을 빈 자리로 옮겨 배열을 빽빽하게 유지
+        int last = --size;
+        itemIds[slot] = itemIds[last];
+        ingredientKeys[slot] = ingredientKeys[last];
+        ingredientKeys[last] = null;
+        expirationEpochDays[slot] = expirationEpochDays[last];
+        snapshot = null;
+    }
+
+    /**
+     * 재료 id 중복을 합친(가장 급한 항목 기준) 재료 목록과 긴급도 가중치
+     * 어떤 레시피에도 없는 재료(id 없음)는 추천 점수에 쓰이지 않으므로 뺀다.
+     */
+    public synchronized UrgencySnapshot snapshot(long todayEpochDay, IngredientIdRegistry ingredientIdRegistry){
+        // 세대를 먼저 읽어야 조회 도중 등록된 재료를 놓쳐도 다음 호출에서 다시 만든다
+        int generation = ingredientIdRegistry.generation();
+        if(snapshot != null && snapshotDay == todayEpochDay && snapshotGeneration == generation){
+            return snapshot;
+        }
+
+        int[] ids = new int[size];
+        float[] weights = new float[size];
+        int distinct = 0;
+        for(int i = 0; i < size; i++){
+            int ingredientId = ingredientIdRegistry.findByKey(ingredientKeys[i]);
+            if(ingredientId == IngredientIdRegistry.UNKNOWN) continue;
+            float weight = weight(expirationEpochDays[i], todayEpochDay);
+            int existing = find(ids, distinct, ingredientId);
+            if(existing >= 0){
+                weights[existing] = Math.max(weights[existing], weight);
+            } else {
+                ids[distinct] = ingredientId;
+                weights[distinct++] = weight;
+            }
+        }
+
+        snapshot = new UrgencySnapshot(Arrays.copyOf(ids, distinct), Arrays.copyOf(weights, distinct));
+        snapshotDay = todayEpochDay;
+        snapshotGeneration = generation;
+        return snapshot;
+    }
+
+    /**
+     * 유통기한이 지났거나 오늘까지면 1, horizonDays 이후면 0, 그 사이는 선형 감소
+     */
+    private float weight(int expirationEpochDay, long todayEpochDay){
+        if(expirationEpochDay == NO_EXPIRATION) return 0f;
+        long daysLeft = expirationEpochDay - todayEpochDay;
+        if(daysLeft <= 0) return 1f;
+        if(daysLeft >= horizonDays) return 0f;
+        return 1f - (float) daysLeft / horizonDays;
+    }
+
+    private int indexOf(long itemId){
+        for(int i = 0; i < size; i++){
+            if(itemIds[i] == itemId) return i;
+        }
+        return -1;
+    }
+
+    private static int find(int[] values, int length, int value){
+        for(int i = 0; i < length; i++){
+            if(values[i] == value) return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,7 @@
+package com.myrecipe.recommendation.urgency;
+
+/**
+ * 추천 질의에 그대로 넘기는 재료 id / 긴급도 가중치 (같은 인덱스끼리 짝)
+ */
+public record UrgencySnapshot(int[] ingredientIds, float[] weights) {
+}
@@ -0,0 +1,11 @@
+package com.myrecipe.refrigerator.cache;
+
+import com.myrecipe.refrigerator.dto.ItemResponse;
+
+import java.util.List;
+
+/**
+ * 캐시된 냉장고 목록 + 응답 본문 기준 ETag / 크기
+ */
+public record CachedItems(List<ItemResponse> items, String etag, int bodyBytes) {
+}
@@ -0,0 +1,127 @@
+package com.myrecipe.refrigerator.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myrecipe.refrigerator.dto.ItemResponse;
+import com.myrecipe.refrigerator.event.RefrigeratorItemChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.zip.CRC32C;
+
+/**
+ * 사용자별 냉장고 목록 캐시 (LRU, 최대 사용자 수 제한)
+ * - 냉장고 변경 이벤트(커밋 후)마다 해당 사용자 항목을 무효화한다.
+ * - DB 조회 도중 무효화가 일어나면 조회 결과를 캐시에 넣지 않는다 (사용자 해시별 버전 비교).
+ */
+@Component
+public class RefrigeratorReadCache {
+    private static final int VERSION_STRIPES = 1024;
+
+    private final Map<Long, CachedItems> entries;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final ObjectMapper objectMapper;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final Counter bytesSaved;
+
+    public RefrigeratorReadCache(@Value("${refrigerator.cache.max-users:10000}") int maxUsers,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry){
+        this.objectMapper = objectMapper;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true){
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedItems> eldest){
+                return size() > maxUsers;
+            }
+        };
+
+        FunctionCounter.builder("refrigerator.item.cache", hits, LongAdder::sum).tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("refrigerator.item.cache", misses, LongAdder::sum).tag("result", "miss").register(meterRegistry);
+        Gauge.builder("refrigerator.item.cache.hit.ratio", this, RefrigeratorReadCache::hitRatio).register(meterRegistry);
+        Gauge.builder("refrigerator.item.cache.size", this, RefrigeratorReadCache::size).register(meterRegistry);
+        this.bytesSaved = Counter.builder("refrigerator.item.cache.bytes.saved")
+                .description("304 응답으로 전송하지 않은 본문 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public CachedItems get(Long userId, Supplier<List<ItemResponse>> loader){
+        CachedItems cached;
+        synchronized (entries){
+            cached = entries.get(userId);
+        }
+        if(cached != null){
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        long version = versions.get(stripe(userId));
+        CachedItems loaded = toCachedItems(loader.get());
+        synchronized (entries){
+            if(versions.get(stripe(userId)) == version){
+                entries.put(userId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    public void invalidate(Long userId){
+        synchronized (entries){
+            versions.incrementAndGet(stripe(userId));
+            entries.remove(userId);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(RefrigeratorItemChangedEvent event){
+        invalidate(event.userId());
+    }
+
+    // 클라이언트가 가진 본문이 최신이라 304 로 응답한 경우
+    public void recordNotModified(CachedItems cached){
+        bytesSaved.increment(cached.bodyBytes());
+    }
+
+    public int size(){
+        synchronized (entries){
+            return entries.size();
+        }
+    }
+
+    private double hitRatio(){
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    private CachedItems toCachedItems(List<ItemResponse> items){
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(items);
+        } catch (JsonProcessingException e){
+            throw new IllegalStateException("냉장고 목록 직렬화에 실패했습니다.", e);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+        String etag = "\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(body.length) + "\"";
+        return new CachedItems(items, etag, body.length);
+    }
+
+    private static int stripe(Long userId){
+        return (int) (Long.hashCode(userId) & (VERSION_STRIPES - 1));
+    }
+}
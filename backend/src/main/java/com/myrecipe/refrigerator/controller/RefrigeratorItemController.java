@@ -1,13 +1,20 @@
 package com.myrecipe.refrigerator.controller;
 
+import com.myrecipe.refrigerator.cache.CachedItems;
+import com.myrecipe.refrigerator.cache.RefrigeratorReadCache;
+import com.myrecipe.refrigerator.dto.ItemBatchRequest;
+import com.myrecipe.refrigerator.dto.ItemBatchResponse;
+import com.myrecipe.refrigerator.dto.ItemPageResponse;
 import com.myrecipe.refrigerator.dto.ItemRequest;
 import com.myrecipe.refrigerator.dto.ItemResponse;
+import com.myrecipe.refrigerator.dto.ItemSort;
 import com.myrecipe.refrigerator.service.RefrigeratorItemService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,10 +23,26 @@ import java.util.List;
 @RequestMapping("/api/refrigerator")
 public class RefrigeratorItemController {
     private final RefrigeratorItemService refrigeratorItemService;
+    private final RefrigeratorReadCache refrigeratorReadCache;
 
+    // If-None-Match 가 현재 ETag 와 같으면 본문 없이 304
     @GetMapping("/item")
-    public List<ItemResponse> findItem(@AuthenticationPrincipal Long userId){
-        return refrigeratorItemService.findItem(userId);
+    public ResponseEntity<List<ItemResponse>> findItem(@AuthenticationPrincipal Long userId, WebRequest webRequest){
+        CachedItems cached = refrigeratorItemService.findCachedItem(userId);
+        if(webRequest.checkNotModified(cached.etag())){
+            refrigeratorReadCache.recordNotModified(cached);
+            return null;
+        }
+        return ResponseEntity.ok().eTag(cached.etag()).body(cached.items());
+    }
+
+    // 커서 기반 페이지 조회 (nextCursor 를 cursor 로 넘겨 다음 페이지 요청)
+    @GetMapping("/item/page")
+    public ItemPageResponse findItemPage(@AuthenticationPrincipal Long userId,
+                                         @RequestParam(defaultValue = "EXPIRATION") ItemSort sort,
+                                         @RequestParam(required = false) String cursor,
+                                         @RequestParam(defaultValue = "20") int size){
+        return refrigeratorItemService.findItemPage(userId, sort, cursor, size);
     }
 
     @PostMapping("/item")
@@ -29,6 +52,14 @@ public class RefrigeratorItemController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // 여러 재료 생성/수정/삭제를 한 번의 요청 + 한 트랜잭션으로 처리
+    @PostMapping("/item/batch")
+    public ResponseEntity<ItemBatchResponse> applyBatch(@AuthenticationPrincipal Long userId,
+                                                        @RequestBody ItemBatchRequest request){
+        ItemBatchResponse response = refrigeratorItemService.applyBatch(userId, request.getOperations());
+        return ResponseEntity.ok(response);
+    }
+
     @PatchMapping("/item/{itemId}")
     public ResponseEntity<ItemResponse> updateItem(@AuthenticationPrincipal Long userId,
                                                     @PathVariable Long itemId,
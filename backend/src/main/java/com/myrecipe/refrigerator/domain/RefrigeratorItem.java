@@ -1,5 +1,7 @@
 package com.myrecipe.refrigerator.domain;
 
+import com.myrecipe.common.id.TimeOrderedId;
+import com.myrecipe.ingredient.quantity.Dimension;
 import com.myrecipe.refrigerator.dto.ItemRequest;
 import com.myrecipe.user.domain.User;
 import jakarta.persistence.*;
@@ -16,22 +18,40 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "refrigerator_item")
+@Table(
+        name = "refrigerator_item",
+        indexes = {
+                // 키셋 페이지네이션용 (user_id + 정렬 컬럼 + id)
+                @Index(name = "idx_refrigerator_item_user_expiration", columnList = "user_id, expiration_date, id"),
+                @Index(name = "idx_refrigerator_item_user_name", columnList = "user_id, name, id"),
+                @Index(name = "idx_refrigerator_item_user_created", columnList = "user_id, created_at, id")
+        }
+)
 public class RefrigeratorItem {
+    // IDENTITY 는 insert 마다 DB 왕복이 필요해 JDBC 배치가 불가능 -> 애플리케이션에서 시간순 id 를 만들어 채운다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
-    @OneToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
     @Column(name = "name", nullable = false)
     private String name;
 
-    @Column(name = "quantity")
-    private Integer quantity;
+    // 재료 사전의 표준 재료 (사전에 없는 이름이면 null)
+    @Column(name = "ingredient_id")
+    private Long ingredientId;
 
+    // 수량: 기준 단위(개/g/ml)의 마이크로 값 + 차원 코드 (단위가 달라도 바로 비교/차감할 수 있도록)
+    @Column(name = "amount_micros")
+    private Long amountMicros;
+
+    @Column(name = "unit_dimension")
+    private Dimension dimension;
+
+    // 사용자가 입력한 단위 (표시용)
     @Column(name = "unit")
     private String unit;
 
@@ -57,9 +77,17 @@ public class RefrigeratorItem {
     }
 
     public void update(ItemRequest request){
+        // 수량 검증이 실패하면 어떤 필드도 바뀌지 않도록 먼저 계산 (관리 중인 엔티티라 일부만 바뀌어도 flush 된다)
+        Long amountMicros = request.amountMicros();
+        Dimension dimension = request.dimension();
         this.name = request.getName();
-        this.quantity = request.getQuantity();
+        this.amountMicros = amountMicros;
+        this.dimension = dimension;
         this.unit = request.getUnit();
         this.expirationDate = request.getExpirationDate();
     }
+
+    public void assignIngredient(Long ingredientId){
+        this.ingredientId = ingredientId;
+    }
 }
@@ -0,0 +1,5 @@
+package com.myrecipe.refrigerator.dto;
+
+public enum BatchOperationType {
+    CREATE, UPDATE, DELETE
+}
@@ -0,0 +1,12 @@
+package com.myrecipe.refrigerator.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ItemBatchOperation {
+    private BatchOperationType type;
+    private Long itemId;      // UPDATE, DELETE 대상
+    private ItemRequest item; // CREATE, UPDATE 내용
+}
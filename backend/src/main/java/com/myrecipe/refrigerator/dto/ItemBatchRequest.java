@@ -0,0 +1,12 @@
+package com.myrecipe.refrigerator.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class ItemBatchRequest {
+    private List<ItemBatchOperation> operations;
+}
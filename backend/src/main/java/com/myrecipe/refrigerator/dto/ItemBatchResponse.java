@@ -0,0 +1,19 @@
+package com.myrecipe.refrigerator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ItemBatchResponse {
+    private int succeeded;
+    private int failed;
+    private List<ItemBatchResult> results;
+
+    public static ItemBatchResponse of(List<ItemBatchResult> results){
+        int succeeded = (int) results.stream().filter(ItemBatchResult::isSuccess).count();
+        return new ItemBatchResponse(succeeded, results.size() - succeeded, results);
+    }
+}
@@ -0,0 +1,23 @@
+package com.myrecipe.refrigerator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ItemBatchResult {
+    private int index;               // 요청 operations 내 위치
+    private BatchOperationType type;
+    private boolean success;
+    private Long itemId;
+    private ItemResponse item;       // CREATE, UPDATE 성공 시 결과
+    private String message;          // 실패 사유
+
+    public static ItemBatchResult success(int index, BatchOperationType type, Long itemId, ItemResponse item){
+        return new ItemBatchResult(index, type, true, itemId, item, null);
+    }
+
+    public static ItemBatchResult failure(int index, BatchOperationType type, Long itemId, String message){
+        return new ItemBatchResult(index, type, false, itemId, null, message);
+    }
+}
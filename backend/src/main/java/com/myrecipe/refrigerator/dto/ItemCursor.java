@@ -0,0 +1,53 @@
+package com.myrecipe.refrigerator.dto;
+
+import com.myrecipe.common.exception.client.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서: 마지막으로 내려준 항목의 (정렬 키, id)
+ * 클라이언트에는 "정렬|키|id" 를 Base64URL 로 인코딩한 문자열로 전달한다. 키가 null 이면 빈 문자열.
+ */
+public record ItemCursor(ItemSort sort, String key, long id) {
+
+    public String encode(){
+        String raw = sort.name() + "|" + (key == null ? "" : key) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDate keyAsDate(){
+        try {
+            return LocalDate.parse(key);
+        } catch (DateTimeException e){
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public LocalDateTime keyAsDateTime(){
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeException | NullPointerException e){
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public static ItemCursor decode(String cursor, ItemSort expectedSort){
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int first = raw.indexOf('|');
+            int last = raw.lastIndexOf('|');
+            ItemSort sort = ItemSort.valueOf(raw.substring(0, first));
+            if(sort != expectedSort || first == last){
+                throw new IllegalArgumentException();
+            }
+            String key = raw.substring(first + 1, last);
+            return new ItemCursor(sort, key.isEmpty() ? null : key, Long.parseLong(raw.substring(last + 1)));
+        } catch (IllegalArgumentException e){
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -1,19 +1,22 @@
 package com.myrecipe.refrigerator.dto;
 
+import com.myrecipe.ingredient.quantity.Dimension;
+import com.myrecipe.ingredient.quantity.Quantities;
+import com.myrecipe.ingredient.quantity.QuantityUnit;
 import com.myrecipe.refrigerator.domain.RefrigeratorItem;
 import com.myrecipe.user.domain.User;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 
 @Getter
 @NoArgsConstructor
 public class ItemRequest {
     private Long id;
     private String name;
-    private Integer quantity;
+    private BigDecimal quantity; // 입력 단위 기준 (0.5 kg 처럼 소수 허용)
     private String unit;
     private LocalDate expirationDate;
 
@@ -21,9 +24,19 @@ public class ItemRequest {
         return RefrigeratorItem.builder()
                 .user(user)
                 .name(name)
-                .quantity(quantity)
+                .amountMicros(amountMicros())
+                .dimension(dimension())
                 .unit(unit)
                 .expirationDate(expirationDate)
                 .build();
     }
+
+    // 기준 단위(개/g/ml) 마이크로 값 (수량을 비워 두면 null)
+    public Long amountMicros(){
+        return quantity == null ? null : Quantities.toMicros(quantity, QuantityUnit.resolve(unit));
+    }
+
+    public Dimension dimension(){
+        return QuantityUnit.resolve(unit).dimension();
+    }
 }
@@ -1,28 +1,53 @@
 package com.myrecipe.refrigerator.dto;
 
+import com.myrecipe.ingredient.quantity.Dimension;
+import com.myrecipe.ingredient.quantity.Quantities;
+import com.myrecipe.ingredient.quantity.QuantityUnit;
 import com.myrecipe.refrigerator.domain.RefrigeratorItem;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
-@AllArgsConstructor
 @Getter
 @Setter
 public class ItemResponse {
     private Long id;
     private String name;
+    private Long ingredientId;
+    private BigDecimal quantity;  // 입력 단위 기준 표시값
     private String unit;
+    private Long amountMicros;    // 기준 단위(개/g/ml) 마이크로 값
+    private Dimension dimension;
     private LocalDate expirationDate;
+    private LocalDateTime createdAt;
+
+    // 리포지토리 생성자 조회(select new ...)에서도 사용
+    public ItemResponse(Long id, String name, Long ingredientId, Long amountMicros, Dimension dimension, String unit,
+                        LocalDate expirationDate, LocalDateTime createdAt){
+        this.id = id;
+        this.name = name;
+        this.ingredientId = ingredientId;
+        this.quantity = amountMicros == null ? null : Quantities.toAmount(amountMicros, QuantityUnit.resolve(unit));
+        this.unit = unit;
+        this.amountMicros = amountMicros;
+        this.dimension = dimension;
+        this.expirationDate = expirationDate;
+        this.createdAt = createdAt;
+    }
 
     public static ItemResponse from(RefrigeratorItem item){
         return new ItemResponse(
                 item.getId(),
                 item.getName(),
+                item.getIngredientId(),
+                item.getAmountMicros(),
+                item.getDimension(),
                 item.getUnit(),
-                item.getExpirationDate()
+                item.getExpirationDate(),
+                item.getCreatedAt()
         );
     }
 }
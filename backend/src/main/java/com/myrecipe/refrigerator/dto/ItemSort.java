@@ -0,0 +1,7 @@
+package com.myrecipe.refrigerator.dto;
+
+public enum ItemSort {
+    EXPIRATION, // 유통기한 임박 순 (유통기한 없는 재료는 마지막)
+    NAME,       // 이름 순
+    CREATED     // 최근 등록 순
+}
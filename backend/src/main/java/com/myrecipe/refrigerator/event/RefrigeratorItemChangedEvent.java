@@ -0,0 +1,20 @@
+package com.myrecipe.refrigerator.event;
+
+import com.myrecipe.refrigerator.domain.RefrigeratorItem;
+
+import java.time.LocalDate;
+
+/**
+ * 냉장고 재료 변경 이벤트 (생성/수정/삭제)
+ * 냉장고 내용을 메모리에 들고 있는 컴포넌트들이 DB를 다시 읽지 않고 갱신할 수 있도록 발행한다.
+ */
+public record RefrigeratorItemChangedEvent(Type type, Long userId, Long itemId, String name, LocalDate expirationDate) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static RefrigeratorItemChangedEvent of(Type type, RefrigeratorItem item){
+        return new RefrigeratorItemChangedEvent(type, item.getUser().getId(), item.getId(), item.getName(), item.getExpirationDate());
+    }
+}
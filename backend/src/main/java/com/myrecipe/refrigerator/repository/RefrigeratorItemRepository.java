@@ -2,11 +2,40 @@ package com.myrecipe.refrigerator.repository;
 
 import com.myrecipe.refrigerator.domain.RefrigeratorItem;
 
+import com.myrecipe.refrigerator.dto.ItemResponse;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface RefrigeratorItemRepository extends JpaRepository<RefrigeratorItem, Long> {
     List<RefrigeratorItem> findByUserId(Long userId);
+
+    // ---- 키셋 페이지네이션 (엔티티 대신 ItemResponse 로 바로 조회, 인덱스: user_id + 정렬 컬럼 + id) ---- //
+
+    String ITEM_RESPONSE = "select new com.myrecipe.refrigerator.dto.ItemResponse(i.id, i.name, i.ingredientId, i.amountMicros, i.dimension, i.unit, i.expirationDate, i.createdAt)"
+            + " from RefrigeratorItem i where i.user.id = :userId";
+
+    @Query(ITEM_RESPONSE + " and i.expirationDate is not null"
+            + " and (i.expirationDate > :expirationDate or (i.expirationDate = :expirationDate and i.id > :id))"
+            + " order by i.expirationDate, i.id")
+    List<ItemResponse> findPageByExpiration(@Param("userId") Long userId, @Param("expirationDate") LocalDate expirationDate,
+                                            @Param("id") Long id, Limit limit);
+
+    // 유통기한이 없는 재료 (유통기한 순 정렬에서 마지막)
+    @Query(ITEM_RESPONSE + " and i.expirationDate is null and i.id > :id order by i.id")
+    List<ItemResponse> findPageWithoutExpiration(@Param("userId") Long userId, @Param("id") Long id, Limit limit);
+
+    @Query(ITEM_RESPONSE + " and (i.name > :name or (i.name = :name and i.id > :id)) order by i.name, i.id")
+    List<ItemResponse> findPageByName(@Param("userId") Long userId, @Param("name") String name,
+                                      @Param("id") Long id, Limit limit);
+
+    @Query(ITEM_RESPONSE + " and (i.createdAt < :createdAt or (i.createdAt = :createdAt and i.id < :id)) order by i.createdAt desc, i.id desc")
+    List<ItemResponse> findPageByCreatedDesc(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id, Limit limit);
 }
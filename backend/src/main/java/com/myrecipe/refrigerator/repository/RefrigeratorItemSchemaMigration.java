@@ -0,0 +1,112 @@
+package com.myrecipe.refrigerator.repository;
+
+import com.myrecipe.common.exception.client.InvalidRequestException;
+import com.myrecipe.ingredient.quantity.Quantities;
+import com.myrecipe.ingredient.quantity.QuantityUnit;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * refrigerator_item 예전 스키마 정리
+ * 1. 예전 @OneToOne 이 만든 user_id 단독 unique 제약 제거
+ *    - ddl-auto update 는 제약을 지우지 않으므로, 남아 있으면 사용자당 재료가 한 건으로 묶이고 두 번째 등록부터 중복 키로 실패한다.
+ *    - FK 는 user_id 로 시작하는 조회용 인덱스(idx_refrigerator_item_user_*)가 대신 받친다.
+ * 2. 예전 정수 수량(quantity) -> amount_micros / unit_dimension 채우기
+ * - ddl-auto update 는 새 컬럼을 null 로만 추가하므로, 예전 재료는 수량/차원이 비어 보인다.
+ * - unit_dimension 이 비어 있는 행만 대상이라 여러 번 실행해도 같다 (새로 저장되는 재료는 항상 차원이 채워짐).
+ * - 음수처럼 환산할 수 없는 수량은 비워 두고 차원만 채운다. quantity 컬럼은 그대로 둔다.
+ * - hibernate 스키마 갱신이 끝난 뒤, 요청을 받기 전에 한 번 실행된다. 이미 정리된 DB 에서는 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+public class RefrigeratorItemSchemaMigration {
+    // 다른 컬럼 없이 user_id 하나로만 된 unique 제약 (MySQL 은 unique 인덱스가 모두 여기에 잡힌다)
+    private static final String USER_UNIQUE_CONSTRAINTS = """
+            select tc.constraint_name from information_schema.table_constraints tc
+            join information_schema.key_column_usage kcu
+              on kcu.table_schema = tc.table_schema and kcu.table_name = tc.table_name and kcu.constraint_name = tc.constraint_name
+            where tc.table_schema = schema() and tc.table_name = 'refrigerator_item' and tc.constraint_type = 'UNIQUE'
+              and kcu.position_in_unique_constraint is null
+            group by tc.constraint_name
+            having count(*) = 1 and max(kcu.column_name) = 'user_id'""";
+    private static final String LEGACY_COLUMN_EXISTS = """
+            select count(*) from information_schema.columns
+            where table_schema = schema() and table_name = 'refrigerator_item' and column_name = 'quantity'""";
+    private static final String SELECT_LEGACY = """
+            select id, quantity, unit from refrigerator_item
+            where unit_dimension is null and id > ? order by id limit ?""";
+    private static final String UPDATE_AMOUNT = "update refrigerator_item set amount_micros = ?, unit_dimension = ? where id = ?";
+    private static final int CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // EntityManagerFactory 는 ddl-auto update(amount_micros, unit_dimension, user_id 인덱스 추가)가 끝난 뒤에 실행되도록 순서만 잡는 용도
+    public RefrigeratorItemSchemaMigration(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory){
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    void migrate(){
+        dropUserUniqueConstraints();
+        migrateLegacyQuantities();
+    }
+
+    private void dropUserUniqueConstraints(){
+        for(String name : jdbcTemplate.queryForList(USER_UNIQUE_CONSTRAINTS, String.class)){
+            if(!name.matches("\\w+")){
+                throw new IllegalStateException("예상하지 못한 제약 이름: " + name);
+            }
+            try {
+                jdbcTemplate.execute("alter table refrigerator_item drop constraint " + name);
+            } catch (DataAccessException e){
+                // 다른 인스턴스가 먼저 지웠으면 그대로 진행
+                if(jdbcTemplate.queryForList(USER_UNIQUE_CONSTRAINTS, String.class).contains(name)) throw e;
+            }
+            log.warn("refrigerator_item 예전 user_id unique 제약 제거: {}", name);
+        }
+    }
+
+    private void migrateLegacyQuantities(){
+        Integer legacy = jdbcTemplate.queryForObject(LEGACY_COLUMN_EXISTS, Integer.class);
+        if(legacy == null || legacy == 0) return;
+
+        long lastId = 0;
+        long migrated = 0;
+        while(true){
+            List<Object[]> rows = new ArrayList<>(CHUNK_SIZE);
+            long[] maxId = {lastId};
+            jdbcTemplate.query(SELECT_LEGACY, rs -> {
+                long id = rs.getLong("id");
+                int quantity = rs.getInt("quantity");
+                boolean hasQuantity = !rs.wasNull();
+                QuantityUnit unit = QuantityUnit.resolve(rs.getString("unit"));
+                rows.add(new Object[]{hasQuantity ? toMicros(quantity, unit) : null, unit.dimension().code(), id});
+                maxId[0] = id;
+            }, lastId, CHUNK_SIZE);
+            if(rows.isEmpty()) break;
+
+            jdbcTemplate.batchUpdate(UPDATE_AMOUNT, rows);
+            migrated += rows.size();
+            lastId = maxId[0];
+        }
+        if(migrated > 0){
+            log.warn("refrigerator_item 예전 quantity -> amount_micros/unit_dimension 변환: {}건", migrated);
+        }
+    }
+
+    private static Long toMicros(int quantity, QuantityUnit unit){
+        try {
+            return Quantities.toMicros(BigDecimal.valueOf(quantity), unit);
+        } catch (InvalidRequestException e){
+            return null;
+        }
+    }
+}
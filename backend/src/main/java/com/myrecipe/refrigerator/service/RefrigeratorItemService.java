@@ -1,40 +1,232 @@
 package com.myrecipe.refrigerator.service;
 
+import com.myrecipe.common.exception.client.InvalidRequestException;
+import com.myrecipe.ingredient.dictionary.IngredientDictionary;
+import com.myrecipe.refrigerator.cache.CachedItems;
+import com.myrecipe.refrigerator.cache.RefrigeratorReadCache;
 import com.myrecipe.refrigerator.domain.RefrigeratorItem;
-import com.myrecipe.refrigerator.dto.ItemRequest;
-import com.myrecipe.refrigerator.dto.ItemResponse;
+import com.myrecipe.refrigerator.dto.*;
+import com.myrecipe.refrigerator.event.RefrigeratorItemChangedEvent;
 import com.myrecipe.refrigerator.repository.RefrigeratorItemRepository;
 import com.myrecipe.user.domain.User;
 import com.myrecipe.user.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.myrecipe.refrigerator.event.RefrigeratorItemChangedEvent.Type.*;
 
 @Service
 @RequiredArgsConstructor
 public class RefrigeratorItemService {
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // 첫 페이지 조회용 커서 시작값
+    private static final LocalDate MIN_EXPIRATION = LocalDate.of(1000, 1, 1);
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
     private final RefrigeratorItemRepository refrigeratorItemRepository;
     private final UserRepository userRepository;
+    private final IngredientDictionary ingredientDictionary;
+    private final RefrigeratorReadCache refrigeratorReadCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<ItemResponse> findItem(Long userId){
-        return refrigeratorItemRepository.findByUserId(userId).stream().map(ItemResponse::from).toList();
+        return findCachedItem(userId).items();
+    }
+
+    // 캐시 미스일 때만 DB 조회 (변경 시에는 RefrigeratorItemChangedEvent 로 무효화)
+    public CachedItems findCachedItem(Long userId){
+        return refrigeratorReadCache.get(userId,
+                () -> refrigeratorItemRepository.findByUserId(userId).stream().map(ItemResponse::from).toList());
+    }
+
+    /**
+     * 키셋(커서) 페이지네이션
+     * OFFSET 없이 "마지막 항목 다음부터" 인덱스를 타므로 냉장고 크기와 상관없이 페이지 조회 비용이 일정하다.
+     */
+    public ItemPageResponse findItemPage(Long userId, ItemSort sort, String cursor, int size){
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        ItemCursor after = cursor == null || cursor.isBlank() ? null : ItemCursor.decode(cursor, sort);
+        Limit limit = Limit.of(pageSize + 1); // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+
+        List<ItemResponse> rows = switch (sort){
+            case EXPIRATION -> findPageByExpiration(userId, after, pageSize);
+            case NAME -> refrigeratorItemRepository.findPageByName(userId,
+                    after == null ? "" : after.key(), after == null ? 0L : after.id(), limit);
+            case CREATED -> refrigeratorItemRepository.findPageByCreatedDesc(userId,
+                    after == null ? MAX_CREATED_AT : after.keyAsDateTime(), after == null ? Long.MAX_VALUE : after.id(), limit);
+        };
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ItemResponse> items = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? toCursor(sort, items.get(items.size() - 1)).encode() : null;
+        return new ItemPageResponse(items, nextCursor, hasNext);
+    }
+
+    // 유통기한 있는 재료를 먼저 다 내려준 뒤 유통기한 없는 재료를 id 순으로 이어서 조회
+    private List<ItemResponse> findPageByExpiration(Long userId, ItemCursor after, int pageSize){
+        List<ItemResponse> rows = new ArrayList<>(pageSize + 1);
+        boolean inNullSection = after != null && after.key() == null;
+
+        if(!inNullSection){
+            rows.addAll(refrigeratorItemRepository.findPageByExpiration(userId,
+                    after == null ? MIN_EXPIRATION : after.keyAsDate(), after == null ? 0L : after.id(), Limit.of(pageSize + 1)));
+        }
+        if(rows.size() <= pageSize){
+            rows.addAll(refrigeratorItemRepository.findPageWithoutExpiration(userId,
+                    inNullSection ? after.id() : 0L, Limit.of(pageSize + 1 - rows.size())));
+        }
+        return rows;
+    }
+
+    private ItemCursor toCursor(ItemSort sort, ItemResponse last){
+        String key = switch (sort){
+            case EXPIRATION -> last.getExpirationDate() == null ? null : last.getExpirationDate().toString();
+            case NAME -> last.getName();
+            case CREATED -> last.getCreatedAt().toString();
+        };
+        return new ItemCursor(sort, key, last.getId());
     }
 
     public ItemResponse createItem(Long userId, ItemRequest request){
         User user = userRepository.getReferenceById(userId);
-        return ItemResponse.from(refrigeratorItemRepository.save(request.toEntity(user)));
+        RefrigeratorItem item = request.toEntity(user);
+        linkIngredient(item);
+        item = refrigeratorItemRepository.save(item);
+        eventPublisher.publishEvent(RefrigeratorItemChangedEvent.of(CREATED, item));
+        return ItemResponse.from(item);
     }
 
     @Transactional
     public ItemResponse updateItem(Long userId, Long itemId, ItemRequest request){
         RefrigeratorItem item = refrigeratorItemRepository.findById(itemId).orElseThrow();
         item.update(request);
+        linkIngredient(item);
+        eventPublisher.publishEvent(RefrigeratorItemChangedEvent.of(UPDATED, item));
         return ItemResponse.from(item);
     }
 
     public void deleteItem(Long itemId){
-        refrigeratorItemRepository.delete(refrigeratorItemRepository.findById(itemId).orElseThrow());
+        RefrigeratorItem item = refrigeratorItemRepository.findById(itemId).orElseThrow();
+        refrigeratorItemRepository.delete(item);
+        eventPublisher.publishEvent(RefrigeratorItemChangedEvent.of(DELETED, item));
+    }
+
+    /**
+     * 여러 건의 생성/수정/삭제를 한 트랜잭션으로 처리
+     * - 수정/삭제 대상은 한 번의 IN 쿼리로 조회
+     * - insert/update/delete 는 flush 시점에 JDBC 배치로 전송 (hibernate.jdbc.batch_size)
+     * - 대상이 없거나 내용이 빠진(잘못된) 작업은 실패로 표시하고 나머지는 그대로 반영
+     */
+    @Transactional
+    public ItemBatchResponse applyBatch(Long userId, List<ItemBatchOperation> operations){
+        if(operations == null || operations.isEmpty()){
+            throw new InvalidRequestException("처리할 작업이 없습니다.");
+        }
+        if(operations.size() > MAX_BATCH_SIZE){
+            throw new InvalidRequestException("한 번에 최대 " + MAX_BATCH_SIZE + "개까지 처리할 수 있습니다.");
+        }
+
+        Set<Long> targetIds = operations.stream()
+                .filter(op -> op.getType() != BatchOperationType.CREATE && op.getItemId() != null)
+                .map(ItemBatchOperation::getItemId)
+                .collect(Collectors.toSet());
+        Map<Long, RefrigeratorItem> owned = refrigeratorItemRepository.findAllById(targetIds).stream()
+                .filter(item -> item.getUser().getId().equals(userId))
+                .collect(Collectors.toMap(RefrigeratorItem::getId, Function.identity()));
+
+        User user = userRepository.getReferenceById(userId);
+        ItemBatchResult[] results = new ItemBatchResult[operations.size()];
+        List<Integer> createdIndexes = new ArrayList<>();
+        List<RefrigeratorItem> created = new ArrayList<>();
+        List<RefrigeratorItem> updated = new ArrayList<>();
+        List<RefrigeratorItem> deleted = new ArrayList<>();
+
+        for(int i = 0; i < operations.size(); i++){
+            ItemBatchOperation op = operations.get(i);
+            BatchOperationType type = op.getType();
+            Long itemId = op.getItemId();
+
+            if(type == null){
+                results[i] = ItemBatchResult.failure(i, null, itemId, "작업 종류가 없습니다.");
+                continue;
+            }
+            if(type != BatchOperationType.DELETE && op.getItem() == null){
+                results[i] = ItemBatchResult.failure(i, type, itemId, "재료 정보가 없습니다.");
+                continue;
+            }
+            // name 은 NOT NULL 이라 그대로 두면 flush 때 배치 전체가 실패한다
+            if(type != BatchOperationType.DELETE && (op.getItem().getName() == null || op.getItem().getName().isBlank())){
+                results[i] = ItemBatchResult.failure(i, type, itemId, "재료 이름을 입력해주세요.");
+                continue;
+            }
+            if(type == BatchOperationType.CREATE){
+                RefrigeratorItem item;
+                try {
+                    item = op.getItem().toEntity(user);
+                } catch (InvalidRequestException e){
+                    results[i] = ItemBatchResult.failure(i, type, itemId, e.getMessage());
+                    continue;
+                }
+                linkIngredient(item);
+                createdIndexes.add(i);
+                created.add(item);
+                continue;
+            }
+
+            // 앞에서 삭제한 재료는 이후 작업 대상에서 제외
+            RefrigeratorItem item = owned.get(itemId);
+            if(item == null){
+                results[i] = ItemBatchResult.failure(i, type, itemId, "존재하지 않는 재료입니다.");
+                continue;
+            }
+            if(type == BatchOperationType.UPDATE){
+                try {
+                    item.update(op.getItem());
+                } catch (InvalidRequestException e){
+                    results[i] = ItemBatchResult.failure(i, type, itemId, e.getMessage());
+                    continue;
+                }
+                linkIngredient(item);
+                updated.add(item);
+                results[i] = ItemBatchResult.success(i, type, itemId, ItemResponse.from(item));
+            } else {
+                owned.remove(itemId);
+                deleted.add(item);
+                results[i] = ItemBatchResult.success(i, type, itemId, null);
+            }
+        }
+
+        // id 는 @TimeOrderedId 로 persist 시점에 애플리케이션에서 할당되므로 (DB 왕복 없음) insert 는 flush 때 한 번에 배치 전송
+        refrigeratorItemRepository.saveAll(created);
+        refrigeratorItemRepository.deleteAll(deleted);
+
+        for(int c = 0; c < created.size(); c++){
+            RefrigeratorItem item = created.get(c);
+            int index = createdIndexes.get(c);
+            results[index] = ItemBatchResult.success(index, BatchOperationType.CREATE, item.getId(), ItemResponse.from(item));
+        }
+
+        created.forEach(item -> eventPublisher.publishEvent(RefrigeratorItemChangedEvent.of(CREATED, item)));
+        updated.stream().filter(item -> !deleted.contains(item))
+                .forEach(item -> eventPublisher.publishEvent(RefrigeratorItemChangedEvent.of(UPDATED, item)));
+        deleted.forEach(item -> eventPublisher.publishEvent(RefrigeratorItemChangedEvent.of(DELETED, item)));
+
+        return ItemBatchResponse.of(Arrays.asList(results));
+    }
+
+    // 입력한 이름을 재료 사전의 표준 재료와 연결
+    private void linkIngredient(RefrigeratorItem item){
+        item.assignIngredient(ingredientDictionary.resolveId(item.getName()).orElse(null));
     }
 }
@@ -1,9 +1,17 @@
 package com.myrecipe.security.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myrecipe.common.handler.ClientErrorLogLimiter;
+import com.myrecipe.common.handler.ErrorResponseWriter;
+import com.myrecipe.security.jwt.AccessTokenCache;
 import com.myrecipe.security.jwt.JwtAuthenticationEntryPoint;
 import com.myrecipe.security.jwt.JwtAuthenticationFilter;
 import com.myrecipe.security.jwt.JwtTokenProvider;
+import com.myrecipe.security.jwt.TokenEpochRegistry;
+import com.myrecipe.security.ratelimit.AuthRateLimitFilter;
+import com.myrecipe.security.ratelimit.AuthRateLimiter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -26,12 +34,21 @@ import java.util.List;
 public class SecurityConfig {
     private final JwtTokenProvider jwtTokenProvider;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+    private final AccessTokenCache accessTokenCache;
+    private final TokenEpochRegistry tokenEpochRegistry;
+    private final AuthRateLimiter authRateLimiter;
+    private final ObjectMapper objectMapper;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final ClientErrorLogLimiter clientErrorLogLimiter;
 
     //Security 필터 체인 설정
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   @Value("${management.server.port:-1}") int managementPort) throws Exception {
 
-        JwtAuthenticationFilter jwtFilter = new JwtAuthenticationFilter(jwtTokenProvider);
+        JwtAuthenticationFilter jwtFilter = new JwtAuthenticationFilter(jwtTokenProvider, accessTokenCache, tokenEpochRegistry,
+                errorResponseWriter, clientErrorLogLimiter);
+        AuthRateLimitFilter rateLimitFilter = new AuthRateLimitFilter(authRateLimiter, errorResponseWriter, objectMapper.getFactory());
 
         return http
                 // ---- REST api에서는 csrf 보호 불필요 ---- //
@@ -46,8 +63,16 @@ public class SecurityConfig {
                 // .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 // ---- 권한별 요청의 응답 제어 (인가) ---- //
                 .authorizeHttpRequests(auth -> auth
+                        // 모든 기기 로그아웃은 로그인한 사용자만
+                        .requestMatchers("/api/auth/logout-all").authenticated()
                         // swagger 경로
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/api/auth/**").permitAll()
+                        // 헬스 체크
+                        .requestMatchers("/actuator/health").permitAll()
+                        // Prometheus 수집은 관리 포트(management.server.port)로 들어온 요청만, 그 외 actuator 는 모두 거부
+                        .requestMatchers(request -> request.getLocalPort() == managementPort
+                                && "/actuator/prometheus".equals(request.getRequestURI())).permitAll()
+                        .requestMatchers("/actuator/**").denyAll()
                         // 추가적인 경로 (로그인, 마이페이지 등)
                         // .requestMatchers("/member").authenticated()
                         // 명시된 경로 이외에는 접근 제한 필요 (임시로 제한 해제)
@@ -56,6 +81,8 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+                // 인증 API 요청 제한 (토큰 검증/DB 조회 전에)
+                .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class)
                 // ---- dao, jwt 등 로그인 필터 추가 필요 ---- //
                 .build();
     }
@@ -66,8 +93,8 @@ public class SecurityConfig {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(List.of("http://localhost:19006","http://localhost:8081")); // url 허용
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH")); // http 메서드 허용
-        configuration.setAllowedHeaders(List.of("Authorization", "Content-Type", "Accept")); // 요청 헤더 허용
-        configuration.setExposedHeaders(List.of("Authorization")); // JWT 헤더 허용
+        configuration.setAllowedHeaders(List.of("Authorization", "Content-Type", "Accept", "If-None-Match")); // 요청 헤더 허용
+        configuration.setExposedHeaders(List.of("Authorization", "ETag", "X-Request-Id")); // JWT, ETag, 추적 id 헤더 허용
         configuration.setAllowCredentials(true); // 인증 정보 포함 허용
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -75,8 +102,9 @@ public class SecurityConfig {
         return source;
     }
 
+    // strength(cost) 를 올리면 기존 해시는 다음 로그인 때 새 cost 로 재해싱된다
     @Bean
-    public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int strength){
+        return new BCryptPasswordEncoder(strength);
     }
 }
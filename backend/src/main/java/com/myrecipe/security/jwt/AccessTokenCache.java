@@ -0,0 +1,95 @@
+package com.myrecipe.security.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검증된 Access Token 로컬 캐시
+ * - 키: 토큰의 SHA-256 다이제스트
+ * - 값: userId / role (토큰 exp 시각이 지나면 무효)
+ * - 최대 크기를 넘으면 만료 항목을 먼저 정리하고, 그래도 넘치면 일부를 임의로 비운다.
+ */
+@Component
+public class AccessTokenCache {
+    private final ConcurrentHashMap<TokenDigest, VerifiedAccessToken> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public AccessTokenCache(@Value("${jwt.access-cache.max-size:10000}") int maxSize, MeterRegistry meterRegistry){
+        this.maxSize = maxSize;
+        this.hits = Counter.builder("jwt.access.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("jwt.access.cache").tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("jwt.access.cache.evictions").register(meterRegistry);
+        Gauge.builder("jwt.access.cache.size", entries, Map::size).register(meterRegistry);
+    }
+
+    public VerifiedAccessToken get(TokenDigest digest, long nowMillis){
+        VerifiedAccessToken cached = entries.get(digest);
+        if(cached == null){
+            misses.increment();
+            return null;
+        }
+        if(cached.isExpired(nowMillis)){
+            entries.remove(digest, cached);
+            evictions.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return cached;
+    }
+
+    public void put(TokenDigest digest, VerifiedAccessToken token, long nowMillis){
+        if(entries.size() >= maxSize){
+            evict(nowMillis);
+        }
+        entries.put(digest, token);
+    }
+
+    public void clear(){
+        entries.clear();
+    }
+
+    public int size(){
+        return entries.size();
+    }
+
+    public double hitCount(){
+        return hits.count();
+    }
+
+    public double missCount(){
+        return misses.count();
+    }
+
+    // 만료 항목 정리 후에도 가득 차 있으면 최대 크기의 10%를 비운다
+    private void evict(long nowMillis){
+        int removed = 0;
+        Iterator<VerifiedAccessToken> it = entries.values().iterator();
+        while(it.hasNext()){
+            if(it.next().isExpired(nowMillis)){
+                it.remove();
+                removed++;
+            }
+        }
+
+        int lowWatermark = maxSize - Math.max(1, maxSize / 10);
+        it = entries.values().iterator();
+        while(entries.size() > lowWatermark && it.hasNext()){
+            it.next();
+            it.remove();
+            removed++;
+        }
+        evictions.increment(removed);
+    }
+}
@@ -1,7 +1,7 @@
 package com.myrecipe.security.jwt;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.myrecipe.common.dto.ErrorResponse;
+import com.myrecipe.common.handler.ErrorResponseWriter;
+import com.myrecipe.common.trace.TraceIdFilter;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -12,26 +12,21 @@ import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
-    private final ObjectMapper objectMapper;
+    private final ErrorResponseWriter errorResponseWriter;
 
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException authException) throws IOException, ServletException {
-        response.setStatus(HttpStatus.UNAUTHORIZED.value());
-        response.setContentType("application/json;charset=UTF-8");
-
-        ErrorResponse body = ErrorResponse.of(
+        errorResponseWriter.write(
+                response,
                 HttpStatus.UNAUTHORIZED,
-                "UNAUTHORIZED"
-                ,"인증이 필요합니다"
-                ,request.getRequestURI()
-                ,UUID.randomUUID().toString().replace("-", "").substring(0, 6)
+                "UNAUTHORIZED",
+                "인증이 필요합니다",
+                request.getRequestURI(),
+                TraceIdFilter.traceId(request)
         );
-
-        response.getWriter().write(objectMapper.writeValueAsString(body));
     }
 }
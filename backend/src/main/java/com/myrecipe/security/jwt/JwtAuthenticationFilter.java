@@ -1,26 +1,42 @@
 package com.myrecipe.security.jwt;
 
 import com.myrecipe.common.exception.client.UnauthorizedException;
+import com.myrecipe.common.handler.ClientErrorLogLimiter;
+import com.myrecipe.common.handler.ErrorResponseWriter;
+import com.myrecipe.common.trace.TraceIdFilter;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 
+@Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    private static final String INVALID_TOKEN = "ERR_COMMON_UNAUTHORIZED";
+
     private final JwtTokenProvider jwtTokenProvider;
+    private final AccessTokenCache accessTokenCache;
+    private final TokenEpochRegistry tokenEpochRegistry;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final ClientErrorLogLimiter clientErrorLogLimiter;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider){
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, AccessTokenCache accessTokenCache,
+                                   TokenEpochRegistry tokenEpochRegistry, ErrorResponseWriter errorResponseWriter,
+                                   ClientErrorLogLimiter clientErrorLogLimiter){
         this.jwtTokenProvider = jwtTokenProvider;
+        this.accessTokenCache = accessTokenCache;
+        this.tokenEpochRegistry = tokenEpochRegistry;
+        this.errorResponseWriter = errorResponseWriter;
+        this.clientErrorLogLimiter = clientErrorLogLimiter;
     }
 
 
@@ -33,36 +49,81 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        VerifiedAccessToken verified;
         try{
-            Claims claims = jwtTokenProvider.parseClaims(token);
+            verified = verify(token);
+        } catch (UnauthorizedException e){
+            reject(request, response, e.getErrorCode(), e.getMessage());
+            return;
+        } catch (Exception e){
+            logInvalidToken(e, request);
+            reject(request, response, INVALID_TOKEN, "유효하지 않은 토큰입니다.");
+            return;
+        }
 
-            if(!jwtTokenProvider.isAccessToken(claims)){
-                throw new UnauthorizedException("Access Token이 아닙니다.");
-            }
+        // 캐시 히트여도 매번 확인 (모든 기기 로그아웃 이전에 발급된 토큰 거부)
+        if(!tokenEpochRegistry.isCurrent(verified.userId(), verified.tokenEpoch())){
+            reject(request, response, "ERR_AUTH_TOKEN_REVOKED", "로그아웃된 토큰입니다.");
+            return;
+        }
 
-            Long userId = jwtTokenProvider.getUserId(claims);
-            String role = jwtTokenProvider.getRole(claims);
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(verified.userId(), null, verified.authorities());
 
-            List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
+        // SecurityContext 에 등록
+        SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userId, null, authorities);
+        // 다음 필터로
+        filterChain.doFilter(request, response);
+    }
 
-            // SecurityContext 에 등록
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+    // 필터 밖으로 예외를 던지면 컨테이너가 스택 트레이스를 찍고 /error 로 다시 디스패치하므로 여기서 바로 401 을 쓴다
+    private void reject(HttpServletRequest request, HttpServletResponse response, String errorCode, String message) throws IOException {
+        SecurityContextHolder.clearContext();
+        errorResponseWriter.write(response, HttpStatus.UNAUTHORIZED, errorCode, message,
+                request.getRequestURI(), TraceIdFilter.traceId(request));
+    }
 
-            // 다음 필터로
-            filterChain.doFilter(request, response);
-        } catch (UnauthorizedException e){
-            // EntryPoint/Handle이 처리하도록 위로 던짐
-            SecurityContextHolder.clearContext();
-            throw e;
-        } catch (Exception e){
-            logger.warn("JWT 인증 실패", e);
-            SecurityContextHolder.clearContext();
-            throw new UnauthorizedException("유효하지 않은 토큰입니다.");
+    // 위조/만료 토큰은 흔한 클라이언트 오류라 스택 트레이스 없이, 스캐너 트래픽에 밀리지 않도록 초당 건수를 제한해서 남긴다
+    private void logInvalidToken(Exception e, HttpServletRequest request){
+        long suppressed = clientErrorLogLimiter.acquire(INVALID_TOKEN);
+        if(suppressed < 0){
+            return;
+        }
+        if(suppressed == 0){
+            log.warn("JWT 인증 실패: {} - {}, Path='{}'", e.getClass().getSimpleName(), e.getMessage(), request.getRequestURI());
+        } else {
+            log.warn("JWT 인증 실패: {} - {}, Path='{}' (같은 에러코드 로그 {}건 생략)",
+                    e.getClass().getSimpleName(), e.getMessage(), request.getRequestURI(), suppressed);
         }
     }
 
+    // 캐시에 검증 결과가 있으면 서명 검증을 생략한다
+    private VerifiedAccessToken verify(String token){
+        long now = System.currentTimeMillis();
+        TokenDigest digest = TokenDigest.of(token);
+
+        VerifiedAccessToken cached = accessTokenCache.get(digest, now);
+        if(cached != null){
+            return cached;
+        }
+
+        Claims claims = jwtTokenProvider.parseClaims(token);
+
+        if(!jwtTokenProvider.isAccessToken(claims)){
+            throw new UnauthorizedException("Access Token이 아닙니다.");
+        }
+
+        VerifiedAccessToken verified = VerifiedAccessToken.of(
+                jwtTokenProvider.getUserId(claims),
+                jwtTokenProvider.getRole(claims),
+                claims.getExpiration().getTime(),
+                jwtTokenProvider.getTokenEpoch(claims)
+        );
+        accessTokenCache.put(digest, verified, now);
+        return verified;
+    }
+
     private String resolveBearerToken(HttpServletRequest request){
         String header = request.getHeader("Authorization");
         if(!StringUtils.hasText(header)) return null;
@@ -1,6 +1,7 @@
 package com.myrecipe.security.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -13,6 +14,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
@@ -21,6 +23,7 @@ public class JwtTokenProvider {
     private final long refreshExpDays;
 
     private SecretKey key;
+    private JwtParser parser; // 스레드 안전하므로 한 번만 생성해서 재사용
 
     public JwtTokenProvider(
         @Value("${jwt.secret-base64}") String secretBase64,
@@ -36,9 +39,18 @@ public class JwtTokenProvider {
     void init(){
         byte[] keyBytes = Decoders.BASE64.decode(secretBase64);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parser()
+                        .verifyWith(key) // 서명 검증
+                        .build();
+    }
+
+    // 새 로그인: 새 Refresh Token 계보 시작
+    public TokenPair issueTokens(Long userId, String role, int tokenEpoch){
+        return issueTokens(userId, role, newFamilyId(), tokenEpoch);
     }
 
-    public TokenPair issueTokens(Long userId, String role){
+    // 재발급: 기존 계보(familyId) 유지, tokenEpoch 는 사용자 토큰 epoch (모든 기기 로그아웃 시 증가)
+    public TokenPair issueTokens(Long userId, String role, String familyId, int tokenEpoch){
         Instant now = Instant.now();
 
         Instant accessExp = now.plus(Duration.ofMinutes(accessExpMinutes));
@@ -46,6 +58,7 @@ public class JwtTokenProvider {
                                     .subject(String.valueOf(userId))
                                     .claim("role",role)
                                     .claim("type","access")
+                                    .claim("ep", tokenEpoch)
                                     .issuedAt(Date.from(now))
                                     .expiration(Date.from(accessExp))
                                     .signWith(key)
@@ -56,6 +69,8 @@ public class JwtTokenProvider {
                                     .subject(String.valueOf(userId))
                                     .claim("role",role)
                                     .claim("type", "refresh")
+                                    .claim("fid", familyId)
+                                    .claim("ep", tokenEpoch)
                                     .issuedAt(Date.from(now))
                                     .expiration(Date.from(refreshExp))
                                     .signWith(key)
@@ -70,10 +85,7 @@ public class JwtTokenProvider {
     }
 
     public Claims parseClaims(String token){
-        return Jwts.parser()
-                        .verifyWith(key) // 서명 검증
-                        .build()
-                        .parseSignedClaims(token) // 파싱 + 만료 검증
+        return parser.parseSignedClaims(token) // 파싱 + 만료 검증
                         .getPayload();
     }
 
@@ -85,6 +97,20 @@ public class JwtTokenProvider {
         return claims.get("role", String.class);
     }
 
+    public String getFamilyId(Claims claims){
+        return claims.get("fid", String.class);
+    }
+
+    // ep 클레임이 없는 (도입 전에 발급된) 토큰은 0
+    public int getTokenEpoch(Claims claims){
+        Integer tokenEpoch = claims.get("ep", Integer.class);
+        return tokenEpoch == null ? 0 : tokenEpoch;
+    }
+
+    public String newFamilyId(){
+        return UUID.randomUUID().toString();
+    }
+
     public boolean isRefreshToken(Claims claims){
         String tokenType = claims.get("type", String.class);
         return "refresh".equals(tokenType);
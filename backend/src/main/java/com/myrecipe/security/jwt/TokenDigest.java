@@ -0,0 +1,57 @@
+package com.myrecipe.security.jwt;
+
+import com.myrecipe.common.concurrency.BoundedPool;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 토큰 문자열의 SHA-256 다이제스트 (캐시 키)
+ * 원문 토큰을 키로 들고 있지 않도록 고정 길이(32 byte) 값만 보관한다.
+ */
+public record TokenDigest(long h0, long h1, long h2, long h3) {
+
+    // 요청마다 새로 만들지 않도록 재사용 (digest() 가 끝나면 초기 상태로 돌아감)
+    private static final BoundedPool<MessageDigest> SHA256 = BoundedPool.perProcessor();
+
+    public static TokenDigest of(String token){
+        MessageDigest sha256 = SHA256.poll();
+        if(sha256 == null) sha256 = newSha256();
+        byte[] hash = sha256.digest(token.getBytes(StandardCharsets.US_ASCII));
+        SHA256.release(sha256);
+        return new TokenDigest(readLong(hash, 0), readLong(hash, 8), readLong(hash, 16), readLong(hash, 24));
+    }
+
+    public byte[] toBytes(){
+        byte[] bytes = new byte[32];
+        writeLong(bytes, 0, h0);
+        writeLong(bytes, 8, h1);
+        writeLong(bytes, 16, h2);
+        writeLong(bytes, 24, h3);
+        return bytes;
+    }
+
+    private static MessageDigest newSha256(){
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static void writeLong(byte[] bytes, int offset, long value){
+        for(int i = 7; i >= 0; i--){
+            bytes[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static long readLong(byte[] bytes, int offset){
+        long value = 0;
+        for(int i = 0; i < 8; i++){
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,126 @@
+package com.myrecipe.security.jwt;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자별 토큰 epoch (Access/Refresh Token 의 ep 클레임과 비교)
+ * - "모든 기기에서 로그아웃" 하면 사용자의 epoch 를 올리고, 그보다 낮은 ep 로 발급된 토큰은 만료 전이라도 거부한다.
+ * - epoch 를 올린 적 있는 사용자만 보관하는 open addressing long -> int 맵 (박싱/노드 객체 없음).
+ *   조회는 요청마다 호출되므로 잠금/할당 없이 배열만 읽고, 드문 쓰기는 잠금 하나로 직렬화한다.
+ * - epoch 는 증가만 하므로 쓰는 도중에 이전 값을 읽는 것은 허용한다.
+ */
+@Component
+public class TokenEpochRegistry {
+    private static final VarHandle KEYS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final long EMPTY = 0L; // 사용자 id 는 0 이 될 수 없으므로 빈 칸 표시로 사용
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Table table = new Table(INITIAL_CAPACITY);
+
+    public TokenEpochRegistry(MeterRegistry meterRegistry){
+        Gauge.builder("jwt.token-epoch.users", this, TokenEpochRegistry::size).register(meterRegistry);
+    }
+
+    /**
+     * 사용자의 현재 epoch (올린 적 없으면 0)
+     */
+    public int epochOf(long userId){
+        Table current = table;
+        long[] keys = current.keys;
+        int mask = keys.length - 1;
+        for(int i = index(userId, mask); ; i = (i + 1) & mask){
+            long key = (long) KEYS.getAcquire(keys, i);
+            if(key == userId){
+                return (int) VALUES.getAcquire(current.values, i);
+            }
+            if(key == EMPTY){
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * tokenEpoch 로 발급된 토큰이 아직 유효한지
+     */
+    public boolean isCurrent(long userId, int tokenEpoch){
+        return tokenEpoch >= epochOf(userId);
+    }
+
+    /**
+     * epoch 를 올린다 (이미 같거나 크면 그대로)
+     */
+    public void advance(long userId, int epoch){
+        if(userId == EMPTY || epoch <= 0) return;
+
+        writeLock.lock();
+        try {
+            Table current = table;
+            // 적재율 50% 를 넘지 않게 유지 (탐색 길이 제한), 새 배열을 다 채운 뒤 교체한다
+            if((current.size + 1) * 2 > current.keys.length){
+                current = current.grow();
+                table = current;
+            }
+            current.put(userId, epoch);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int size(){
+        return table.size;
+    }
+
+    private static int index(long userId, int mask){
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    // 쓰기는 writeLock 안에서만, 읽기는 값을 먼저 쓰고 키를 나중에 공개하는 순서(release/acquire)에 의존한다
+    private static final class Table {
+        final long[] keys;
+        final int[] values;
+        volatile int size;
+
+        Table(int capacity){
+            this.keys = new long[capacity];
+            this.values = new int[capacity];
+        }
+
+        void put(long userId, int epoch){
+            int mask = keys.length - 1;
+            for(int i = index(userId, mask); ; i = (i + 1) & mask){
+                long key = keys[i];
+                if(key == userId){
+                    if(epoch > values[i]){
+                        VALUES.setRelease(values, i, epoch);
+                    }
+                    return;
+                }
+                if(key == EMPTY){
+                    VALUES.setRelease(values, i, epoch);
+                    KEYS.setRelease(keys, i, userId);
+                    size = size + 1;
+                    return;
+                }
+            }
+        }
+
+        Table grow(){
+            Table next = new Table(keys.length * 2);
+            for(int i = 0; i < keys.length; i++){
+                if(keys[i] != EMPTY){
+                    next.put(keys[i], values[i]);
+                }
+            }
+            return next;
+        }
+    }
+}
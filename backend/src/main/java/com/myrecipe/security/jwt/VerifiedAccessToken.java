@@ -0,0 +1,20 @@
+package com.myrecipe.security.jwt;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ * 서명 검증을 마친 Access Token 정보
+ * 권한 목록까지 미리 만들어 두어 캐시 히트 시 추가 할당이 없도록 한다.
+ */
+public record VerifiedAccessToken(Long userId, String role, List<SimpleGrantedAuthority> authorities, long expiresAtMillis, int tokenEpoch) {
+
+    public static VerifiedAccessToken of(Long userId, String role, long expiresAtMillis, int tokenEpoch){
+        return new VerifiedAccessToken(userId, role, List.of(new SimpleGrantedAuthority("ROLE_" + role)), expiresAtMillis, tokenEpoch);
+    }
+
+    public boolean isExpired(long nowMillis){
+        return expiresAtMillis <= nowMillis;
+    }
+}
@@ -0,0 +1,117 @@
+package com.myrecipe.security.ratelimit;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.myrecipe.common.handler.ErrorResponseWriter;
+import com.myrecipe.common.trace.TraceIdFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * /api/auth/** 요청 제한 (JwtAuthenticationFilter 앞에서 실행)
+ * 1. IP 버킷 확인 (본문을 읽기 전, 이메일/핸들 사용 여부 확인은 전용 IP 버킷만 보고 끝)
+ * 2. 로그인/회원가입이면 JSON 본문에서 email 만 꺼내 이메일 버킷 확인 (본문은 컨트롤러가 다시 읽을 수 있게 감싼다)
+ * 한도를 넘으면 DB 조회/BCrypt 전에 429 + Retry-After 로 끝낸다.
+ * IP 는 request.getRemoteAddr() 기준이다. 프록시 뒤에서는 server.forward-headers-strategy 로 X-Forwarded-For 를 반영해야 한다 (아니면 모든 요청이 프록시 IP 하나로 묶임).
+ */
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+    private static final String AUTH_PATH_PREFIX = "/api/auth/";
+    private static final String AVAILABILITY_PATH_PREFIX = "/api/auth/availability/";
+    private static final int MAX_INSPECTED_BODY = 16 * 1024;
+
+    private final AuthRateLimiter authRateLimiter;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final JsonFactory jsonFactory;
+
+    public AuthRateLimitFilter(AuthRateLimiter authRateLimiter, ErrorResponseWriter errorResponseWriter, JsonFactory jsonFactory){
+        this.authRateLimiter = authRateLimiter;
+        this.errorResponseWriter = errorResponseWriter;
+        this.jsonFactory = jsonFactory;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request){
+        return !authRateLimiter.isEnabled() || !request.getRequestURI().startsWith(AUTH_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        // 입력 중 호출되는 사용 여부 확인이 로그인/회원가입 한도를 소모하지 않도록 버킷을 나눈다
+        if(request.getRequestURI().startsWith(AVAILABILITY_PATH_PREFIX)){
+            long wait = authRateLimiter.acquireAvailabilityByIp(request.getRemoteAddr());
+            if(wait > 0){
+                reject(request, response, wait);
+                return;
+            }
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long wait = authRateLimiter.acquireByIp(request.getRemoteAddr());
+        if(wait > 0){
+            reject(request, response, wait);
+            return;
+        }
+
+        if(!carriesEmail(request)){
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ServletInputStream body = request.getInputStream();
+        byte[] head = body.readNBytes(MAX_INSPECTED_BODY + 1);
+        // 너무 큰 본문은 검사하지 않고 그대로 넘긴다 (IP 제한은 이미 적용됨)
+        String email = head.length <= MAX_INSPECTED_BODY ? extractEmail(head) : null;
+        if(email != null){
+            wait = authRateLimiter.acquireByEmail(email);
+            if(wait > 0){
+                reject(request, response, wait);
+                return;
+            }
+        }
+        filterChain.doFilter(new ReplayableBodyRequest(request, head, body), response);
+    }
+
+    private boolean carriesEmail(HttpServletRequest request){
+        if(!"POST".equals(request.getMethod())) return false;
+        String uri = request.getRequestURI();
+        if(!uri.equals("/api/auth/login") && !uri.equals("/api/auth/signup")) return false;
+        String contentType = request.getContentType();
+        return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+
+    // 최상위 email 필드만 찾는다 (형식 오류는 컨트롤러가 400 으로 처리)
+    private String extractEmail(byte[] body){
+        try(JsonParser parser = jsonFactory.createParser(body)){
+            if(parser.nextToken() != JsonToken.START_OBJECT) return null;
+            while(parser.nextToken() == JsonToken.FIELD_NAME){
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if("email".equals(field)){
+                    return value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException | RuntimeException e){
+            return null;
+        }
+        return null;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitMicros) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitMicros + 999_999) / 1_000_000);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        errorResponseWriter.write(response, HttpStatus.TOO_MANY_REQUESTS, "ERR_AUTH_RATE_LIMITED",
+                "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", request.getRequestURI(), TraceIdFilter.traceId(request));
+    }
+}
@@ -0,0 +1,72 @@
+package com.myrecipe.security.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * /api/auth/** 요청 제한 (IP 별, 이메일 별 토큰 버킷)
+ * 이메일/핸들 사용 여부 확인은 입력 중에 자주 호출되므로 로그인/회원가입과 따로 IP 별 버킷을 둔다.
+ * acquire* 반환값: 0 = 허용, 그 외 = 다음 요청까지 기다려야 하는 시간(µs)
+ */
+@Component
+public class AuthRateLimiter {
+    @Getter
+    private final boolean enabled;
+    private final TokenBucketTable byIp;
+    private final TokenBucketTable byEmail;
+    private final TokenBucketTable availabilityByIp;
+    private final Counter ipRejections;
+    private final Counter emailRejections;
+    private final Counter availabilityRejections;
+
+    public AuthRateLimiter(@Value("${auth.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${auth.rate-limit.max-keys:65536}") int maxKeys,
+                           @Value("${auth.rate-limit.ip.capacity:20}") int ipCapacity,
+                           @Value("${auth.rate-limit.ip.refill-per-minute:30}") int ipRefillPerMinute,
+                           @Value("${auth.rate-limit.email.capacity:5}") int emailCapacity,
+                           @Value("${auth.rate-limit.email.refill-per-minute:5}") int emailRefillPerMinute,
+                           @Value("${auth.rate-limit.availability.capacity:30}") int availabilityCapacity,
+                           @Value("${auth.rate-limit.availability.refill-per-minute:60}") int availabilityRefillPerMinute,
+                           MeterRegistry meterRegistry){
+        this.enabled = enabled;
+        this.byIp = new TokenBucketTable(maxKeys, ipCapacity, ipRefillPerMinute);
+        this.byEmail = new TokenBucketTable(maxKeys, emailCapacity, emailRefillPerMinute);
+        this.availabilityByIp = new TokenBucketTable(maxKeys, availabilityCapacity, availabilityRefillPerMinute);
+        this.ipRejections = Counter.builder("auth.rate-limit.rejected").tag("key", "ip").register(meterRegistry);
+        this.emailRejections = Counter.builder("auth.rate-limit.rejected").tag("key", "email").register(meterRegistry);
+        this.availabilityRejections = Counter.builder("auth.rate-limit.rejected").tag("key", "availability").register(meterRegistry);
+        FunctionCounter.builder("auth.rate-limit.evictions", byIp, TokenBucketTable::evictionCount).tag("key", "ip").register(meterRegistry);
+        FunctionCounter.builder("auth.rate-limit.evictions", byEmail, TokenBucketTable::evictionCount).tag("key", "email").register(meterRegistry);
+        FunctionCounter.builder("auth.rate-limit.evictions", availabilityByIp, TokenBucketTable::evictionCount).tag("key", "availability").register(meterRegistry);
+    }
+
+    public long acquireByIp(String ip){
+        long wait = byIp.tryAcquire(ip, nowMicros());
+        if(wait > 0) ipRejections.increment();
+        return wait;
+    }
+
+    // 대소문자/공백만 다른 이메일은 같은 버킷
+    public long acquireByEmail(String email){
+        long wait = byEmail.tryAcquire(email.trim().toLowerCase(Locale.ROOT), nowMicros());
+        if(wait > 0) emailRejections.increment();
+        return wait;
+    }
+
+    // 이메일/핸들 사용 여부 확인 전용 (IP 별)
+    public long acquireAvailabilityByIp(String ip){
+        long wait = availabilityByIp.tryAcquire(ip, nowMicros());
+        if(wait > 0) availabilityRejections.increment();
+        return wait;
+    }
+
+    private static long nowMicros(){
+        return System.nanoTime() / 1000;
+    }
+}
@@ -0,0 +1,88 @@
+package com.myrecipe.security.ratelimit;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 필터에서 앞부분을 미리 읽은 요청 본문을 컨트롤러가 다시 읽을 수 있게 한다
+ * (미리 읽은 바이트 + 아직 읽지 않은 원래 스트림)
+ */
+final class ReplayableBodyRequest extends HttpServletRequestWrapper {
+    private final byte[] head;
+    private final InputStream rest;
+    private ServletInputStream stream;
+
+    ReplayableBodyRequest(HttpServletRequest request, byte[] head, InputStream rest){
+        super(request);
+        this.head = head;
+        this.rest = rest;
+    }
+
+    @Override
+    public ServletInputStream getInputStream(){
+        if(stream == null){
+            stream = new ReplayStream();
+        }
+        return stream;
+    }
+
+    @Override
+    public BufferedReader getReader(){
+        String encoding = getCharacterEncoding();
+        Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+
+    private final class ReplayStream extends ServletInputStream {
+        private int position;
+        private boolean finished;
+
+        @Override
+        public int read() throws IOException {
+            if(position < head.length){
+                return head[position++] & 0xFF;
+            }
+            int value = rest.read();
+            finished = value < 0;
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if(length == 0) return 0;
+            if(position < head.length){
+                int count = Math.min(length, head.length - position);
+                System.arraycopy(head, position, buffer, offset, count);
+                position += count;
+                return count;
+            }
+            int count = rest.read(buffer, offset, length);
+            finished = count < 0;
+            return count;
+        }
+
+        @Override
+        public boolean isFinished(){
+            return finished;
+        }
+
+        @Override
+        public boolean isReady(){
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener){
+            throw new UnsupportedOperationException("비동기 읽기는 지원하지 않습니다.");
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.myrecipe.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키별 토큰 버킷 (크기 고정, 잠금 없음)
+ * - 버킷 상태는 GCRA 방식의 "다음 토큰 도착 예정 시각(TAT)" long 하나로 표현한다.
+ *   허용 조건: TAT - now <= (capacity - 1) x interval, 허용하면 TAT = max(TAT, now) + interval.
+ *   토큰 수 + 마지막 보충 시각을 따로 두는 방식과 같은 동작이고, 보충량 반올림 오차가 쌓이지 않는다.
+ * - 키는 64비트 지문으로만 보관하고 (원문 IP/이메일은 남기지 않음), 4-way set associative 배열에 둔다.
+ *   set 이 가득 차면 TAT 가 가장 이른 버킷(가장 오래 안 쓴 = 가장 가득 찬 버킷)을 빼앗는다 (근사 LRU).
+ *   가득 찬 버킷은 없는 것과 같으므로 교체해도 제한이 느슨해지지 않고, 메모리는 maxKeys 로 고정된다.
+ * - 갱신은 CAS 로 하며, 교체 직후 같은 칸을 동시에 쓰는 경우의 작은 오차는 허용한다.
+ */
+public final class TokenBucketTable {
+    private static final int WAYS = 4;
+    private static final long EMPTY = 0L;
+    private static final long FULL = Long.MIN_VALUE; // 새 버킷 (토큰이 가득 찬 상태)
+
+    private final AtomicLongArray keys;
+    private final AtomicLongArray arrivals;
+    private final int setMask;
+    private final long intervalMicros;
+    private final long burstMicros;
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxKeys         보관할 최대 키 수 (2의 거듭제곱으로 올림)
+     * @param capacity        버킷 크기 (연속으로 허용하는 요청 수)
+     * @param refillPerMinute 분당 보충되는 토큰 수
+     */
+    public TokenBucketTable(int maxKeys, int capacity, int refillPerMinute){
+        if(capacity < 1 || refillPerMinute < 1){
+            throw new IllegalArgumentException("capacity / refillPerMinute 는 1 이상이어야 합니다.");
+        }
+        int slots = Integer.highestOneBit((Math.max(WAYS, maxKeys) - 1) << 1);
+        this.keys = new AtomicLongArray(slots);
+        this.arrivals = new AtomicLongArray(slots);
+        this.setMask = slots / WAYS - 1;
+        this.intervalMicros = 60_000_000L / refillPerMinute;
+        this.burstMicros = (capacity - 1) * intervalMicros;
+    }
+
+    /**
+     * 토큰 하나 사용
+     * @param nowMicros 단조 증가 시각 (System.nanoTime() / 1000)
+     * @return 0 이면 허용, 아니면 다음 토큰까지 기다려야 하는 시간(µs)
+     */
+    public long tryAcquire(String key, long nowMicros){
+        long fingerprint = fingerprint(key);
+        int slot = slotFor(fingerprint);
+        while(true){
+            long arrival = arrivals.get(slot);
+            long start = Math.max(arrival, nowMicros);
+            long wait = start - nowMicros - burstMicros;
+            if(wait > 0){
+                return wait;
+            }
+            if(arrivals.compareAndSet(slot, arrival, start + intervalMicros)){
+                return 0;
+            }
+        }
+    }
+
+    public long evictionCount(){
+        return evictions.sum();
+    }
+
+    // 같은 지문이 있는 칸, 없으면 빈 칸이나 TAT 가 가장 이른 칸을 차지한다
+    private int slotFor(long fingerprint){
+        int base = (int) (mix(fingerprint) & setMask) * WAYS;
+        while(true){
+            int victim = base;
+            long oldest = Long.MAX_VALUE;
+            for(int i = base; i < base + WAYS; i++){
+                long key = keys.get(i);
+                if(key == fingerprint){
+                    return i;
+                }
+                if(key == EMPTY){
+                    victim = i;
+                    oldest = Long.MIN_VALUE;
+                } else if(oldest != Long.MIN_VALUE){
+                    long arrival = arrivals.get(i);
+                    if(arrival < oldest){
+                        oldest = arrival;
+                        victim = i;
+                    }
+                }
+            }
+            long previous = keys.get(victim);
+            if(previous != fingerprint && keys.compareAndSet(victim, previous, fingerprint)){
+                arrivals.set(victim, FULL);
+                if(previous != EMPTY){
+                    evictions.increment();
+                }
+                return victim;
+            }
+        }
+    }
+
+    // FNV-1a 64 (0 은 빈 칸 표시라 피한다)
+    private static long fingerprint(String key){
+        long hash = 0xcbf29ce484222325L;
+        for(int i = 0; i < key.length(); i++){
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash == EMPTY ? 1 : hash;
+    }
+
+    private static long mix(long value){
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        return value;
+    }
+}
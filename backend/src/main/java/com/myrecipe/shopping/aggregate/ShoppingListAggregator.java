@@ -0,0 +1,126 @@
+package com.myrecipe.shopping.aggregate;
+
+import com.myrecipe.ingredient.quantity.Dimension;
+import com.myrecipe.ingredient.quantity.Quantities;
+
+import java.util.*;
+
+/**
+ * 장보기 목록 계산 (DB 조회 없이 메모리에서 한 번에)
+ * 1. need(): 레시피 재료 필요량을 표준 재료 키별, 차원별로 합친다.
+ * 2. stock(): 냉장고 재고를 같은 키에 더한다 (필요 없는 재료는 무시).
+ * 3. shortages(): 무게/부피는 재료 밀도로 무게로 맞춰서, 개수는 개수끼리 비교해 모자란 양을 구한다.
+ *    개수 <-> 무게/부피는 환산하지 않는다 (양파 1개가 몇 g 인지는 재료마다 제각각).
+ * 분량을 모르는 재료("약간")는 냉장고에 조금이라도 있으면 충분하다고 보고, 수량을 적지 않은 재고는 필요량을 모두 채운다고 본다.
+ * 필요량 합계가 long 범위를 넘으면 ERR_QUANTITY_TOO_LARGE, 재고 합계는 최댓값에서 멈춘다 (어떤 필요량보다도 많은 재고).
+ */
+public final class ShoppingListAggregator {
+    public static final long UNKNOWN = -1L;
+
+    private static final int COUNT = Dimension.COUNT.ordinal();
+    private static final int MASS = Dimension.MASS.ordinal();
+    private static final int VOLUME = Dimension.VOLUME.ordinal();
+
+    private final Map<String, Line> lines = new LinkedHashMap<>();
+
+    /**
+     * @param density 재료 밀도 (ml 당 마이크로 g)
+     * @param micros  필요량 (분량을 모르면 UNKNOWN)
+     */
+    public void need(String key, String name, Long ingredientId, long density, long micros, Dimension dimension, long recipeId){
+        Line line = lines.computeIfAbsent(key, k -> new Line(k, name, ingredientId, density));
+        if(micros == UNKNOWN || dimension == null){
+            line.unknownNeed = true;
+        } else {
+            line.need[dimension.ordinal()] = Quantities.addExact(line.need[dimension.ordinal()], micros);
+        }
+        line.addRecipe(recipeId);
+    }
+
+    /**
+     * @param micros 재고량 (수량을 적지 않았으면 null)
+     */
+    public void stock(String key, Long micros, Dimension dimension){
+        Line line = lines.get(key);
+        if(line == null) return;
+        line.hasStock = true;
+        if(micros == null || dimension == null){
+            line.unknownStock = true;
+        } else {
+            line.stock[dimension.ordinal()] = saturatedAdd(line.stock[dimension.ordinal()], micros);
+        }
+    }
+
+    public List<Shortage> shortages(){
+        List<Shortage> result = new ArrayList<>();
+        for(Line line : lines.values()){
+            if(line.unknownStock) continue;
+            int before = result.size();
+
+            long countShort = line.need[COUNT] - line.stock[COUNT];
+            if(line.need[COUNT] > 0 && countShort > 0){
+                result.add(line.shortage(Dimension.COUNT, countShort));
+            }
+
+            // 무게/부피는 무게 기준으로 합쳐서 비교하고, 레시피에서 주로 쓴 차원으로 돌려서 표시
+            long needVolumeAsMass = Quantities.convert(line.need[VOLUME], Dimension.VOLUME, Dimension.MASS, line.density);
+            long needMass = Quantities.addExact(line.need[MASS], needVolumeAsMass);
+            if(needMass > 0){
+                long stockMass = saturatedAdd(line.stock[MASS], Quantities.convert(line.stock[VOLUME], Dimension.VOLUME, Dimension.MASS, line.density));
+                long massShort = needMass - stockMass;
+                if(massShort > 0){
+                    result.add(line.need[MASS] >= needVolumeAsMass
+                            ? line.shortage(Dimension.MASS, massShort)
+                            : line.shortage(Dimension.VOLUME, Quantities.convert(massShort, Dimension.MASS, Dimension.VOLUME, line.density)));
+                }
+            }
+
+            if(line.unknownNeed && !line.hasStock && result.size() == before){
+                result.add(line.shortage(null, UNKNOWN));
+            }
+        }
+        return result;
+    }
+
+    // 양수끼리의 합 (넘치면 Long.MAX_VALUE)
+    private static long saturatedAdd(long a, long b){
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private static final class Line {
+        final String key;
+        final String name;
+        final Long ingredientId;
+        final long density;
+        final long[] need = new long[Dimension.values().length];
+        final long[] stock = new long[Dimension.values().length];
+        boolean unknownNeed;
+        boolean unknownStock;
+        boolean hasStock;
+
+        long[] recipeIds = new long[4];
+        int recipeCount;
+
+        Line(String key, String name, Long ingredientId, long density){
+            this.key = key;
+            this.name = name;
+            this.ingredientId = ingredientId;
+            this.density = density;
+        }
+
+        void addRecipe(long recipeId){
+            for(int i = 0; i < recipeCount; i++){
+                if(recipeIds[i] == recipeId) return;
+            }
+            if(recipeCount == recipeIds.length){
+                recipeIds = Arrays.copyOf(recipeIds, recipeCount * 2);
+            }
+            recipeIds[recipeCount++] = recipeId;
+        }
+
+        Shortage shortage(Dimension dimension, long micros){
+            return new Shortage(key, name, ingredientId, dimension, micros, Arrays.copyOf(recipeIds, recipeCount));
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.myrecipe.shopping.aggregate;
+
+import com.myrecipe.ingredient.quantity.Dimension;
+
+/**
+ * 사야 하는 재료 한 줄
+ * @param dimension 분량을 알 수 없으면 null
+ * @param micros    기준 단위 마이크로 값 (분량을 알 수 없으면 ShoppingListAggregator.UNKNOWN)
+ * @param recipeIds 이 재료가 필요한 레시피
+ */
+public record Shortage(String key, String name, Long ingredientId, Dimension dimension, long micros, long[] recipeIds) {
+}
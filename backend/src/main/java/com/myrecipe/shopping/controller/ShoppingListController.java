@@ -0,0 +1,25 @@
+package com.myrecipe.shopping.controller;
+
+import com.myrecipe.shopping.dto.ShoppingListRequest;
+import com.myrecipe.shopping.dto.ShoppingListResponse;
+import com.myrecipe.shopping.service.ShoppingListService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/shopping-list")
+public class ShoppingListController {
+    private final ShoppingListService shoppingListService;
+
+    // 고른 레시피들을 만들 때 냉장고에 없어서 사야 하는 재료 (분류별)
+    @PostMapping
+    public ShoppingListResponse createShoppingList(@AuthenticationPrincipal Long userId,
+                                                   @RequestBody ShoppingListRequest request){
+        return shoppingListService.createShoppingList(userId, request);
+    }
+}
@@ -0,0 +1,13 @@
+package com.myrecipe.shopping.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ShoppingCategoryResponse {
+    private String category;
+    private List<ShoppingItemResponse> items;
+}
@@ -0,0 +1,17 @@
+package com.myrecipe.shopping.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ShoppingItemResponse {
+    private String name;
+    private Long ingredientId;
+    private BigDecimal quantity; // 분량을 알 수 없으면 null
+    private String unit;
+    private List<Long> recipeIds;
+}
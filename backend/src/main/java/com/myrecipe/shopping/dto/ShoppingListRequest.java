@@ -0,0 +1,12 @@
+package com.myrecipe.shopping.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class ShoppingListRequest {
+    private List<ShoppingRecipeRequest> recipes; // 같은 레시피를 여러 번 넣으면 그만큼 더한다 (식단에서 반복되는 레시피)
+}
@@ -0,0 +1,11 @@
+package com.myrecipe.shopping.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ShoppingRecipeRequest {
+    private Long recipeId;
+    private Integer servings; // 비우면 레시피 기준 인분
+}
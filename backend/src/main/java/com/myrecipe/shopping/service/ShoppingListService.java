@@ -0,0 +1,110 @@
+package com.myrecipe.shopping.service;
+
+import com.myrecipe.common.exception.client.InvalidRequestException;
+import com.myrecipe.ingredient.dictionary.IngredientDictionary;
+import com.myrecipe.ingredient.quantity.Quantities;
+import com.myrecipe.ingredient.quantity.QuantityUnit;
+import com.myrecipe.recipe.dto.RecipeIngredientAmount;
+import com.myrecipe.recipe.repository.RecipeIngredientRepository;
+import com.myrecipe.refrigerator.dto.ItemResponse;
+import com.myrecipe.refrigerator.service.RefrigeratorItemService;
+import com.myrecipe.shopping.aggregate.ShoppingListAggregator;
+import com.myrecipe.shopping.aggregate.Shortage;
+import com.myrecipe.shopping.dto.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 장보기 목록
+ * 레시피 재료는 IN 쿼리 한 번, 냉장고는 읽기 캐시(없으면 한 번 조회)로 가져와서 메모리에서 합산한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ShoppingListService {
+    private static final int MAX_RECIPES = 50;
+    private static final int MAX_SERVINGS = 100;
+    private static final String OTHER_CATEGORY = "기타";
+
+    private final RecipeIngredientRepository recipeIngredientRepository;
+    private final RefrigeratorItemService refrigeratorItemService;
+    private final IngredientDictionary ingredientDictionary;
+
+    public ShoppingListResponse createShoppingList(Long userId, ShoppingListRequest request){
+        List<ShoppingRecipeRequest> recipes = request == null || request.getRecipes() == null ? List.of() : request.getRecipes();
+        if(recipes.isEmpty()){
+            throw new InvalidRequestException("레시피를 하나 이상 선택해주세요.", "ERR_SHOPPING_EMPTY");
+        }
+        if(recipes.size() > MAX_RECIPES){
+            throw new InvalidRequestException("한 번에 최대 " + MAX_RECIPES + "개 레시피까지 계산할 수 있습니다.", "ERR_SHOPPING_TOO_MANY");
+        }
+
+        // 레시피별 요청 인분 합계 (인분을 비운 요청은 레시피 기준 인분으로 나중에 채운다)
+        Map<Long, int[]> requested = new HashMap<>(); // {지정한 인분 합, 기준 인분으로 만드는 횟수}
+        for(ShoppingRecipeRequest recipe : recipes){
+            if(recipe == null || recipe.getRecipeId() == null) continue;
+            if(recipe.getServings() != null && (recipe.getServings() <= 0 || recipe.getServings() > MAX_SERVINGS)){
+                throw new InvalidRequestException("인분은 1 이상 " + MAX_SERVINGS + " 이하여야 합니다.", "ERR_SHOPPING_INVALID_SERVINGS");
+            }
+            int[] servings = requested.computeIfAbsent(recipe.getRecipeId(), id -> new int[2]);
+            if(recipe.getServings() == null){
+                servings[1]++;
+            } else {
+                servings[0] += recipe.getServings();
+            }
+        }
+
+        ShoppingListAggregator aggregator = new ShoppingListAggregator();
+        for(RecipeIngredientAmount amount : recipeIngredientRepository.findAmountsByRecipeIdIn(requested.keySet())){
+            long micros = ShoppingListAggregator.UNKNOWN;
+            if(amount.amountMicros() != null){
+                int base = amount.servings() == null || amount.servings() <= 0 ? 1 : amount.servings();
+                int[] servings = requested.get(amount.recipeId());
+                micros = Quantities.multiplyExact(amount.amountMicros(), (long) servings[0] + (long) servings[1] * base) / base;
+            }
+            aggregator.need(ingredientDictionary.canonicalKey(amount.name()), amount.name(), amount.ingredientId(),
+                    ingredientDictionary.densityOf(amount.ingredientId()), micros, amount.dimension(), amount.recipeId());
+        }
+
+        // 유통기한이 지난 재고는 없는 것으로 본다
+        LocalDate today = LocalDate.now();
+        for(ItemResponse item : refrigeratorItemService.findItem(userId)){
+            if(item.getExpirationDate() != null && item.getExpirationDate().isBefore(today)) continue;
+            aggregator.stock(ingredientDictionary.canonicalKey(item.getName()), item.getAmountMicros(), item.getDimension());
+        }
+
+        return toResponse(aggregator.shortages());
+    }
+
+    private ShoppingListResponse toResponse(List<Shortage> shortages){
+        Map<String, List<ShoppingItemResponse>> byCategory = new TreeMap<>(CATEGORY_ORDER);
+        for(Shortage shortage : shortages){
+            String category = Objects.requireNonNullElse(ingredientDictionary.categoryOf(shortage.ingredientId()), OTHER_CATEGORY);
+            byCategory.computeIfAbsent(category, c -> new ArrayList<>()).add(toItem(shortage));
+        }
+
+        List<ShoppingCategoryResponse> categories = new ArrayList<>(byCategory.size());
+        byCategory.forEach((category, items) -> {
+            items.sort(Comparator.comparing(ShoppingItemResponse::getName));
+            categories.add(new ShoppingCategoryResponse(category, items));
+        });
+        return new ShoppingListResponse(categories, shortages.size());
+    }
+
+    private static ShoppingItemResponse toItem(Shortage shortage){
+        List<Long> recipeIds = Arrays.stream(shortage.recipeIds()).boxed().toList();
+        if(shortage.dimension() == null){
+            return new ShoppingItemResponse(shortage.name(), shortage.ingredientId(), null, null, recipeIds);
+        }
+        QuantityUnit unit = QuantityUnit.displayUnit(shortage.dimension(), shortage.micros());
+        return new ShoppingItemResponse(shortage.name(), shortage.ingredientId(),
+                Quantities.toAmount(shortage.micros(), unit), unit.label(), recipeIds);
+    }
+
+    // 분류 이름 순, "기타" 는 마지막
+    private static final Comparator<String> CATEGORY_ORDER = Comparator
+            .comparing((String category) -> category.equals(OTHER_CATEGORY))
+            .thenComparing(Comparator.naturalOrder());
+}
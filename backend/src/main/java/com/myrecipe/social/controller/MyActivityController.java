@@ -0,0 +1,44 @@
+package com.myrecipe.social.controller;
+
+import com.myrecipe.social.domain.ReactionType;
+import com.myrecipe.social.dto.CommentPageResponse;
+import com.myrecipe.social.dto.MyCommentResponse;
+import com.myrecipe.social.dto.ReactionPageResponse;
+import com.myrecipe.social.service.RecipeCommentService;
+import com.myrecipe.social.service.RecipeReactionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+// 마이페이지: 내 좋아요 / 북마크 / 댓글 (모두 최신순 커서 페이지)
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/me")
+public class MyActivityController {
+    private final RecipeReactionService recipeReactionService;
+    private final RecipeCommentService recipeCommentService;
+
+    @GetMapping("/likes")
+    public ReactionPageResponse findMyLikes(@AuthenticationPrincipal Long userId,
+                                            @RequestParam(required = false) String cursor,
+                                            @RequestParam(defaultValue = "20") int size){
+        return recipeReactionService.findMyReactions(userId, ReactionType.LIKE, cursor, size);
+    }
+
+    @GetMapping("/bookmarks")
+    public ReactionPageResponse findMyBookmarks(@AuthenticationPrincipal Long userId,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(defaultValue = "20") int size){
+        return recipeReactionService.findMyReactions(userId, ReactionType.BOOKMARK, cursor, size);
+    }
+
+    @GetMapping("/comments")
+    public CommentPageResponse<MyCommentResponse> findMyComments(@AuthenticationPrincipal Long userId,
+                                                                 @RequestParam(required = false) Long cursor,
+                                                                 @RequestParam(defaultValue = "20") int size){
+        return recipeCommentService.findMyComments(userId, cursor, size);
+    }
+}
@@ -0,0 +1,42 @@
+package com.myrecipe.social.controller;
+
+import com.myrecipe.social.dto.CommentPageResponse;
+import com.myrecipe.social.dto.CommentRequest;
+import com.myrecipe.social.dto.CommentResponse;
+import com.myrecipe.social.service.RecipeCommentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/recipes/{recipeId}/comments")
+public class RecipeCommentController {
+    private final RecipeCommentService recipeCommentService;
+
+    // 최신순 (nextCursor 를 cursor 로 넘겨 다음 페이지 요청)
+    @GetMapping
+    public CommentPageResponse<CommentResponse> findComments(@PathVariable Long recipeId,
+                                                             @RequestParam(required = false) Long cursor,
+                                                             @RequestParam(defaultValue = "20") int size){
+        return recipeCommentService.findComments(recipeId, cursor, size);
+    }
+
+    @PostMapping
+    public ResponseEntity<CommentResponse> createComment(@AuthenticationPrincipal Long userId,
+                                                         @PathVariable Long recipeId,
+                                                         @RequestBody CommentRequest request){
+        CommentResponse response = recipeCommentService.createComment(userId, recipeId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @DeleteMapping("/{commentId}")
+    public ResponseEntity<Void> deleteComment(@AuthenticationPrincipal Long userId,
+                                              @PathVariable Long recipeId,
+                                              @PathVariable Long commentId){
+        recipeCommentService.deleteComment(userId, recipeId, commentId);
+        return ResponseEntity.noContent().build();
+    }
+}
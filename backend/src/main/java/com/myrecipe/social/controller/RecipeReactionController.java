@@ -0,0 +1,40 @@
+package com.myrecipe.social.controller;
+
+import com.myrecipe.social.domain.ReactionType;
+import com.myrecipe.social.service.RecipeReactionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+// PUT/DELETE 는 여러 번 호출해도 결과가 같다
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/recipes/{recipeId}")
+public class RecipeReactionController {
+    private final RecipeReactionService recipeReactionService;
+
+    @PutMapping("/like")
+    public ResponseEntity<Void> like(@AuthenticationPrincipal Long userId, @PathVariable Long recipeId){
+        recipeReactionService.add(userId, recipeId, ReactionType.LIKE);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/like")
+    public ResponseEntity<Void> unlike(@AuthenticationPrincipal Long userId, @PathVariable Long recipeId){
+        recipeReactionService.remove(userId, recipeId, ReactionType.LIKE);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PutMapping("/bookmark")
+    public ResponseEntity<Void> bookmark(@AuthenticationPrincipal Long userId, @PathVariable Long recipeId){
+        recipeReactionService.add(userId, recipeId, ReactionType.BOOKMARK);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/bookmark")
+    public ResponseEntity<Void> unbookmark(@AuthenticationPrincipal Long userId, @PathVariable Long recipeId){
+        recipeReactionService.remove(userId, recipeId, ReactionType.BOOKMARK);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.myrecipe.social.domain;
+
+// 사용자 1명당 레시피 1건만 가능한 반응 (테이블 이름은 JDBC 로 직접 쓰기 위해 보관)
+public enum ReactionType {
+    LIKE("recipe_like"),
+    BOOKMARK("recipe_bookmark");
+
+    private final String table;
+
+    ReactionType(String table){
+        this.table = table;
+    }
+
+    public String table(){
+        return table;
+    }
+}
@@ -0,0 +1,37 @@
+package com.myrecipe.social.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 레시피 북마크 (사용자당 레시피 하나에 한 행)
+ * 저장은 RecipeReactionService 가 INSERT IGNORE 로 하므로 같은 요청이 여러 번 와도 한 번만 반영된다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@IdClass(UserRecipeId.class)
+@Table(
+        name = "recipe_bookmark",
+        indexes = {
+                // 내 북마크 목록 (최근 순 키셋)
+                @Index(name = "idx_recipe_bookmark_user_created", columnList = "user_id, created_at, recipe_id"),
+                @Index(name = "idx_recipe_bookmark_recipe", columnList = "recipe_id")
+        }
+)
+public class RecipeBookmark {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "recipe_id")
+    private Long recipeId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
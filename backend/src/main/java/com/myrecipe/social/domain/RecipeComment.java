@@ -0,0 +1,48 @@
+package com.myrecipe.social.domain;
+
+import com.myrecipe.user.domain.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "recipe_comment",
+        indexes = {
+                // 레시피별 댓글 / 내 댓글 (최신순 키셋)
+                @Index(name = "idx_recipe_comment_recipe", columnList = "recipe_id, id"),
+                @Index(name = "idx_recipe_comment_user", columnList = "user_id, id")
+        }
+)
+public class RecipeComment {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recipe_id", nullable = false)
+    private Long recipeId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false, length = 500)
+    private String content;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    void onCreate(){
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public boolean isWrittenBy(Long userId){
+        return user.getId().equals(userId);
+    }
+}
@@ -0,0 +1,16 @@
+package com.myrecipe.social.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+// 좋아요/북마크 복합 키 (사용자 + 레시피)
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class UserRecipeId implements Serializable {
+    private Long userId;
+    private Long recipeId;
+}
@@ -0,0 +1,10 @@
+package com.myrecipe.social.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class CommentRequest {
+    private String content;
+}
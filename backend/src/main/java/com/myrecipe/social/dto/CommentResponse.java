@@ -0,0 +1,29 @@
+package com.myrecipe.social.dto;
+
+import com.myrecipe.social.domain.RecipeComment;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class CommentResponse {
+    private Long id;
+    private Long recipeId;
+    private Long authorId;
+    private String authorNickname;
+    private String content;
+    private LocalDateTime createdAt;
+
+    public static CommentResponse from(RecipeComment comment){
+        return new CommentResponse(
+                comment.getId(),
+                comment.getRecipeId(),
+                comment.getUser().getId(),
+                comment.getUser().getNickname(),
+                comment.getContent(),
+                comment.getCreatedAt()
+        );
+    }
+}
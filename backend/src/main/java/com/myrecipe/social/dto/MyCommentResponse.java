@@ -0,0 +1,17 @@
+package com.myrecipe.social.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 내가 쓴 댓글 (리포지토리에서 생성자 표현식으로 바로 조회)
+@Getter
+@AllArgsConstructor
+public class MyCommentResponse {
+    private Long id;
+    private Long recipeId;
+    private String recipeTitle;
+    private String content;
+    private LocalDateTime createdAt;
+}
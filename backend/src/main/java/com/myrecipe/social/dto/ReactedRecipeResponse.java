@@ -0,0 +1,16 @@
+package com.myrecipe.social.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 내가 좋아요/북마크한 레시피 (리포지토리에서 생성자 표현식으로 바로 조회)
+@Getter
+@AllArgsConstructor
+public class ReactedRecipeResponse {
+    private Long recipeId;
+    private String title;
+    private String imageUrl;
+    private LocalDateTime reactedAt;
+}
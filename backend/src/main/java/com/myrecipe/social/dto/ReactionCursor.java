@@ -0,0 +1,30 @@
+package com.myrecipe.social.dto;
+
+import com.myrecipe.common.exception.client.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 내 좋아요/북마크 키셋 커서: 마지막으로 내려준 항목의 (반응 시각, 레시피 id)
+ * 클라이언트에는 "시각|id" 를 Base64URL 로 인코딩한 문자열로 전달한다.
+ */
+public record ReactionCursor(LocalDateTime reactedAt, long recipeId) {
+
+    public String encode(){
+        String raw = reactedAt + "|" + recipeId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ReactionCursor decode(String cursor){
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new ReactionCursor(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeException | IndexOutOfBoundsException e){
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+}
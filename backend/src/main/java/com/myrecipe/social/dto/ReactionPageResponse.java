@@ -0,0 +1,14 @@
+package com.myrecipe.social.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ReactionPageResponse {
+    private List<ReactedRecipeResponse> recipes;
+    private String nextCursor; // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+}
@@ -0,0 +1,27 @@
+package com.myrecipe.social.event;
+
+/**
+ * 댓글 작성/삭제 이벤트
+ * 댓글 수 증감은 트랜잭션이 커밋된 뒤에만 카운터 버퍼에 반영해야 하므로 (롤백된 작성/삭제가 집계되지 않도록) 이벤트로 넘긴다.
+ */
+public record RecipeCommentChangedEvent(Type type, Long recipeId) {
+
+    public enum Type {
+        CREATED(1), DELETED(-1);
+
+        // 댓글 수 증감
+        private final int delta;
+
+        Type(int delta){
+            this.delta = delta;
+        }
+
+        public int delta(){
+            return delta;
+        }
+    }
+
+    public static RecipeCommentChangedEvent of(Type type, Long recipeId){
+        return new RecipeCommentChangedEvent(type, recipeId);
+    }
+}
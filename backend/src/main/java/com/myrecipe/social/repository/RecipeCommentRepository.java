@@ -0,0 +1,30 @@
+package com.myrecipe.social.repository;
+
+import com.myrecipe.social.domain.RecipeComment;
+import com.myrecipe.social.dto.MyCommentResponse;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface RecipeCommentRepository extends JpaRepository<RecipeComment, Long> {
+
+    // 레시피 댓글 최신순 키셋 페이지 (id < cursor)
+    @Query("""
+            select c from RecipeComment c join fetch c.user
+            where c.recipeId = :recipeId and c.id < :cursor
+            order by c.id desc
+            """)
+    List<RecipeComment> findPageByRecipeId(@Param("recipeId") Long recipeId, @Param("cursor") Long cursor, Limit limit);
+
+    // 내 댓글 최신순 키셋 페이지 (id < cursor)
+    @Query("""
+            select new com.myrecipe.social.dto.MyCommentResponse(c.id, c.recipeId, r.title, c.content, c.createdAt)
+            from RecipeComment c join Recipe r on r.id = c.recipeId
+            where c.user.id = :userId and c.id < :cursor
+            order by c.id desc
+            """)
+    List<MyCommentResponse> findPageByUserId(@Param("userId") Long userId, @Param("cursor") Long cursor, Limit limit);
+}
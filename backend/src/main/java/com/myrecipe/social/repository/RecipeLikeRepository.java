@@ -0,0 +1,28 @@
+package com.myrecipe.social.repository;
+
+import com.myrecipe.social.domain.RecipeLike;
+import com.myrecipe.social.domain.UserRecipeId;
+import com.myrecipe.social.dto.ReactedRecipeResponse;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RecipeLikeRepository extends JpaRepository<RecipeLike, UserRecipeId> {
+
+    // 최근 순 키셋 페이지 ((시각, 레시피 id) 가 커서보다 작은 것)
+    @Query("""
+            select new com.myrecipe.social.dto.ReactedRecipeResponse(r.id, r.title, r.imageUrl, x.createdAt)
+            from RecipeLike x join Recipe r on r.id = x.recipeId
+            where x.userId = :userId
+              and (x.createdAt < :reactedAt or (x.createdAt = :reactedAt and x.recipeId < :recipeId))
+            order by x.createdAt desc, x.recipeId desc
+            """)
+    List<ReactedRecipeResponse> findPage(@Param("userId") Long userId,
+                                         @Param("reactedAt") LocalDateTime reactedAt,
+                                         @Param("recipeId") Long recipeId,
+                                         Limit limit);
+}
@@ -0,0 +1,119 @@
+package com.myrecipe.social.service;
+
+import com.myrecipe.common.exception.client.ForbiddenException;
+import com.myrecipe.common.exception.client.InvalidRequestException;
+import com.myrecipe.common.exception.client.ResourceNotFoundException;
+import com.myrecipe.recipe.counter.RecipeCounterBuffer;
+import com.myrecipe.recipe.event.RecipeChangedEvent;
+import com.myrecipe.recipe.repository.RecipeRepository;
+import com.myrecipe.social.domain.RecipeComment;
+import com.myrecipe.social.dto.CommentPageResponse;
+import com.myrecipe.social.dto.CommentRequest;
+import com.myrecipe.social.dto.CommentResponse;
+import com.myrecipe.social.dto.MyCommentResponse;
+import com.myrecipe.social.event.RecipeCommentChangedEvent;
+import com.myrecipe.social.repository.RecipeCommentRepository;
+import com.myrecipe.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+public class RecipeCommentService {
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_CONTENT_LENGTH = 500;
+
+    private final RecipeCommentRepository recipeCommentRepository;
+    private final RecipeRepository recipeRepository;
+    private final UserRepository userRepository;
+    private final RecipeCounterBuffer recipeCounterBuffer;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MessageSource messageSource;
+
+    // 레시피 댓글 최신순 (nextCursor 를 cursor 로 넘겨 다음 페이지 요청)
+    public CommentPageResponse<CommentResponse> findComments(Long recipeId, Long cursor, int size){
+        int pageSize = pageSize(size);
+        List<CommentResponse> rows = recipeCommentRepository.findPageByRecipeId(recipeId, cursorOrMax(cursor), Limit.of(pageSize + 1))
+                .stream().map(CommentResponse::from).toList();
+        return page(rows, pageSize, CommentResponse::getId);
+    }
+
+    public CommentPageResponse<MyCommentResponse> findMyComments(Long userId, Long cursor, int size){
+        int pageSize = pageSize(size);
+        List<MyCommentResponse> rows = recipeCommentRepository.findPageByUserId(userId, cursorOrMax(cursor), Limit.of(pageSize + 1));
+        return page(rows, pageSize, MyCommentResponse::getId);
+    }
+
+    @Transactional
+    public CommentResponse createComment(Long userId, Long recipeId, CommentRequest request){
+        String content = request.getContent() == null ? "" : request.getContent().strip();
+        if(content.isEmpty()){
+            throw new InvalidRequestException("댓글 내용을 입력해주세요.", "ERR_COMMENT_CONTENT_REQUIRED");
+        }
+        if(content.length() > MAX_CONTENT_LENGTH){
+            throw new InvalidRequestException("댓글은 " + MAX_CONTENT_LENGTH + "자까지 입력할 수 있습니다.", "ERR_COMMENT_TOO_LONG");
+        }
+        if(!recipeRepository.existsById(recipeId)){
+            throw new ResourceNotFoundException(messageSource.getMessage("recipe.notfound", null, LocaleContextHolder.getLocale()), "ERR_RECIPE_NOT_FOUND");
+        }
+
+        RecipeComment comment = recipeCommentRepository.save(RecipeComment.builder()
+                .recipeId(recipeId)
+                .user(userRepository.getReferenceById(userId))
+                .content(content)
+                .build());
+        eventPublisher.publishEvent(RecipeCommentChangedEvent.of(RecipeCommentChangedEvent.Type.CREATED, recipeId));
+        return CommentResponse.from(comment);
+    }
+
+    @Transactional
+    public void deleteComment(Long userId, Long recipeId, Long commentId){
+        RecipeComment comment = recipeCommentRepository.findById(commentId)
+                .filter(found -> found.getRecipeId().equals(recipeId))
+                .orElseThrow(() -> new ResourceNotFoundException("해당 댓글을 찾을 수 없습니다.", "ERR_COMMENT_NOT_FOUND"));
+        if(!comment.isWrittenBy(userId)){
+            throw new ForbiddenException("본인이 작성한 댓글만 삭제할 수 있습니다.", "ERR_COMMENT_FORBIDDEN");
+        }
+        recipeCommentRepository.delete(comment);
+        eventPublisher.publishEvent(RecipeCommentChangedEvent.of(RecipeCommentChangedEvent.Type.DELETED, recipeId));
+    }
+
+    // 커밋된 작성/삭제만 댓글 수에 반영 (롤백되면 호출되지 않음)
+    @TransactionalEventListener
+    public void onCommentChanged(RecipeCommentChangedEvent event){
+        recipeCounterBuffer.addComment(event.recipeId(), event.type().delta());
+    }
+
+    // 삭제된 레시피의 댓글 정리
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecipeChanged(RecipeChangedEvent event){
+        if(event.type() != RecipeChangedEvent.Type.DELETED) return;
+        jdbcTemplate.update("delete from recipe_comment where recipe_id = ?", event.recipeId());
+    }
+
+    private static int pageSize(int size){
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private static Long cursorOrMax(Long cursor){
+        return cursor == null ? Long.MAX_VALUE : cursor;
+    }
+
+    private static <T> CommentPageResponse<T> page(List<T> rows, int pageSize, Function<T, Long> id){
+        boolean hasNext = rows.size() > pageSize;
+        List<T> comments = hasNext ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = hasNext ? id.apply(comments.get(comments.size() - 1)) : null;
+        return new CommentPageResponse<>(comments, nextCursor, hasNext);
+    }
+}
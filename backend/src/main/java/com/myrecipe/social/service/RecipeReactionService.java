@@ -0,0 +1,105 @@
+package com.myrecipe.social.service;
+
+import com.myrecipe.common.exception.client.ResourceNotFoundException;
+import com.myrecipe.recipe.counter.RecipeCounterBuffer;
+import com.myrecipe.recipe.event.RecipeActivityEvent;
+import com.myrecipe.recipe.event.RecipeChangedEvent;
+import com.myrecipe.recipe.repository.RecipeRepository;
+import com.myrecipe.social.domain.ReactionType;
+import com.myrecipe.social.dto.ReactedRecipeResponse;
+import com.myrecipe.social.dto.ReactionCursor;
+import com.myrecipe.social.dto.ReactionPageResponse;
+import com.myrecipe.social.repository.RecipeBookmarkRepository;
+import com.myrecipe.social.repository.RecipeLikeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 좋아요 / 북마크
+ * - 관계 행은 INSERT IGNORE / DELETE 로 바로 쓰고, 실제로 바뀐 경우(영향 행 1)에만 카운터 버퍼에 +1/-1 한다.
+ *   같은 요청이 중복으로 와도 카운트가 어긋나지 않는다.
+ * - recipe 행의 카운트 컬럼은 RecipeCounterBuffer 가 모아서 갱신하므로 여기서는 recipe 행을 잠그지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RecipeReactionService {
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final LocalDateTime MAX_REACTED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RecipeRepository recipeRepository;
+    private final RecipeLikeRepository recipeLikeRepository;
+    private final RecipeBookmarkRepository recipeBookmarkRepository;
+    private final RecipeCounterBuffer recipeCounterBuffer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MessageSource messageSource;
+
+    public void add(Long userId, Long recipeId, ReactionType type){
+        if(!recipeRepository.existsById(recipeId)){
+            throw new ResourceNotFoundException(messageSource.getMessage("recipe.notfound", null, LocaleContextHolder.getLocale()), "ERR_RECIPE_NOT_FOUND");
+        }
+        int inserted = jdbcTemplate.update(
+                "insert ignore into " + type.table() + " (user_id, recipe_id, created_at) values (?, ?, ?)",
+                userId, recipeId, LocalDateTime.now());
+        if(inserted == 0) return; // 이미 누른 상태
+
+        count(type, recipeId, 1);
+        eventPublisher.publishEvent(RecipeActivityEvent.of(
+                type == ReactionType.LIKE ? RecipeActivityEvent.Type.LIKE : RecipeActivityEvent.Type.BOOKMARK, recipeId));
+    }
+
+    public void remove(Long userId, Long recipeId, ReactionType type){
+        int deleted = jdbcTemplate.update("delete from " + type.table() + " where user_id = ? and recipe_id = ?", userId, recipeId);
+        if(deleted > 0){
+            count(type, recipeId, -1);
+        }
+    }
+
+    // 최근에 누른 순 (nextCursor 를 cursor 로 넘겨 다음 페이지 요청)
+    public ReactionPageResponse findMyReactions(Long userId, ReactionType type, String cursor, int size){
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        ReactionCursor after = cursor == null || cursor.isBlank() ? null : ReactionCursor.decode(cursor);
+        LocalDateTime reactedAt = after == null ? MAX_REACTED_AT : after.reactedAt();
+        Long recipeId = after == null ? Long.MAX_VALUE : after.recipeId();
+        Limit limit = Limit.of(pageSize + 1); // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+
+        List<ReactedRecipeResponse> rows = type == ReactionType.LIKE
+                ? recipeLikeRepository.findPage(userId, reactedAt, recipeId, limit)
+                : recipeBookmarkRepository.findPage(userId, reactedAt, recipeId, limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ReactedRecipeResponse> recipes = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if(hasNext){
+            ReactedRecipeResponse last = recipes.get(recipes.size() - 1);
+            nextCursor = new ReactionCursor(last.getReactedAt(), last.getRecipeId()).encode();
+        }
+        return new ReactionPageResponse(recipes, nextCursor, hasNext);
+    }
+
+    // 삭제된 레시피의 좋아요/북마크 정리
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecipeChanged(RecipeChangedEvent event){
+        if(event.type() != RecipeChangedEvent.Type.DELETED) return;
+        for(ReactionType type : ReactionType.values()){
+            jdbcTemplate.update("delete from " + type.table() + " where recipe_id = ?", event.recipeId());
+        }
+    }
+
+    private void count(ReactionType type, long recipeId, int delta){
+        if(type == ReactionType.LIKE){
+            recipeCounterBuffer.addLike(recipeId, delta);
+        } else {
+            recipeCounterBuffer.addBookmark(recipeId, delta);
+        }
+    }
+}
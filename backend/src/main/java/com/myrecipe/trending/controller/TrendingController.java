@@ -0,0 +1,26 @@
+package com.myrecipe.trending.controller;
+
+import com.myrecipe.trending.dto.TrendingRecipeResponse;
+import com.myrecipe.trending.service.TrendingService;
+import com.myrecipe.trending.sketch.TrendingWindow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/recipes/trending")
+public class TrendingController {
+    private final TrendingService trendingService;
+
+    // 미리 계산해 둔 목록을 그대로 반환 (DB 조회 없음)
+    @GetMapping
+    public List<TrendingRecipeResponse> findTrending(@RequestParam(defaultValue = "DAY") TrendingWindow window,
+                                                     @RequestParam(defaultValue = "10") int size){
+        return trendingService.findTrending(window, size);
+    }
+}
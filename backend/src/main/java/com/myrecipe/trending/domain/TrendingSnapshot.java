@@ -0,0 +1,42 @@
+package com.myrecipe.trending.domain;
+
+import com.myrecipe.trending.sketch.TrendingWindow;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인기 레시피 sketch 스냅샷 (구간 / 시간 칸 / 레시피별 점수)
+ * 기동 시 메모리 집계를 복원하는 용도로만 쓰며, 저장은 TrendingService 가 JDBC 배치로 통째로 교체한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "trending_snapshot",
+        indexes = @Index(name = "idx_trending_snapshot_window", columnList = "window_name, bucket_id")
+)
+public class TrendingSnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "window_name", nullable = false, length = 10)
+    private TrendingWindow trendingWindow;
+
+    // epochMillis / 칸 길이
+    @Column(name = "bucket_id", nullable = false)
+    private long bucketId;
+
+    @Column(name = "recipe_id", nullable = false)
+    private long recipeId;
+
+    @Column(name = "hit_count", nullable = false)
+    private long hitCount;
+
+    // Space-Saving 오차 상한
+    @Column(name = "error_count", nullable = false)
+    private long errorCount;
+}
@@ -0,0 +1,14 @@
+package com.myrecipe.trending.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TrendingRecipeResponse {
+    private int rank;
+    private Long recipeId;
+    private String title;
+    private String imageUrl;
+    private long score;
+}
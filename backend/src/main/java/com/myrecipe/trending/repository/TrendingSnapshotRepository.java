@@ -0,0 +1,7 @@
+package com.myrecipe.trending.repository;
+
+import com.myrecipe.trending.domain.TrendingSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TrendingSnapshotRepository extends JpaRepository<TrendingSnapshot, Long> {
+}
@@ -0,0 +1,198 @@
+package com.myrecipe.trending.service;
+
+import com.myrecipe.recipe.dto.RecipeSummaryResponse;
+import com.myrecipe.recipe.event.RecipeActivityEvent;
+import com.myrecipe.recipe.event.RecipeChangedEvent;
+import com.myrecipe.recipe.repository.RecipeRepository;
+import com.myrecipe.trending.domain.TrendingSnapshot;
+import com.myrecipe.trending.dto.TrendingRecipeResponse;
+import com.myrecipe.trending.repository.TrendingSnapshotRepository;
+import com.myrecipe.trending.sketch.SlidingTopK;
+import com.myrecipe.trending.sketch.StripedCounter;
+import com.myrecipe.trending.sketch.TrendingWindow;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 인기 레시피 집계 (1시간 / 24시간 / 7일)
+ * - 조회/좋아요/북마크 이벤트는 잠금 분할 카운터에 점수만 더한다 (요청 스레드 비용은 해시맵 갱신 한 번).
+ * - refresh 주기마다 카운터를 비워 구간별 Space-Saving sketch 에 반영하고, 순위 목록을 미리 만들어 둔다.
+ *   홈 화면 요청은 만들어 둔 목록을 읽기만 한다.
+ * - snapshot 주기마다 sketch 를 trending_snapshot 테이블에 통째로 저장하고, 기동 시 그대로 복원한다.
+ */
+@Slf4j
+@Service
+public class TrendingService {
+    private static final String DELETE_SNAPSHOT = "delete from trending_snapshot";
+    private static final String INSERT_SNAPSHOT =
+            "insert into trending_snapshot (window_name, bucket_id, recipe_id, hit_count, error_count) values (?, ?, ?, ?, ?)";
+
+    private final RecipeRepository recipeRepository;
+    private final TrendingSnapshotRepository trendingSnapshotRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int topSize;
+    private final Timer refreshTimer;
+
+    private final StripedCounter pending = new StripedCounter();
+    private final Map<TrendingWindow, SlidingTopK> windows = new EnumMap<>(TrendingWindow.class);
+    private final ReentrantLock sketchLock = new ReentrantLock();
+
+    // 순위 목록에 붙일 제목/이미지 (순위에 있는 레시피만 유지)
+    private final ConcurrentHashMap<Long, RecipeSummaryResponse> summaries = new ConcurrentHashMap<>();
+    private volatile Map<TrendingWindow, List<TrendingRecipeResponse>> rankings = emptyRankings();
+
+    public TrendingService(RecipeRepository recipeRepository,
+                           TrendingSnapshotRepository trendingSnapshotRepository,
+                           JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${trending.top-size:50}") int topSize,
+                           @Value("${trending.sketch-capacity:512}") int sketchCapacity){
+        this.recipeRepository = recipeRepository;
+        this.trendingSnapshotRepository = trendingSnapshotRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.topSize = topSize;
+        for(TrendingWindow window : TrendingWindow.values()){
+            windows.put(window, new SlidingTopK(window, sketchCapacity));
+        }
+        this.refreshTimer = Timer.builder("trending.refresh")
+                .description("인기 레시피 순위 갱신 소요 시간")
+                .register(meterRegistry);
+    }
+
+    public List<TrendingRecipeResponse> findTrending(TrendingWindow window, int size){
+        List<TrendingRecipeResponse> ranking = rankings.get(window);
+        return ranking.subList(0, Math.max(0, Math.min(size, ranking.size())));
+    }
+
+    @EventListener
+    public void onActivity(RecipeActivityEvent event){
+        pending.add(event.recipeId(), event.type().weight());
+    }
+
+    // 제목이 바뀌었거나 삭제된 레시피는 다음 갱신 때 다시 조회
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecipeChanged(RecipeChangedEvent event){
+        summaries.remove(event.recipeId());
+    }
+
+    @Scheduled(fixedDelayString = "${trending.refresh-interval:PT30S}")
+    public void refresh(){
+        refreshTimer.record(() -> {
+            long now = System.currentTimeMillis();
+            Map<Long, Long> deltas = pending.drain();
+            Map<TrendingWindow, List<long[]>> tops = new EnumMap<>(TrendingWindow.class);
+
+            sketchLock.lock();
+            try {
+                for(SlidingTopK sliding : windows.values()){
+                    if(!deltas.isEmpty()){
+                        sliding.add(now, deltas);
+                    }
+                    // 삭제된 레시피가 섞여 있을 수 있어 여유 있게 뽑는다
+                    tops.put(sliding.window(), sliding.top(now, topSize * 2));
+                }
+            } finally {
+                sketchLock.unlock();
+            }
+            rankings = toRankings(tops);
+        });
+    }
+
+    @Scheduled(initialDelayString = "${trending.snapshot-interval:PT5M}", fixedDelayString = "${trending.snapshot-interval:PT5M}")
+    public void snapshot(){
+        long now = System.currentTimeMillis();
+        List<Object[]> rows = new ArrayList<>();
+        sketchLock.lock();
+        try {
+            for(SlidingTopK sliding : windows.values()){
+                String window = sliding.window().name();
+                sliding.forEachLive(now, (bucketId, recipeId, count, error) -> rows.add(new Object[]{window, bucketId, recipeId, count, error}));
+            }
+        } finally {
+            sketchLock.unlock();
+        }
+
+        // 통째로 교체 (insert 는 rewriteBatchedStatements 로 묶여서 전송)
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_SNAPSHOT);
+            jdbcTemplate.batchUpdate(INSERT_SNAPSHOT, rows);
+        });
+        log.debug("인기 레시피 스냅샷 저장: {}건", rows.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore(){
+        List<TrendingSnapshot> rows = trendingSnapshotRepository.findAll();
+        sketchLock.lock();
+        try {
+            for(TrendingSnapshot row : rows){
+                windows.get(row.getTrendingWindow()).restore(row.getBucketId(), row.getRecipeId(), row.getHitCount(), row.getErrorCount());
+            }
+        } finally {
+            sketchLock.unlock();
+        }
+        refresh();
+        log.info("인기 레시피 스냅샷 복원 완료: {}건", rows.size());
+    }
+
+    // 종료 직전까지 쌓인 점수도 저장
+    @PreDestroy
+    public void shutdown(){
+        try {
+            refresh();
+            snapshot();
+        } catch (RuntimeException e){
+            log.warn("종료 시 인기 레시피 스냅샷 저장 실패", e);
+        }
+    }
+
+    private Map<TrendingWindow, List<TrendingRecipeResponse>> toRankings(Map<TrendingWindow, List<long[]>> tops){
+        Set<Long> ids = new HashSet<>();
+        tops.values().forEach(top -> top.forEach(entry -> ids.add(entry[0])));
+
+        List<Long> missing = ids.stream().filter(id -> !summaries.containsKey(id)).toList();
+        if(!missing.isEmpty()){
+            recipeRepository.findSummariesByIdIn(missing).forEach(summary -> summaries.put(summary.getId(), summary));
+        }
+        summaries.keySet().retainAll(ids);
+
+        Map<TrendingWindow, List<TrendingRecipeResponse>> result = new EnumMap<>(TrendingWindow.class);
+        tops.forEach((window, top) -> {
+            List<TrendingRecipeResponse> ranking = new ArrayList<>(topSize);
+            for(long[] entry : top){
+                RecipeSummaryResponse summary = summaries.get(entry[0]);
+                if(summary == null) continue; // 삭제된 레시피
+                ranking.add(new TrendingRecipeResponse(ranking.size() + 1, summary.getId(), summary.getTitle(), summary.getImageUrl(), entry[1]));
+                if(ranking.size() == topSize) break;
+            }
+            result.put(window, List.copyOf(ranking));
+        });
+        return result;
+    }
+
+    private static Map<TrendingWindow, List<TrendingRecipeResponse>> emptyRankings(){
+        Map<TrendingWindow, List<TrendingRecipeResponse>> empty = new EnumMap<>(TrendingWindow.class);
+        for(TrendingWindow window : TrendingWindow.values()){
+            empty.put(window, List.of());
+        }
+        return empty;
+    }
+}
@@ -0,0 +1,92 @@
+package com.myrecipe.trending.sketch;
+
+import java.util.*;
+
+/**
+ * 구간 하나의 시간 칸별 Space-Saving sketch 링 버퍼
+ * - 칸 번호(bucketId = epochMillis / bucketMillis) % 칸 수 자리에 저장하고, 자리 주인이 바뀌면 새 sketch 로 교체한다.
+ * - top-K 는 구간 안에 있는 칸들의 sketch 를 합산해서 구한다 (칸마다 근사값이므로 합산 결과도 근사).
+ * 스레드 안전하지 않음 (호출하는 쪽에서 잠금)
+ */
+public final class SlidingTopK {
+    private final TrendingWindow window;
+    private final int capacity;
+    private final long[] bucketIds;
+    private final SpaceSavingSketch[] sketches;
+
+    public SlidingTopK(TrendingWindow window, int capacity){
+        this.window = window;
+        this.capacity = capacity;
+        this.bucketIds = new long[window.buckets()];
+        this.sketches = new SpaceSavingSketch[window.buckets()];
+        Arrays.fill(bucketIds, -1L);
+    }
+
+    public TrendingWindow window(){
+        return window;
+    }
+
+    public void add(long epochMillis, Map<Long, Long> deltas){
+        SpaceSavingSketch sketch = bucket(window.bucketOf(epochMillis));
+        deltas.forEach(sketch::offer);
+    }
+
+    public void restore(long bucketId, long id, long count, long error){
+        bucket(bucketId).restore(id, count, error);
+    }
+
+    /**
+     * 점수 내림차순 상위 k개 (레시피 id, 점수)
+     */
+    public List<long[]> top(long epochMillis, int k){
+        Map<Long, long[]> merged = new HashMap<>();
+        long current = window.bucketOf(epochMillis);
+        for(int slot = 0; slot < sketches.length; slot++){
+            if(!isLive(slot, current)) continue;
+            sketches[slot].forEach((id, count, error) -> merged.computeIfAbsent(id, key -> new long[1])[0] += count);
+        }
+
+        PriorityQueue<long[]> heap = new PriorityQueue<>(k + 1, RANKING);
+        merged.forEach((id, score) -> {
+            heap.add(new long[]{id, score[0]});
+            if(heap.size() > k) heap.poll();
+        });
+        List<long[]> result = new ArrayList<>(heap);
+        result.sort(RANKING.reversed());
+        return result;
+    }
+
+    /**
+     * 구간 안의 칸만 (스냅샷 저장용)
+     */
+    public void forEachLive(long epochMillis, BucketEntryConsumer consumer){
+        long current = window.bucketOf(epochMillis);
+        for(int slot = 0; slot < sketches.length; slot++){
+            if(!isLive(slot, current)) continue;
+            long bucketId = bucketIds[slot];
+            sketches[slot].forEach((id, count, error) -> consumer.accept(bucketId, id, count, error));
+        }
+    }
+
+    @FunctionalInterface
+    public interface BucketEntryConsumer {
+        void accept(long bucketId, long id, long count, long error);
+    }
+
+    // 오름차순 = 낮은 순위 (점수가 같으면 최신 레시피 우선)
+    private static final Comparator<long[]> RANKING = Comparator.<long[]>comparingLong(entry -> entry[1])
+            .thenComparingLong(entry -> entry[0]);
+
+    private boolean isLive(int slot, long currentBucket){
+        return sketches[slot] != null && bucketIds[slot] > currentBucket - sketches.length && bucketIds[slot] <= currentBucket;
+    }
+
+    private SpaceSavingSketch bucket(long bucketId){
+        int slot = (int) (bucketId % sketches.length);
+        if(bucketIds[slot] != bucketId){
+            bucketIds[slot] = bucketId;
+            sketches[slot] = new SpaceSavingSketch(capacity);
+        }
+        return sketches[slot];
+    }
+}
@@ -0,0 +1,118 @@
+package com.myrecipe.trending.sketch;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Space-Saving heavy hitters (capacity 개 항목만 유지하는 근사 top-K)
+ * - 새 항목이 들어왔는데 자리가 없으면 가장 작은 항목을 밀어내고, 밀려난 값을 물려받아 시작한다 (error 에 기록).
+ * - 실제 빈도 <= count, count - error <= 실제 빈도 가 항상 성립한다.
+ * - 최솟값을 빨리 찾기 위해 count 기준 최소 힙(배열)으로 관리한다.
+ * 스레드 안전하지 않음 (호출하는 쪽에서 잠금)
+ */
+public final class SpaceSavingSketch {
+    private final int capacity;
+    private final long[] ids;
+    private final long[] counts;
+    private final long[] errors;
+    private final Map<Long, Integer> slots;
+    private int size;
+
+    public SpaceSavingSketch(int capacity){
+        this.capacity = capacity;
+        this.ids = new long[capacity];
+        this.counts = new long[capacity];
+        this.errors = new long[capacity];
+        this.slots = new HashMap<>(capacity * 2);
+    }
+
+    public void offer(long id, long increment){
+        Integer slot = slots.get(id);
+        if(slot != null){
+            counts[slot] += increment;
+            siftDown(slot);
+            return;
+        }
+        if(size < capacity){
+            insert(id, increment, 0);
+            return;
+        }
+        // 가장 작은 항목을 밀어내고 그 값을 물려받는다
+        long evicted = counts[0];
+        slots.remove(ids[0]);
+        ids[0] = id;
+        counts[0] = evicted + increment;
+        errors[0] = evicted;
+        slots.put(id, 0);
+        siftDown(0);
+    }
+
+    /**
+     * 스냅샷에서 복원 (count/error 를 그대로 넣고, 자리가 없으면 더 큰 항목만 받는다)
+     */
+    public void restore(long id, long count, long error){
+        if(slots.containsKey(id)) return;
+        if(size < capacity){
+            insert(id, count, error);
+        } else if(count > counts[0]){
+            slots.remove(ids[0]);
+            ids[0] = id;
+            counts[0] = count;
+            errors[0] = error;
+            slots.put(id, 0);
+            siftDown(0);
+        }
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public void forEach(EntryConsumer consumer){
+        for(int i = 0; i < size; i++){
+            consumer.accept(ids[i], counts[i], errors[i]);
+        }
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long id, long count, long error);
+    }
+
+    private void insert(long id, long count, long error){
+        int slot = size++;
+        ids[slot] = id;
+        counts[slot] = count;
+        errors[slot] = error;
+        slots.put(id, slot);
+        siftUp(slot);
+    }
+
+    private void siftUp(int i){
+        while(i > 0){
+            int parent = (i - 1) >>> 1;
+            if(counts[parent] <= counts[i]) break;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i){
+        while(true){
+            int left = 2 * i + 1;
+            if(left >= size) return;
+            int smallest = left + 1 < size && counts[left + 1] < counts[left] ? left + 1 : left;
+            if(counts[i] <= counts[smallest]) return;
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int a, int b){
+        long id = ids[a]; ids[a] = ids[b]; ids[b] = id;
+        long count = counts[a]; counts[a] = counts[b]; counts[b] = count;
+        long error = errors[a]; errors[a] = errors[b]; errors[b] = error;
+        slots.put(ids[a], a);
+        slots.put(ids[b], b);
+    }
+}
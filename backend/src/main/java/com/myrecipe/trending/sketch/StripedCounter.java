@@ -0,0 +1,63 @@
+package com.myrecipe.trending.sketch;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 레시피별 활동 점수 누적기 (잠금 분할)
+ * 레시피 id 로 64개 칸 중 하나만 잠그므로 서로 다른 레시피에 대한 기록은 거의 경합하지 않는다.
+ * 주기적으로 drain 해서 구간별 sketch 에 반영한다.
+ * (가상 스레드가 캐리어 스레드를 붙잡지 않도록 synchronized 대신 ReentrantLock)
+ */
+public final class StripedCounter {
+    private static final int STRIPES = 64;
+
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+    private final Map<Long, long[]>[] counters;
+
+    @SuppressWarnings("unchecked")
+    public StripedCounter(){
+        counters = new Map[STRIPES];
+        for(int i = 0; i < STRIPES; i++){
+            locks[i] = new ReentrantLock();
+            counters[i] = new HashMap<>();
+        }
+    }
+
+    public void add(long id, long delta){
+        int stripe = stripe(id);
+        ReentrantLock lock = locks[stripe];
+        lock.lock();
+        try {
+            counters[stripe].computeIfAbsent(id, key -> new long[1])[0] += delta;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 지금까지 누적된 값을 꺼내고 0부터 다시 시작
+     */
+    public Map<Long, Long> drain(){
+        Map<Long, Long> drained = new HashMap<>();
+        for(int stripe = 0; stripe < STRIPES; stripe++){
+            Map<Long, long[]> taken;
+            locks[stripe].lock();
+            try {
+                taken = counters[stripe];
+                if(taken.isEmpty()) continue;
+                counters[stripe] = new HashMap<>();
+            } finally {
+                locks[stripe].unlock();
+            }
+            taken.forEach((id, count) -> drained.put(id, count[0]));
+        }
+        return drained;
+    }
+
+    private static int stripe(long id){
+        int hash = Long.hashCode(id) * 0x9E3779B9;
+        return hash >>> 26;
+    }
+}
@@ -0,0 +1,33 @@
+package com.myrecipe.trending.sketch;
+
+import java.time.Duration;
+
+/**
+ * 인기 레시피 집계 구간
+ * 구간을 bucket 개의 시간 칸으로 나누고, 가장 오래된 칸을 버리는 방식으로 한 칸씩 밀려 간다.
+ */
+public enum TrendingWindow {
+    HOUR(Duration.ofMinutes(5), 12),
+    DAY(Duration.ofHours(1), 24),
+    WEEK(Duration.ofHours(6), 28);
+
+    private final long bucketMillis;
+    private final int buckets;
+
+    TrendingWindow(Duration bucket, int buckets){
+        this.bucketMillis = bucket.toMillis();
+        this.buckets = buckets;
+    }
+
+    public long bucketMillis(){
+        return bucketMillis;
+    }
+
+    public int buckets(){
+        return buckets;
+    }
+
+    public long bucketOf(long epochMillis){
+        return epochMillis / bucketMillis;
+    }
+}
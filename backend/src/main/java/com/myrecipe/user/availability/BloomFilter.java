@@ -0,0 +1,79 @@
+package com.myrecipe.user.availability;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * 문자열 Bloom filter (추가만 가능, 삭제 없음)
+ * - mightContain 이 false 면 확실히 없음, true 면 있을 수도 있음 (오탐률은 생성 시 지정한 값 근처).
+ * - 비트 배열은 long[] 하나, 비트 세우기는 원자적 OR 이라 잠금 없이 여러 스레드에서 추가/조회할 수 있다.
+ * - 해시 k 개는 64bit 해시 두 개의 선형 조합으로 만든다 (h1 + i * h2).
+ */
+final class BloomFilter {
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] words;
+    private final long bitCount;
+    private final int hashCount;
+
+    BloomFilter(long expectedInsertions, double falsePositiveRate){
+        long n = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) >>> 6));
+        this.words = new long[wordCount];
+        this.bitCount = (long) wordCount << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    void put(String value){
+        long hash = hash(value);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for(int i = 0; i < hashCount; i++){
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            long mask = 1L << bit;
+            int index = (int) (bit >>> 6);
+            if(((long) WORDS.getAcquire(words, index) & mask) == 0){
+                WORDS.getAndBitwiseOrRelease(words, index, mask);
+            }
+        }
+    }
+
+    boolean mightContain(String value){
+        long hash = hash(value);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for(int i = 0; i < hashCount; i++){
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if(((long) WORDS.getAcquire(words, (int) (bit >>> 6)) & (1L << bit)) == 0){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitCount(){
+        return bitCount;
+    }
+
+    int hashCount(){
+        return hashCount;
+    }
+
+    // FNV-1a 64 (UTF-16 문자 단위)
+    private static long hash(String value){
+        long hash = 0xcbf29ce484222325L;
+        for(int i = 0; i < value.length(); i++){
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // splitmix64 마무리 단계 (FNV 하위 비트 편향 보정)
+    private static long mix(long z){
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
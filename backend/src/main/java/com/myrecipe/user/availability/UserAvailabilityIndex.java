@@ -0,0 +1,153 @@
+package com.myrecipe.user.availability;
+
+import com.myrecipe.common.id.TimeOrderedIdGenerator;
+import com.myrecipe.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이메일/핸들 사용 여부 (Bloom filter 앞단 + DB 확인)
+ * - 필터에 없으면 DB 를 보지 않고 바로 "사용 가능", 있을 수도 있으면 DB 로 확인한다.
+ * - 기동 시 users 전체로 채우고, 이 인스턴스의 가입은 바로 추가, 다른 인스턴스의 가입은 sync-interval 마다 id 기준으로 따라잡는다.
+ *   그 사이에는 다른 인스턴스에서 막 가입한 값을 "사용 가능" 으로 답할 수 있지만, 가입 자체는 DB unique 제약이 막는다.
+ * - 적재가 끝나기 전에는 필터를 쓰지 않고 모두 DB 로 확인한다.
+ * - 대소문자만 다른 값은 DB(MySQL 기본 collation)에서 같은 값이므로 소문자로 맞춰서 넣는다.
+ */
+@Slf4j
+@Component
+public class UserAvailabilityIndex {
+    private static final String SELECT_USERS = "select id, email, handle from users where id > ? order by id";
+    private static final long SYNC_OVERLAP_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final long expectedUsers;
+    private final double falsePositiveRate;
+
+    private volatile Filters filters;
+    private volatile boolean ready;
+    // 필터에 반영한 가장 큰 users.id (sync 시작점)
+    private final AtomicLong lastUserId = new AtomicLong();
+
+    private final Counter emailFilterMisses;
+    private final Counter emailDbTaken;
+    private final Counter emailDbFree;
+    private final Counter handleFilterMisses;
+    private final Counter handleDbTaken;
+    private final Counter handleDbFree;
+
+    public UserAvailabilityIndex(UserRepository userRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 DataSource dataSource,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${user.availability.expected-users:1000000}") long expectedUsers,
+                                 @Value("${user.availability.false-positive-rate:0.01}") double falsePositiveRate,
+                                 @Value("${user.availability.rebuild-fetch-size:-2147483648}") int rebuildFetchSize){
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.expectedUsers = expectedUsers;
+        this.falsePositiveRate = falsePositiveRate;
+
+        // 기동 시 적재 전용 (MySQL 은 fetch size 가 Integer.MIN_VALUE 일 때 행 단위로 스트리밍)
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(rebuildFetchSize);
+
+        // result: filter = 필터만으로 사용 가능 판정, taken = DB 확인 결과 사용 중, free = DB 확인 결과 사용 가능 (필터 오탐)
+        this.emailFilterMisses = checkCounter(meterRegistry, "email", "filter");
+        this.emailDbTaken = checkCounter(meterRegistry, "email", "taken");
+        this.emailDbFree = checkCounter(meterRegistry, "email", "free");
+        this.handleFilterMisses = checkCounter(meterRegistry, "handle", "filter");
+        this.handleDbTaken = checkCounter(meterRegistry, "handle", "taken");
+        this.handleDbFree = checkCounter(meterRegistry, "handle", "free");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild(){
+        // 현재 인원의 두 배까지는 오탐률이 유지되도록 크기를 잡는다
+        long capacity = Math.max(expectedUsers, userRepository.count() * 2);
+        // 필터를 먼저 교체한 뒤 읽으므로, 적재 중에 들어온 가입은 add 또는 적재 쿼리 둘 중 하나에는 반영된다
+        Filters rebuilt = new Filters(new BloomFilter(capacity, falsePositiveRate), new BloomFilter(capacity, falsePositiveRate));
+        filters = rebuilt;
+        long loaded = load(streamingJdbcTemplate, 0);
+        ready = true;
+        log.info("이메일/핸들 Bloom filter 적재 완료: {}명 ({} bits, 해시 {}개)", loaded, rebuilt.emails().bitCount(), rebuilt.emails().hashCount());
+    }
+
+    @Scheduled(initialDelayString = "${user.availability.sync-interval:PT30S}", fixedDelayString = "${user.availability.sync-interval:PT30S}")
+    public void sync(){
+        if(!ready) return;
+        // id 는 발급 순서대로 커밋되지 않으므로 (다른 인스턴스, 긴 트랜잭션) 최근 구간은 다시 읽는다 (필터 추가는 여러 번 해도 같음)
+        long from = Math.min(lastUserId.get(), TimeOrderedIdGenerator.floorOf(System.currentTimeMillis() - SYNC_OVERLAP_MILLIS));
+        load(jdbcTemplate, from);
+    }
+
+    public boolean isEmailTaken(String email){
+        if(email == null) return false;
+        if(ready && !filters.emails().mightContain(normalize(email))){
+            emailFilterMisses.increment();
+            return false;
+        }
+        boolean taken = userRepository.existsByEmail(email);
+        (taken ? emailDbTaken : emailDbFree).increment();
+        return taken;
+    }
+
+    public boolean isHandleTaken(String handle){
+        if(handle == null) return false;
+        if(ready && !filters.handles().mightContain(normalize(handle))){
+            handleFilterMisses.increment();
+            return false;
+        }
+        boolean taken = userRepository.existsByHandle(handle);
+        (taken ? handleDbTaken : handleDbFree).increment();
+        return taken;
+    }
+
+    // 가입 직후 호출 (DB 에 저장된 뒤)
+    public void add(String email, String handle){
+        Filters current = filters;
+        if(current == null) return;
+        current.emails().put(normalize(email));
+        current.handles().put(normalize(handle));
+    }
+
+    private long load(JdbcTemplate template, long fromUserId){
+        Filters current = filters;
+        long[] loaded = {0};
+        template.query(SELECT_USERS, rs -> {
+            current.emails().put(normalize(rs.getString("email")));
+            current.handles().put(normalize(rs.getString("handle")));
+            lastUserId.accumulateAndGet(rs.getLong("id"), Math::max);
+            loaded[0]++;
+        }, fromUserId);
+        return loaded[0];
+    }
+
+    private static String normalize(String value){
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter checkCounter(MeterRegistry meterRegistry, String field, String result){
+        return Counter.builder("user.availability.checks")
+                .description("이메일/핸들 사용 여부 확인 수")
+                .tag("field", field)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Filters(BloomFilter emails, BloomFilter handles) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.myrecipe.user.domain;
 
+import com.myrecipe.common.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.cglib.core.Local;
@@ -16,11 +17,16 @@ import java.time.LocalDateTime;
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_users_email", columnNames = "email"),
                 @UniqueConstraint(name = "uk_users_handle", columnNames = "handle")
+        },
+        indexes = {
+                // 다른 인스턴스의 "모든 기기 로그아웃" 을 변경분만 읽어 가기 위한 인덱스 (TokenEpochLoader)
+                @Index(name = "idx_users_token_epoch_changed_at", columnList = "token_epoch_changed_at")
         }
 )
 public class User {
+    // 시간순 id (insert 전에 채워서 배치 가능, 인덱스 끝에만 추가됨)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @Column(nullable = false, length = 255)
@@ -52,6 +58,14 @@ public class User {
     @Column
     private LocalDateTime lastLoginAt;
 
+    // 토큰 epoch: 모든 기기 로그아웃 시 1 증가, 이보다 낮은 ep 클레임의 토큰은 거부
+    @Column(nullable = false)
+    private int tokenEpoch;
+
+    // 토큰 epoch 를 마지막으로 올린 시각 (올린 적 없으면 null)
+    @Column
+    private LocalDateTime tokenEpochChangedAt;
+
     // 엔티티 상태가 바뀔 때 자동 호출
     @PrePersist
     void onCreate(){
@@ -68,6 +82,10 @@ public class User {
         this.updatedAt = LocalDateTime.now();
     }
 
+    public void changePassword(String encodedPassword){
+        this.password = encodedPassword;
+    }
+
     public void markLoginSuccess(){
         this.lastLoginAt = LocalDateTime.now();
     }
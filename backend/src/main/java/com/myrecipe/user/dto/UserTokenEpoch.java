@@ -0,0 +1,7 @@
+package com.myrecipe.user.dto;
+
+/**
+ * 사용자별 토큰 epoch (기동/동기화 시 TokenEpochRegistry 적재용)
+ */
+public record UserTokenEpoch(Long userId, int tokenEpoch) {
+}
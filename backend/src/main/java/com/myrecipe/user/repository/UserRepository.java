@@ -1,11 +1,33 @@
 package com.myrecipe.user.repository;
 
 import com.myrecipe.user.domain.User;
+import com.myrecipe.user.dto.UserTokenEpoch;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+    boolean existsByHandle(String handle);
+
+    @Modifying
+    @Query("update User u set u.tokenEpoch = u.tokenEpoch + 1, u.tokenEpochChangedAt = :changedAt where u.id = :userId")
+    int incrementTokenEpoch(@Param("userId") Long userId, @Param("changedAt") LocalDateTime changedAt);
+
+    @Query("select u.tokenEpoch from User u where u.id = :userId")
+    Optional<Integer> findTokenEpochById(@Param("userId") Long userId);
+
+    // epoch 를 올린 적 있는 사용자만 (기동 시 TokenEpochRegistry 적재용, idx_users_token_epoch_changed_at)
+    @Query("select new com.myrecipe.user.dto.UserTokenEpoch(u.id, u.tokenEpoch) from User u where u.tokenEpochChangedAt is not null")
+    List<UserTokenEpoch> findRaisedTokenEpochs();
+
+    // since 이후 epoch 가 바뀐 사용자만 (주기 동기화용)
+    @Query("select new com.myrecipe.user.dto.UserTokenEpoch(u.id, u.tokenEpoch) from User u where u.tokenEpochChangedAt >= :since")
+    List<UserTokenEpoch> findTokenEpochsChangedSince(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,99 @@
+package com.myrecipe.common.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MpscRingBufferTest {
+
+    @Test
+    void roundsCapacityUpToPowerOfTwo(){
+        assertThat(new MpscRingBuffer<>(2).capacity()).isEqualTo(2);
+        assertThat(new MpscRingBuffer<>(1000).capacity()).isEqualTo(1024);
+        assertThat(new MpscRingBuffer<>(1024).capacity()).isEqualTo(1024);
+        assertThatThrownBy(() -> new MpscRingBuffer<>(1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsWhenFullAndAcceptsAgainAfterDrain(){
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for(int i = 0; i < 4; i++){
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drain(drained::add, 3)).isEqualTo(3);
+        assertThat(drained).containsExactly(0, 1, 2);
+
+        // 한 바퀴 돈 뒤에도 순서 유지
+        assertThat(buffer.offer(5)).isTrue();
+        assertThat(buffer.offer(6)).isTrue();
+        assertThat(buffer.offer(7)).isTrue();
+        assertThat(buffer.offer(8)).isFalse();
+        assertThat(buffer.drain(drained::add, Integer.MAX_VALUE)).isEqualTo(4);
+        assertThat(drained).containsExactly(0, 1, 2, 3, 5, 6, 7);
+        assertThat(buffer.size()).isZero();
+        assertThat(buffer.drain(drained::add, 10)).isZero();
+    }
+
+    @Test
+    void deliversEveryElementOnceInPerProducerOrderUnderContention() throws Exception {
+        int producers = 4;
+        int perProducer = 100_000;
+        MpscRingBuffer<long[]> buffer = new MpscRingBuffer<>(1024);
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        try {
+            List<Future<?>> producerTasks = new ArrayList<>();
+            for(int p = 0; p < producers; p++){
+                long producer = p;
+                producerTasks.add(executor.submit(() -> {
+                    start.await();
+                    for(long seq = 0; seq < perProducer; seq++){
+                        // 가득 차면 소비자가 비울 때까지 다시 시도 (값 유실 없이 순서만 확인, 코어가 적어도 소비자가 돌 수 있게 양보)
+                        while(!buffer.offer(new long[]{producer, seq})){
+                            Thread.yield();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            long[] nextSeq = new long[producers];
+            long[] outOfOrder = {0};
+            long received = 0;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+            start.countDown();
+            while(received < (long) producers * perProducer){
+                assertThat(System.nanoTime()).as("소비 시간 초과").isLessThan(deadline);
+                int drained = buffer.drain(element -> {
+                    int producer = (int) element[0];
+                    if(element[1] != nextSeq[producer]) outOfOrder[0]++;
+                    nextSeq[producer] = element[1] + 1;
+                }, 500);
+                if(drained == 0) Thread.yield();
+                received += drained;
+            }
+            for(Future<?> future : producerTasks){
+                future.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(outOfOrder[0]).isZero();
+            assertThat(nextSeq).containsOnly(perProducer);
+            assertThat(buffer.size()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
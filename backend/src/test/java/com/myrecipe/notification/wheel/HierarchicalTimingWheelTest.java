@@ -0,0 +1,135 @@
+package com.myrecipe.notification.wheel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+    private static final long TICK = 10;
+    // 3단계(64^3 틱)를 넘는 deadline 까지 섞어서 overflow -> 2단계 -> 1단계 -> 0단계 cascade 를 모두 거치게 한다
+    private static final long HORIZON = 600_000 * TICK;
+
+    @Test
+    void firesEveryLiveEntryOnceInItsTickAcrossCascades(){
+        SplittableRandom random = new SplittableRandom(42);
+        HierarchicalTimingWheel<Entry> wheel = new HierarchicalTimingWheel<>(TICK, 0);
+        Map<Long, Entry> live = new HashMap<>();
+        long nextId = 0;
+
+        for(; nextId < 50_000; nextId++){
+            schedule(wheel, live, new Entry(nextId, random.nextLong(1, HORIZON), 0));
+        }
+        for(long id = 0; id < nextId; id += 7){
+            assertThat(wheel.cancel(id)).isTrue();
+            live.remove(id);
+        }
+        assertThat(wheel.cancel(-1)).isFalse();
+
+        long now = 0;
+        while(now < HORIZON + TICK){
+            long previous = now;
+            now += random.nextLong(1, 40_000);
+            long lastTick = Long.MIN_VALUE;
+            List<Entry> fired = new ArrayList<>();
+            wheel.advance(now, fired::add);
+
+            for(Entry entry : fired){
+                assertThat(live.remove(entry.id)).as("취소/교체된 항목이나 중복 만료").isSameAs(entry);
+                long tick = entry.dueTick();
+                // 틱 올림 기준 deadline 이 이번 구간 안에 있어야 한다 (일찍도, 늦게도 울리지 않음)
+                assertThat(tick).isGreaterThan(previous / TICK).isLessThanOrEqualTo(now / TICK);
+                assertThat(tick).as("틱 순서").isGreaterThanOrEqualTo(lastTick);
+                lastTick = tick;
+            }
+            long earliest = live.values().stream().mapToLong(Entry::dueTick).min().orElse(Long.MAX_VALUE);
+            assertThat(earliest).as("만료됐어야 할 항목이 남음").isGreaterThan(now / TICK);
+
+            // 진행 중에도 등록/교체/취소 (휠이 돌아간 상태에서 place 위치 계산 확인, 이미 지난 deadline 포함)
+            for(int i = 0; i < 20; i++){
+                long deadline = now + random.nextLong(-5_000, HORIZON / 4);
+                schedule(wheel, live, new Entry(nextId++, deadline, now));
+            }
+            if(!live.isEmpty()){
+                long id = live.keySet().iterator().next();
+                if(random.nextBoolean()){
+                    wheel.cancel(id);
+                    live.remove(id);
+                } else {
+                    schedule(wheel, live, new Entry(id, now + random.nextLong(1, HORIZON / 8), now));
+                }
+            }
+            assertThat(wheel.size()).isEqualTo(live.size());
+        }
+
+        wheel.advance(now + HORIZON, entry -> live.remove(entry.id));
+        assertThat(live).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void firesExactlyOnTickAtLevelBoundaries(){
+        long[] deltas = {1, 63, 64, 65, 4_095, 4_096, 4_097, 262_143, 262_144, 262_145, 300_000};
+        // 휠 칸 경계에 걸친 시작 시각들 (cascade 직전/직후)
+        for(long startTick : new long[]{0, 1, 63, 64, 4_095, 4_096, 262_143, 262_144, 1_234_567}){
+            HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1, startTick);
+            for(long delta : deltas){
+                wheel.schedule(delta, startTick + delta, startTick + delta);
+            }
+            long[] firedAt = new long[1];
+            List<Long> late = new ArrayList<>();
+            for(long tick = startTick + 1; tick <= startTick + 300_000; tick++){
+                firedAt[0] = tick;
+                wheel.advance(tick, due -> {
+                    if(due != firedAt[0]) late.add(due - firedAt[0]);
+                });
+            }
+            assertThat(late).as("start=%d", startTick).isEmpty();
+            assertThat(wheel.size()).isZero();
+        }
+    }
+
+    @Test
+    void pastDeadlineFiresOnNextTick(){
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 1_000);
+        wheel.schedule(1, 500, "late");
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(1_000 + TICK - 1, fired::add);
+        assertThat(fired).isEmpty();
+        wheel.advance(1_000 + TICK, fired::add);
+        assertThat(fired).containsExactly("late");
+    }
+
+    @Test
+    void rescheduleReplacesPreviousEntry(){
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 0);
+        wheel.schedule(1, 100, "first");
+        wheel.schedule(1, 5_000_000, "second");
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(1_000, fired::add);
+        assertThat(fired).isEmpty();
+        assertThat(wheel.contains(1)).isTrue();
+        wheel.advance(5_000_000, fired::add);
+        assertThat(fired).containsExactly("second");
+        assertThat(wheel.contains(1)).isFalse();
+    }
+
+    private static void schedule(HierarchicalTimingWheel<Entry> wheel, Map<Long, Entry> live, Entry entry){
+        wheel.schedule(entry.id, entry.deadline, entry);
+        live.put(entry.id, entry);
+    }
+
+    // scheduledAt: 등록 시각 (이미 지난 deadline 은 등록 다음 틱에 만료)
+    private record Entry(long id, long deadline, long scheduledAt) {
+        long dueTick(){
+            return Math.max(Math.floorDiv(deadline + TICK - 1, TICK), scheduledAt / TICK + 1);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.myrecipe.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketTableTest {
+    private static final long SECOND = 1_000_000L;
+    // 기준 시각 (System.nanoTime() / 1000 처럼 임의의 큰 값)
+    private static final long T0 = 123_456_789_000L;
+
+    @Test
+    void allowsBurstThenReportsWaitUntilNextToken(){
+        TokenBucketTable table = new TokenBucketTable(1024, 5, 60); // 1초에 하나 보충
+
+        for(int i = 0; i < 5; i++){
+            assertThat(table.tryAcquire("1.2.3.4", T0)).isZero();
+        }
+        assertThat(table.tryAcquire("1.2.3.4", T0)).isEqualTo(SECOND);
+        assertThat(table.tryAcquire("1.2.3.4", T0 + SECOND / 4)).isEqualTo(SECOND * 3 / 4);
+
+        // 보충된 만큼만 다시 허용
+        assertThat(table.tryAcquire("1.2.3.4", T0 + SECOND)).isZero();
+        assertThat(table.tryAcquire("1.2.3.4", T0 + SECOND)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void refillNeverExceedsCapacity(){
+        TokenBucketTable table = new TokenBucketTable(1024, 3, 60);
+        for(int i = 0; i < 3; i++){
+            table.tryAcquire("a@b.c", T0);
+        }
+
+        // 한참 쉬어도 capacity 까지만 쌓인다
+        long later = T0 + 3_600 * SECOND;
+        for(int i = 0; i < 3; i++){
+            assertThat(table.tryAcquire("a@b.c", later)).isZero();
+        }
+        assertThat(table.tryAcquire("a@b.c", later)).isPositive();
+    }
+
+    @Test
+    void keysHaveIndependentBuckets(){
+        TokenBucketTable table = new TokenBucketTable(1024, 1, 1);
+        assertThat(table.tryAcquire("10.0.0.1", T0)).isZero();
+        assertThat(table.tryAcquire("10.0.0.1", T0)).isPositive();
+        assertThat(table.tryAcquire("10.0.0.2", T0)).isZero();
+        assertThat(table.evictionCount()).isZero();
+    }
+
+    @Test
+    void evictsFullestBucketFirstSoLimitedKeysStayLimited(){
+        // maxKeys 4 = set 하나 (4-way), 다섯 번째 키부터 교체가 일어난다
+        TokenBucketTable table = new TokenBucketTable(4, 2, 1);
+        table.tryAcquire("limited", T0);
+        assertThat(table.tryAcquire("limited", T0)).isZero();
+        assertThat(table.tryAcquire("limited", T0)).isPositive();
+
+        for(int i = 0; i < 20; i++){
+            assertThat(table.tryAcquire("other-" + i, T0 + i)).isZero();
+        }
+        assertThat(table.evictionCount()).isEqualTo(17);
+        // 토큰을 다 쓴 버킷은 TAT 가 가장 늦어서 교체 대상이 되지 않는다
+        assertThat(table.tryAcquire("limited", T0 + 20)).isPositive();
+    }
+
+    @Test
+    void concurrentCallersNeverExceedCapacity() throws Exception {
+        int capacity = 50;
+        TokenBucketTable table = new TokenBucketTable(1024, capacity, 1);
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> allowed = new ArrayList<>();
+            for(int t = 0; t < threads; t++){
+                allowed.add(executor.submit(() -> {
+                    start.await();
+                    int count = 0;
+                    for(int i = 0; i < 1_000; i++){
+                        if(table.tryAcquire("shared", T0) == 0) count++;
+                    }
+                    return count;
+                }));
+            }
+            start.countDown();
+            int total = 0;
+            for(Future<Integer> future : allowed){
+                total += future.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(total).isEqualTo(capacity);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectsNonPositiveSettings(){
+        assertThatThrownBy(() -> new TokenBucketTable(16, 0, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucketTable(16, 10, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,94 @@
+package com.myrecipe.user.availability;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void sizesBitsAndHashesFromExpectedInsertions(){
+        BloomFilter filter = new BloomFilter(100_000, 0.01);
+        // 이론값 m = 958,506 bit, k = 7 (long 단위 올림)
+        assertThat(filter.bitCount()).isBetween(958_506L, 958_506L + 64);
+        assertThat(filter.hashCount()).isEqualTo(7);
+
+        BloomFilter tiny = new BloomFilter(0, 0.5);
+        assertThat(tiny.bitCount()).isEqualTo(64);
+        assertThat(tiny.hashCount()).isPositive();
+    }
+
+    @Test
+    void neverReportsFalseNegativeAndKeepsFalsePositiveRateNearTarget(){
+        int n = 100_000;
+        BloomFilter filter = new BloomFilter(n, 0.01);
+        // 이메일/핸들처럼 접두사가 같고 끝만 다른 값
+        for(int i = 0; i < n; i++){
+            filter.put("user" + i + "@example.com");
+        }
+        for(int i = 0; i < n; i++){
+            assertThat(filter.mightContain("user" + i + "@example.com")).isTrue();
+        }
+
+        int probes = 200_000;
+        int falsePositives = 0;
+        for(int i = n; i < n + probes; i++){
+            if(filter.mightContain("user" + i + "@example.com")) falsePositives++;
+        }
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+    }
+
+    @Test
+    void emptyFilterContainsNothing(){
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        assertThat(filter.mightContain("")).isFalse();
+        assertThat(filter.mightContain("chef")).isFalse();
+
+        filter.put("");
+        assertThat(filter.mightContain("")).isTrue();
+    }
+
+    @Test
+    void concurrentPutsAreAllVisible() throws Exception {
+        int threads = 4;
+        int perThread = 20_000;
+        BloomFilter filter = new BloomFilter((long) threads * perThread, 0.01);
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for(int t = 0; t < threads; t++){
+                int thread = t;
+                tasks.add(executor.submit(() -> {
+                    start.await();
+                    for(int i = 0; i < perThread; i++){
+                        filter.put("handle-" + thread + "-" + i);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for(Future<?> task : tasks){
+                task.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 같은 long 에 동시에 비트를 세워도 유실되지 않아야 한다
+        for(int t = 0; t < threads; t++){
+            for(int i = 0; i < perThread; i++){
+                assertThat(filter.mightContain("handle-" + t + "-" + i)).isTrue();
+            }
+        }
+    }
+}